@@ -0,0 +1,96 @@
+package rencanakan.id.talentpool.benchmark;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import rencanakan.id.talentpool.configs.JwtAuthenticationFilter;
+import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.repository.RevokedTokenRepository;
+import rencanakan.id.talentpool.service.JwtService;
+import rencanakan.id.talentpool.service.TokenRevocations;
+import rencanakan.id.talentpool.service.TokenVersions;
+import rencanakan.id.talentpool.service.UserServiceImpl;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cost of authenticating one request with a bearer token, with and without the verified
+ * token cache, and with the principal loaded or built from the claims. The user and token
+ * version lookups are mocked so only the JWT work is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET_KEY = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    @Param({"0", "10000"})
+    private long verifiedCacheSize;
+
+    @Param({"false", "true"})
+    private boolean statelessPrincipal;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheSize", verifiedCacheSize);
+
+        User user = User.builder()
+                .id("1")
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .build();
+
+        UserServiceImpl userService = mock(UserServiceImpl.class);
+        when(userService.loadUserByUsername(user.getEmail())).thenReturn(user);
+
+        TokenVersions tokenVersions = mock(TokenVersions.class);
+        when(tokenVersions.isCurrent(user.getId(), 0)).thenReturn(true);
+
+        // A real store with some other token revoked, so the Bloom filter check is measured
+        TokenRevocations tokenRevocations = new TokenRevocations(mock(RevokedTokenRepository.class), 10_000, Duration.ofMinutes(5));
+        tokenRevocations.revoke("revoked", new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)));
+
+        filter = new JwtAuthenticationFilter(jwtService, userService, tokenVersions, tokenRevocations);
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", statelessPrincipal);
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + jwtService.generateToken(user));
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilterInternal(request, response, chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -2,8 +2,10 @@ package rencanakan.id.talentpool;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TalentPoolApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(TalentPoolApplication.class, args);
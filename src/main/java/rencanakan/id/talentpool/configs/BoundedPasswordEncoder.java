@@ -0,0 +1,170 @@
+package rencanakan.id.talentpool.configs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt on a small dedicated pool instead of the request threads, so a burst of logins
+ * or signups can't take every core from the rest of the API. When the pool and its queue
+ * are full, the request is shed with 429 rather than waiting.
+ */
+public class BoundedPasswordEncoder extends BCryptPasswordEncoder implements MeterBinder {
+
+    private static final String METRIC = "password.hashing";
+
+    private final ThreadPoolExecutor executor;
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+
+    public BoundedPasswordEncoder(int threads, int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                task -> {
+                    Thread thread = new Thread(task, "password-hashing-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> super.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> super.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    /**
+     * Encodes a batch on at most half the pool. Each lane hashes one password per task and
+     * then queues its next one behind whatever logins and signups are waiting, so a bulk
+     * import slows interactive hashing down without starving it.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        int lanes = Math.min(Math.max(1, executor.getMaximumPoolSize() / 2), rawPasswords.size());
+        Batch batch = new Batch(rawPasswords);
+        for (int lane = 0; lane < lanes; lane++) {
+            try {
+                executor.execute(batch::step);
+            } catch (RejectedExecutionException e) {
+                batch.cancel();
+                throw tooManyRequests();
+            }
+        }
+        if (lanes > 0) {
+            try {
+                await(batch.done);
+            } finally {
+                batch.cancel();
+            }
+        }
+        return Arrays.asList(batch.encoded);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeTimer = Timer.builder(METRIC).tag("operation", "encode").register(registry);
+        matchesTimer = Timer.builder(METRIC).tag("operation", "matches").register(registry);
+        new ExecutorServiceMetrics(executor, "passwordHashing", Tags.empty()).bindTo(registry);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Supplier<T> hashing, Timer timer) {
+        Future<T> result;
+        try {
+            result = executor.submit(() -> timer == null ? hashing.get() : timer.record(hashing));
+        } catch (RejectedExecutionException e) {
+            throw tooManyRequests();
+        }
+        return await(result);
+    }
+
+    private static <T> T await(Future<T> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Request interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private final class Batch {
+        private final List<? extends CharSequence> rawPasswords;
+        private final String[] encoded;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Batch(List<? extends CharSequence> rawPasswords) {
+            this.rawPasswords = rawPasswords;
+            this.encoded = new String[rawPasswords.size()];
+            this.remaining = new AtomicInteger(rawPasswords.size());
+        }
+
+        private void step() {
+            while (!done.isDone()) {
+                int i = next.getAndIncrement();
+                if (i >= encoded.length) {
+                    return;
+                }
+                try {
+                    Timer timer = encodeTimer;
+                    CharSequence rawPassword = rawPasswords.get(i);
+                    encoded[i] = timer == null ? BoundedPasswordEncoder.super.encode(rawPassword)
+                            : timer.record(() -> BoundedPasswordEncoder.super.encode(rawPassword));
+                } catch (RuntimeException e) {
+                    done.completeExceptionally(e);
+                    return;
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    done.complete(null);
+                    return;
+                }
+                try {
+                    executor.execute(this::step);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // Queue is full; keep this thread rather than fail the batch halfway
+                }
+            }
+        }
+
+        private void cancel() {
+            done.cancel(false);
+        }
+    }
+
+    private static ResponseStatusException tooManyRequests() {
+        return new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many requests, please try again shortly");
+    }
+}
@@ -1,11 +1,13 @@
 package rencanakan.id.talentpool.configs;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -13,6 +15,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import rencanakan.id.talentpool.model.User;
 import rencanakan.id.talentpool.service.JwtService;
+import rencanakan.id.talentpool.service.TokenRevocations;
+import rencanakan.id.talentpool.service.TokenVersions;
 import rencanakan.id.talentpool.service.UserServiceImpl;
 
 import java.io.IOException;
@@ -23,6 +27,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserServiceImpl userService;
+    private final TokenVersions tokenVersions;
+    private final TokenRevocations tokenRevocations;
+
+    // Builds the principal from the token's claims instead of loading the user per request
+    @Value("${security.jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
 
     private static final String JWT_HEADER = "Authorization";
     private static final String JWT_TOKEN_PREFIX = "Bearer ";
@@ -34,36 +44,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain) throws ServletException, IOException {
 
         final String authHeader = request.getHeader(JWT_HEADER);
-        final String jwtToken;
-        final String username;
 
         if (authHeader == null || !authHeader.startsWith(JWT_TOKEN_PREFIX)) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwtToken = authHeader.substring(7);
-        username = jwtService.extractUsername(jwtToken);
-        System.out.println("ini username " + username);
-
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            User userDetails = this.userService.loadUserByUsername(username);
+        // Verified once; the subject and expiry checks below reuse these claims
+        final Claims claims = jwtService.verify(authHeader.substring(JWT_TOKEN_PREFIX.length()));
+        final String username = claims.getSubject();
 
-            System.out.println("satu");
+        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && !tokenRevocations.isRevoked(claims.getId())) {
+            User userDetails = statelessPrincipal ? principalOf(claims) : loadPrincipal(claims, username);
 
-            if (jwtService.isTokenValid(jwtToken, userDetails)) {
-                System.out.println("dua");
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
                         userDetails.getAuthorities()
                 );
 
-                System.out.println("tiga");
                 authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    private User principalOf(Claims claims) {
+        User principal = jwtService.principalOf(claims);
+        if (principal == null || !tokenVersions.isCurrent(principal.getId(), principal.getTokenVersion())) {
+            return null;
+        }
+        return principal;
+    }
+
+    private User loadPrincipal(Claims claims, String username) {
+        User userDetails = this.userService.loadUserByUsername(username);
+        return jwtService.isTokenValid(claims, userDetails) ? userDetails : null;
+    }
 }
\ No newline at end of file
@@ -40,6 +40,7 @@ public class SecurityConfiguration {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/api/users/contractor/export").authenticated()
                         .requestMatchers("/api/users/contractor/**").permitAll()
                         .requestMatchers("/api/certificates/user/contractor/**").permitAll()
                         .requestMatchers("/api/experiences/user/contractor/**").permitAll()
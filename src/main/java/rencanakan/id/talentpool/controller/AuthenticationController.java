@@ -1,14 +1,17 @@
 package rencanakan.id.talentpool.controller;
 
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import org.apache.coyote.BadRequestException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import rencanakan.id.talentpool.dto.*;
 import rencanakan.id.talentpool.model.User;
 import rencanakan.id.talentpool.service.AuthenticationService;
 import rencanakan.id.talentpool.service.JwtService;
+import rencanakan.id.talentpool.service.TokenRevocations;
 
 @RestController
 @RequestMapping("/auth")
@@ -16,10 +19,13 @@ public class AuthenticationController {
 
     private final JwtService jwtService;
     private final AuthenticationService authenticationService;
+    private final TokenRevocations tokenRevocations;
 
-    public AuthenticationController(JwtService jwtService, AuthenticationService authenticationService) {
+    public AuthenticationController(JwtService jwtService, AuthenticationService authenticationService,
+                                    TokenRevocations tokenRevocations) {
         this.jwtService = jwtService;
         this.authenticationService = authenticationService;
+        this.tokenRevocations = tokenRevocations;
     }
 
     @PostMapping("/register")
@@ -28,6 +34,8 @@ public class AuthenticationController {
         try {
             registeredUser = authenticationService.signup(registerUserDto);
 
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             WebResponse<User> response = WebResponse.<User>builder()
                     .data(null)
@@ -60,6 +68,20 @@ public class AuthenticationController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<WebResponse<String>> logout(@RequestHeader("Authorization") String authorization) {
+        if (!authorization.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("Bearer token required");
+        }
+
+        Claims claims = jwtService.verify(authorization.substring("Bearer ".length()));
+        tokenRevocations.revoke(claims.getId(), claims.getExpiration());
+
+        return ResponseEntity.ok(WebResponse.<String>builder()
+                .data("Token revoked.")
+                .build());
+    }
+
     @PatchMapping("/password")
     public ResponseEntity<String> resetPassword(@RequestBody ResetPasswordDTO request) {
         authenticationService.resetPasswordWithToken(request.getToken(), request.getNewPassword());
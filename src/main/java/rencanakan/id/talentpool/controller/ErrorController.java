@@ -61,6 +61,12 @@ public class ErrorController {
                 .body(WebResponse.<String>builder().errors(ex.getMessage()).build());
     }
 
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<WebResponse<String>> handleResponseStatusException(ResponseStatusException ex) {
+        return ResponseEntity.status(ex.getStatusCode())
+                .body(WebResponse.<String>builder().errors(ex.getReason()).build());
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<WebResponse<String>> handleIlegalArgumentException(IllegalArgumentException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
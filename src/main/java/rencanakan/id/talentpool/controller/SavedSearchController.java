@@ -0,0 +1,57 @@
+package rencanakan.id.talentpool.controller;
+
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import rencanakan.id.talentpool.dto.SavedSearchMatchDTO;
+import rencanakan.id.talentpool.dto.SavedSearchRequestDTO;
+import rencanakan.id.talentpool.dto.SavedSearchResponseDTO;
+import rencanakan.id.talentpool.dto.WebResponse;
+import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.service.SavedSearchService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/saved-searches")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    public SavedSearchController(SavedSearchService savedSearchService) {
+        this.savedSearchService = savedSearchService;
+    }
+
+    @PostMapping
+    public ResponseEntity<WebResponse<SavedSearchResponseDTO>> create(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody SavedSearchRequestDTO request) {
+        SavedSearchResponseDTO res = savedSearchService.create(user.getId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(WebResponse.<SavedSearchResponseDTO>builder().data(res).build());
+    }
+
+    @GetMapping
+    public ResponseEntity<WebResponse<List<SavedSearchResponseDTO>>> getByContractorId(
+            @AuthenticationPrincipal User user) {
+        List<SavedSearchResponseDTO> res = savedSearchService.getByContractorId(user.getId());
+        return ResponseEntity.ok(WebResponse.<List<SavedSearchResponseDTO>>builder().data(res).build());
+    }
+
+    @DeleteMapping("/{savedSearchId}")
+    public ResponseEntity<WebResponse<SavedSearchResponseDTO>> deleteById(
+            @PathVariable("savedSearchId") String savedSearchId,
+            @AuthenticationPrincipal User user) {
+        SavedSearchResponseDTO res = savedSearchService.deleteById(user.getId(), savedSearchId);
+        return ResponseEntity.ok(WebResponse.<SavedSearchResponseDTO>builder().data(res).build());
+    }
+
+    @PostMapping("/matches")
+    public ResponseEntity<WebResponse<List<SavedSearchMatchDTO>>> collectMatches(
+            @AuthenticationPrincipal User user) {
+        List<SavedSearchMatchDTO> res = savedSearchService.collectMatches(user.getId());
+        return ResponseEntity.ok(WebResponse.<List<SavedSearchMatchDTO>>builder().data(res).build());
+    }
+}
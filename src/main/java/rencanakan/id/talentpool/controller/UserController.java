@@ -3,13 +3,21 @@ package rencanakan.id.talentpool.controller;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import rencanakan.id.talentpool.dto.*;
 import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.service.TalentBatchSearch;
+import rencanakan.id.talentpool.service.TalentCountMode;
+import rencanakan.id.talentpool.service.TalentExportFormat;
+import rencanakan.id.talentpool.service.TalentExportSlots;
+import rencanakan.id.talentpool.service.TalentImport;
 import rencanakan.id.talentpool.service.UserService;
 
 import java.util.List;
@@ -19,9 +27,15 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final TalentBatchSearch batchSearch;
+    private final TalentImport talentImport;
+    private final TalentExportSlots exportSlots;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, TalentBatchSearch batchSearch, TalentImport talentImport, TalentExportSlots exportSlots) {
         this.userService = userService;
+        this.batchSearch = batchSearch;
+        this.talentImport = talentImport;
+        this.exportSlots = exportSlots;
     }
 
     @GetMapping("/contractor/{id}")
@@ -102,25 +116,174 @@ public class UserController {
     }
 
     @GetMapping("/contractor")
-    public ResponseEntity<WebResponse<List<UserResponseDTO>>> getAllTalent(
+    public ResponseEntity<WebResponse<List<TalentCardDTO>>> getAllTalent(
             @RequestParam(value = "name", required = false) String name,
             @RequestParam(value = "skills", required = false) List<String> skills,
+            @RequestParam(value = "skill_match", defaultValue = "any") String skillMatch,
             @RequestParam(value = "preferred_locations", required = false) List<String> preferredLocations,
+            @RequestParam(value = "skk_levels", required = false) List<String> skkLevels,
             @RequestParam(value = "price_range", required = false) List<Double> priceRange,
+            @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy,
+            @RequestParam(value = "near", required = false) String near,
+            @RequestParam(value = "radius_km", required = false) Double radiusKm,
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "count", defaultValue = "exact") String count,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") Integer size
     ) {
-        FilterTalentDTO filter = FilterTalentDTO.builder().name(name).skills(skills).priceRange(priceRange).preferredLocations(preferredLocations).build();
+        FilterTalentDTO filter = FilterTalentDTO.builder().name(name).skills(skills).skillMatch(SkillMatch.from(skillMatch)).priceRange(priceRange).preferredLocations(preferredLocations).skkLevels(skkLevels).fuzzy(fuzzy).near(near).radiusKm(radiusKm).query(query).build();
+
+        // Cursor mode is opted into by sending "after" (empty for the first page)
+        if (after != null) {
+            UserResponseWithPagingDTO results = userService.filter(filter, after, size);
+
+            return ResponseEntity.ok(WebResponse.<List<TalentCardDTO>>builder()
+                    .data(results.getUsers())
+                    .size(results.getSize())
+                    .nextCursor(results.getNextCursor())
+                    .build());
+        }
+
         Pageable pageable = PageRequest.of(page, size);
-        UserResponseWithPagingDTO results = userService.filter(filter, pageable);
+        TalentCountMode countMode = TalentCountMode.from(count);
+        UserResponseWithPagingDTO results = countMode == TalentCountMode.EXACT
+                ? userService.filter(filter, pageable)
+                : userService.filter(filter, pageable, countMode);
 
-        WebResponse<List<UserResponseDTO>> response = WebResponse.<List<UserResponseDTO>>builder()
+        WebResponse<List<TalentCardDTO>> response = WebResponse.<List<TalentCardDTO>>builder()
                 .data(results.getUsers())
                 .page(results.getPage())
                 .size(results.getSize())
                 .totalPages(results.getTotalPages())
+                .hasNext(results.getHasNext())
+                .estimatedTotal(results.getEstimatedTotal())
                 .build();
 
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/contractor/batch")
+    public ResponseEntity<WebResponse<List<TalentBatchResultDTO>>> batchSearchTalent(
+            @Valid @RequestBody TalentBatchSearchRequestDTO request
+    ) {
+        return ResponseEntity.ok(WebResponse.<List<TalentBatchResultDTO>>builder()
+                .data(batchSearch.search(request.getQueries()))
+                .build());
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<WebResponse<TalentImportResultDTO>> importTalents(
+            @Valid @RequestBody TalentImportRequestDTO request,
+            @AuthenticationPrincipal User user
+    ) {
+        talentImport.authorize(user);
+        return ResponseEntity.ok(WebResponse.<TalentImportResultDTO>builder()
+                .data(talentImport.importTalents(request.getTalents()))
+                .build());
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<WebResponse<TalentImportResultDTO>> importTalentsCsv(@RequestBody String csv,
+                                                                              @AuthenticationPrincipal User user) {
+        talentImport.authorize(user);
+        return ResponseEntity.ok(WebResponse.<TalentImportResultDTO>builder()
+                .data(talentImport.importCsv(csv))
+                .build());
+    }
+
+    @GetMapping("/contractor/facets")
+    public ResponseEntity<WebResponse<TalentFacetsDTO>> getTalentFacets(
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "skills", required = false) List<String> skills,
+            @RequestParam(value = "skill_match", defaultValue = "any") String skillMatch,
+            @RequestParam(value = "preferred_locations", required = false) List<String> preferredLocations,
+            @RequestParam(value = "skk_levels", required = false) List<String> skkLevels,
+            @RequestParam(value = "price_range", required = false) List<Double> priceRange,
+            @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy,
+            @RequestParam(value = "near", required = false) String near,
+            @RequestParam(value = "radius_km", required = false) Double radiusKm,
+            @RequestParam(value = "price_interval", defaultValue = "500000") int priceInterval
+    ) {
+        FilterTalentDTO filter = FilterTalentDTO.builder().name(name).skills(skills).skillMatch(SkillMatch.from(skillMatch)).priceRange(priceRange).preferredLocations(preferredLocations).skkLevels(skkLevels).fuzzy(fuzzy).near(near).radiusKm(radiusKm).build();
+
+        return ResponseEntity.ok(WebResponse.<TalentFacetsDTO>builder()
+                .data(userService.facets(filter, priceInterval))
+                .build());
+    }
+
+    @GetMapping("/contractor/match")
+    public ResponseEntity<WebResponse<List<TalentMatchDTO>>> matchTalents(
+            @RequestParam(value = "skills", required = false) List<String> skills,
+            @RequestParam(value = "location", required = false) String location,
+            @RequestParam(value = "budget", required = false) Integer budget,
+            @RequestParam(value = "skk_level", required = false) String skkLevel,
+            @RequestParam(value = "min_experience_years", required = false) Integer minExperienceYears,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        TalentMatchRequestDTO request = TalentMatchRequestDTO.builder().skills(skills).location(location).budget(budget).skkLevel(skkLevel).minExperienceYears(minExperienceYears).limit(limit).build();
+
+        List<TalentMatchDTO> matches = userService.match(request);
+        return ResponseEntity.ok(WebResponse.<List<TalentMatchDTO>>builder()
+                .data(matches)
+                .size(matches.size())
+                .build());
+    }
+
+    @GetMapping("/contractor/suggest")
+    public ResponseEntity<WebResponse<List<TypeaheadSuggestionDTO>>> suggestTalents(
+            @RequestParam(value = "q", required = false) String prefix,
+            @RequestParam(defaultValue = "8") int limit
+    ) {
+        return ResponseEntity.ok(WebResponse.<List<TypeaheadSuggestionDTO>>builder()
+                .data(userService.suggest(prefix, limit))
+                .build());
+    }
+
+    @GetMapping("/contractor/nearest")
+    public ResponseEntity<WebResponse<List<TalentDistanceDTO>>> nearestTalents(
+            @RequestParam(value = "near") String near,
+            @RequestParam(value = "radius_km", required = false) Double radiusKm,
+            @RequestParam(value = "skills", required = false) List<String> skills,
+            @RequestParam(value = "skill_match", defaultValue = "any") String skillMatch,
+            @RequestParam(value = "skk_levels", required = false) List<String> skkLevels,
+            @RequestParam(value = "price_range", required = false) List<Double> priceRange,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        FilterTalentDTO filter = FilterTalentDTO.builder().skills(skills).skillMatch(SkillMatch.from(skillMatch)).priceRange(priceRange).skkLevels(skkLevels).near(near).radiusKm(radiusKm).build();
+
+        List<TalentDistanceDTO> nearest = userService.nearest(filter, limit);
+        return ResponseEntity.ok(WebResponse.<List<TalentDistanceDTO>>builder()
+                .data(nearest)
+                .size(nearest.size())
+                .build());
+    }
+
+    @GetMapping("/contractor/export")
+    public ResponseEntity<StreamingResponseBody> exportTalents(
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "skills", required = false) List<String> skills,
+            @RequestParam(value = "skill_match", defaultValue = "any") String skillMatch,
+            @RequestParam(value = "preferred_locations", required = false) List<String> preferredLocations,
+            @RequestParam(value = "skk_levels", required = false) List<String> skkLevels,
+            @RequestParam(value = "price_range", required = false) List<Double> priceRange,
+            @RequestParam(value = "near", required = false) String near,
+            @RequestParam(value = "radius_km", required = false) Double radiusKm,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format
+    ) {
+        FilterTalentDTO filter = FilterTalentDTO.builder().name(name).skills(skills).skillMatch(SkillMatch.from(skillMatch)).priceRange(priceRange).preferredLocations(preferredLocations).skkLevels(skkLevels).near(near).radiusKm(radiusKm).build();
+        TalentExportFormat exportFormat = TalentExportFormat.from(format);
+
+        exportSlots.acquire();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"talents." + exportFormat.getExtension() + "\"")
+                .body(out -> {
+                    try {
+                        userService.export(filter, exportFormat, out);
+                    } finally {
+                        exportSlots.release();
+                    }
+                });
+    }
 }
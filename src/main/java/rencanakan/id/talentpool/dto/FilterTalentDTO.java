@@ -13,5 +13,11 @@ public class FilterTalentDTO {
     String name;
     List<String> skills;
     List<String> preferredLocations;
+    List<String> skkLevels;
     List<Double> priceRange;
+    Boolean fuzzy;
+    SkillMatch skillMatch;
+    String near;
+    Double radiusKm;
+    String query;
 }
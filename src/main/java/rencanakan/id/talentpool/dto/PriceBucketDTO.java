@@ -0,0 +1,14 @@
+package rencanakan.id.talentpool.dto;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class PriceBucketDTO {
+    private long from;
+    private long to;
+    private int count;
+}
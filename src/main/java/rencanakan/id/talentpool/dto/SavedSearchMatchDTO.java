@@ -0,0 +1,17 @@
+package rencanakan.id.talentpool.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SavedSearchMatchDTO {
+    private String savedSearchId;
+    private String savedSearchName;
+    private TalentCardDTO talent;
+    private LocalDateTime matchedDate;
+}
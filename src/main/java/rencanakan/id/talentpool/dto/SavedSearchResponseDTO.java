@@ -0,0 +1,18 @@
+package rencanakan.id.talentpool.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SavedSearchResponseDTO {
+    private String id;
+    private String contractorId;
+    private String name;
+    private FilterTalentDTO filter;
+    private LocalDateTime createdDate;
+}
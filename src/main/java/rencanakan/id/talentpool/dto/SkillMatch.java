@@ -0,0 +1,15 @@
+package rencanakan.id.talentpool.dto;
+
+public enum SkillMatch {
+    ANY,
+    ALL;
+
+    public static SkillMatch from(String value) {
+        for (SkillMatch match : values()) {
+            if (match.name().equalsIgnoreCase(value)) {
+                return match;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported skill match: " + value);
+    }
+}
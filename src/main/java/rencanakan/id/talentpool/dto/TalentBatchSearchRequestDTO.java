@@ -0,0 +1,18 @@
+package rencanakan.id.talentpool.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TalentBatchSearchRequestDTO {
+    @NotEmpty(message = "At least one query is required")
+    @Size(max = 10, message = "A batch cannot exceed 10 queries")
+    private List<TalentSearchQueryDTO> queries;
+}
@@ -0,0 +1,24 @@
+package rencanakan.id.talentpool.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+public class TalentCardDTO {
+    private String id;
+    private String firstName;
+    private String lastName;
+    private String photo;
+    private String skill;
+    private String currentLocation;
+    private String skkLevel;
+    private Integer experienceYears;
+    private Integer price;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double score;
+}
@@ -0,0 +1,13 @@
+package rencanakan.id.talentpool.dto;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class TalentDistanceDTO {
+    private TalentCardDTO talent;
+    private double distanceKm;
+}
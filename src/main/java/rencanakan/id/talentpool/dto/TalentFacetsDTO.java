@@ -0,0 +1,18 @@
+package rencanakan.id.talentpool.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class TalentFacetsDTO {
+    private int total;
+    private List<FacetCountDTO> skills;
+    private List<FacetCountDTO> locations;
+    private List<FacetCountDTO> skkLevels;
+    private List<PriceBucketDTO> priceHistogram;
+}
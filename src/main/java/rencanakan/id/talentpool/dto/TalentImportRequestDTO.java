@@ -0,0 +1,16 @@
+package rencanakan.id.talentpool.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TalentImportRequestDTO {
+    @NotEmpty(message = "At least one talent is required")
+    private List<UserRequestDTO> talents;
+}
@@ -0,0 +1,16 @@
+package rencanakan.id.talentpool.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class TalentImportResultDTO {
+    private int created;
+    private int rejected;
+    private List<TalentImportRowDTO> rows;
+}
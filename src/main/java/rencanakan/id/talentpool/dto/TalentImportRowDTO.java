@@ -0,0 +1,18 @@
+package rencanakan.id.talentpool.dto;
+
+import lombok.*;
+import rencanakan.id.talentpool.enums.ImportStatus;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class TalentImportRowDTO {
+    private int row;
+    private ImportStatus status;
+    private String id;
+    private List<String> errors;
+}
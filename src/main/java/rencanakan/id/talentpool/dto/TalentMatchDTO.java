@@ -0,0 +1,16 @@
+package rencanakan.id.talentpool.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class TalentMatchDTO {
+    private TalentCardDTO talent;
+    private double score;
+    private Map<String, Double> breakdown;
+}
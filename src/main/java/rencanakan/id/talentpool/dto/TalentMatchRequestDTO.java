@@ -0,0 +1,19 @@
+package rencanakan.id.talentpool.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TalentMatchRequestDTO {
+    List<String> skills;
+    String location;
+    Integer budget;
+    String skkLevel;
+    Integer minExperienceYears;
+    int limit;
+}
@@ -0,0 +1,14 @@
+package rencanakan.id.talentpool.dto;
+
+import lombok.*;
+
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TalentSearchQueryDTO {
+    FilterTalentDTO filter;
+    Integer page;
+    Integer size;
+}
@@ -0,0 +1,14 @@
+package rencanakan.id.talentpool.dto;
+
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class TypeaheadSuggestionDTO {
+    private String value;
+    private String type;
+    private int count;
+}
@@ -9,9 +9,12 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 public class UserResponseWithPagingDTO {
-    private List<UserResponseDTO> users;
+    private List<TalentCardDTO> users;
     private int page;
     private int size;
     private int totalPages;
+    private String nextCursor;
+    private Boolean hasNext;
+    private Long estimatedTotal;
 
 }
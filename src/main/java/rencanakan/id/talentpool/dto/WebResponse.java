@@ -1,5 +1,6 @@
 package rencanakan.id.talentpool.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 @Getter
@@ -14,4 +15,13 @@ public class WebResponse <T> {
     private int size;
     private int totalPages;
     private String errors;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasNext;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long estimatedTotal;
 }
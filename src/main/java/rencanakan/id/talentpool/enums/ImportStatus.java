@@ -0,0 +1,6 @@
+package rencanakan.id.talentpool.enums;
+
+public enum ImportStatus {
+    CREATED,
+    REJECTED
+}
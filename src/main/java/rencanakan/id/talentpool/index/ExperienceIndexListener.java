@@ -0,0 +1,51 @@
+package rencanakan.id.talentpool.index;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import rencanakan.id.talentpool.model.Experience;
+
+/**
+ * Keeps experience titles in {@link TalentTextIndex} in sync once the surrounding
+ * transaction commits, like {@link TalentIndexListener} does for talents.
+ */
+public class ExperienceIndexListener {
+
+    private final ObjectProvider<TalentTextIndex> textIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ExperienceIndexListener(ObjectProvider<TalentTextIndex> textIndex, ApplicationEventPublisher eventPublisher) {
+        this.textIndex = textIndex;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Experience experience) {
+        if (experience.getUser() == null) {
+            return;
+        }
+
+        ExperienceTitle title = new ExperienceTitle(experience.getUser().getId(), experience.getId(), experience.getTitle());
+        TalentIndexListener.afterCommit(() -> {
+            textIndex.ifAvailable(index -> index.putExperience(title));
+            eventPublisher.publishEvent(new TalentTextChangedEvent(title.talentId()));
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Experience experience) {
+        if (experience.getUser() == null) {
+            return;
+        }
+
+        String talentId = experience.getUser().getId();
+        Long experienceId = experience.getId();
+        TalentIndexListener.afterCommit(() -> {
+            textIndex.ifAvailable(index -> index.removeExperience(talentId, experienceId));
+            eventPublisher.publishEvent(new TalentTextChangedEvent(talentId));
+        });
+    }
+}
@@ -0,0 +1,4 @@
+package rencanakan.id.talentpool.index;
+
+public record ExperienceTitle(String talentId, Long experienceId, String title) {
+}
@@ -0,0 +1,40 @@
+package rencanakan.id.talentpool.index;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public record GeoPoint(double latitude, double longitude) {
+
+    static final double KM_PER_DEGREE = 111.195;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final Pattern COORDINATES = Pattern.compile("\\s*(-?\\d+(?:\\.\\d+)?)\\s*,\\s*(-?\\d+(?:\\.\\d+)?)\\s*");
+
+    public GeoPoint {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordinates out of range: " + latitude + "," + longitude);
+        }
+    }
+
+    /**
+     * Parses "latitude,longitude", returning {@code null} for anything else.
+     */
+    public static GeoPoint parse(String value) {
+        Matcher matcher = value == null ? null : COORDINATES.matcher(value);
+        if (matcher == null || !matcher.matches()) {
+            return null;
+        }
+        return new GeoPoint(Double.parseDouble(matcher.group(1)), Double.parseDouble(matcher.group(2)));
+    }
+
+    /**
+     * Great-circle distance in kilometres.
+     */
+    public double distanceKm(GeoPoint other) {
+        double dLat = Math.toRadians(other.latitude - latitude);
+        double dLon = Math.toRadians(other.longitude - longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,29 @@
+package rencanakan.id.talentpool.index;
+
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+
+import java.util.Objects;
+
+/**
+ * The "within {@code radiusKm} of {@code near}" part of a talent filter.
+ */
+public record GeoRadius(GeoPoint center, double radiusKm) {
+
+    /**
+     * Returns the radius constraint of the filter, or {@code null} unless both a centre
+     * and a radius are given.
+     */
+    public static GeoRadius of(FilterTalentDTO filter) {
+        if (Objects.isNull(filter.getNear()) || filter.getNear().trim().isEmpty() || Objects.isNull(filter.getRadiusKm())) {
+            return null;
+        }
+        if (!(filter.getRadiusKm() > 0)) {
+            throw new IllegalArgumentException("Radius must be positive");
+        }
+        return new GeoRadius(RegionHierarchy.indonesia().pointOf(filter.getNear()), filter.getRadiusKm());
+    }
+
+    public boolean contains(GeoPoint point) {
+        return point != null && center.distanceKm(point) <= radiusKm;
+    }
+}
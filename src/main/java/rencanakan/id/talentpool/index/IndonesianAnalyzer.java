@@ -0,0 +1,110 @@
+package rencanakan.id.talentpool.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns free text into search terms: lower-cased, split on anything that isn't a letter
+ * or digit, stripped of Indonesian stop words and reduced to a stem with a light,
+ * dictionary-free affix stripper in the style of Tala's stemmer. Stems are not always
+ * the true root ("perencanaan" becomes "encana"), but text and queries are analyzed the
+ * same way so they still meet.
+ */
+public final class IndonesianAnalyzer {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int MIN_STEM_LENGTH = 4;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "ada", "adalah", "agar", "akan", "aku", "anda", "antara", "apa", "atau", "bagi", "bahwa",
+            "banyak", "belum", "beberapa", "bisa", "dalam", "dan", "dari", "dengan", "di", "dia", "hal",
+            "hanya", "harus", "ini", "itu", "jika", "juga", "kami", "kamu", "karena", "ke", "kepada",
+            "kita", "lain", "lebih", "maka", "masih", "mereka", "namun", "oleh", "pada", "para", "saat",
+            "saya", "sangat", "sebagai", "sejak", "selama", "serta", "sudah", "telah", "tentang",
+            "tersebut", "untuk", "yaitu", "yang");
+
+    private static final String[] PARTICLES = {"lah", "kah", "tah", "pun"};
+    private static final String[] POSSESSIVES = {"nya", "ku", "mu"};
+    private static final String[] FIRST_ORDER_PREFIXES = {"meng", "meny", "men", "mem", "me", "peng", "peny", "pen", "pem", "di", "ter"};
+    private static final String[] SECOND_ORDER_PREFIXES = {"ber", "be", "per", "pe"};
+    private static final String[] SUFFIXES = {"kan", "an"};
+
+    private IndonesianAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String token : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                terms.add(stem(token));
+            }
+        }
+        return terms;
+    }
+
+    static String stem(String word) {
+        if (word.length() <= MIN_STEM_LENGTH || !word.chars().allMatch(Character::isLetter)) {
+            return word;
+        }
+
+        String stem = stripSuffix(word, PARTICLES);
+        stem = stripSuffix(stem, POSSESSIVES);
+
+        String stripped = stripFirstOrderPrefix(stem);
+        if (stripped.equals(stem)) {
+            // ber- and per- can stand in front of another prefix: berpengalaman
+            stripped = stripPrefix(stem, SECOND_ORDER_PREFIXES);
+            if (!stripped.equals(stem)) {
+                stripped = stripFirstOrderPrefix(stripped);
+            }
+        } else {
+            stripped = stripPrefix(stripped, SECOND_ORDER_PREFIXES);
+        }
+        return stripSuffix(stripped, SUFFIXES);
+    }
+
+    private static String stripFirstOrderPrefix(String word) {
+        for (String prefix : FIRST_ORDER_PREFIXES) {
+            if (word.startsWith(prefix) && word.length() - prefix.length() >= MIN_STEM_LENGTH) {
+                String rest = word.substring(prefix.length());
+                // The nasal swallows the root's first consonant: menyusun, memasang, menulis
+                return switch (prefix) {
+                    case "meny", "peny" -> "s" + rest;
+                    case "mem", "pem" -> isVowel(rest.charAt(0)) ? "p" + rest : rest;
+                    case "men", "pen" -> isVowel(rest.charAt(0)) ? "t" + rest : rest;
+                    default -> rest;
+                };
+            }
+        }
+        return word;
+    }
+
+    private static String stripPrefix(String word, String[] prefixes) {
+        for (String prefix : prefixes) {
+            if (word.startsWith(prefix) && word.length() - prefix.length() >= MIN_STEM_LENGTH) {
+                return word.substring(prefix.length());
+            }
+        }
+        return word;
+    }
+
+    private static String stripSuffix(String word, String[] suffixes) {
+        for (String suffix : suffixes) {
+            if (word.endsWith(suffix) && word.length() - suffix.length() >= MIN_STEM_LENGTH) {
+                return word.substring(0, word.length() - suffix.length());
+            }
+        }
+        return word;
+    }
+
+    private static boolean isVowel(char c) {
+        return "aeiou".indexOf(c) >= 0;
+    }
+}
@@ -0,0 +1,120 @@
+package rencanakan.id.talentpool.index;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weighted relevance of one talent against a matching request. Only the criteria present
+ * in the request take part, and the score is normalized to the 0..1 range.
+ */
+class MatchScorer {
+
+    static final double SKILL_WEIGHT = 0.4;
+    static final double LOCATION_WEIGHT = 0.2;
+    static final double BUDGET_WEIGHT = 0.15;
+    static final double EXPERIENCE_WEIGHT = 0.15;
+    static final double SKK_LEVEL_WEIGHT = 0.1;
+
+    private final List<TalentDocument> documents;
+    private final List<BitSet> skillMatches;
+    private final BitSet locationMatches;
+    private final BitSet skkLevelMatches;
+    private final Integer budget;
+    private final Integer minExperienceYears;
+    private final double totalWeight;
+
+    MatchScorer(List<TalentDocument> documents, List<BitSet> skillMatches, BitSet locationMatches, BitSet skkLevelMatches,
+                Integer budget, Integer minExperienceYears) {
+        this.documents = documents;
+        this.skillMatches = skillMatches;
+        this.locationMatches = locationMatches;
+        this.skkLevelMatches = skkLevelMatches;
+        this.budget = budget;
+        this.minExperienceYears = minExperienceYears;
+        this.totalWeight = (skillMatches != null ? SKILL_WEIGHT : 0)
+                + (locationMatches != null ? LOCATION_WEIGHT : 0)
+                + (budget != null ? BUDGET_WEIGHT : 0)
+                + (minExperienceYears != null ? EXPERIENCE_WEIGHT : 0)
+                + (skkLevelMatches != null ? SKK_LEVEL_WEIGHT : 0);
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("At least one matching criterion is required");
+        }
+    }
+
+    double score(int ordinal) {
+        double score = 0;
+        if (skillMatches != null) {
+            score += SKILL_WEIGHT * skillFit(ordinal);
+        }
+        if (locationMatches != null && locationMatches.get(ordinal)) {
+            score += LOCATION_WEIGHT;
+        }
+        if (budget != null) {
+            score += BUDGET_WEIGHT * budgetFit(documents.get(ordinal).price());
+        }
+        if (minExperienceYears != null) {
+            score += EXPERIENCE_WEIGHT * experienceFit(documents.get(ordinal).experienceYears());
+        }
+        if (skkLevelMatches != null && skkLevelMatches.get(ordinal)) {
+            score += SKK_LEVEL_WEIGHT;
+        }
+        return score / totalWeight;
+    }
+
+    Map<String, Double> breakdown(int ordinal) {
+        Map<String, Double> breakdown = new LinkedHashMap<>();
+        if (skillMatches != null) {
+            breakdown.put("skill", SKILL_WEIGHT * skillFit(ordinal) / totalWeight);
+        }
+        if (locationMatches != null) {
+            breakdown.put("location", (locationMatches.get(ordinal) ? LOCATION_WEIGHT : 0) / totalWeight);
+        }
+        if (budget != null) {
+            breakdown.put("budget", BUDGET_WEIGHT * budgetFit(documents.get(ordinal).price()) / totalWeight);
+        }
+        if (minExperienceYears != null) {
+            breakdown.put("experience", EXPERIENCE_WEIGHT * experienceFit(documents.get(ordinal).experienceYears()) / totalWeight);
+        }
+        if (skkLevelMatches != null) {
+            breakdown.put("skkLevel", (skkLevelMatches.get(ordinal) ? SKK_LEVEL_WEIGHT : 0) / totalWeight);
+        }
+        return breakdown;
+    }
+
+    // Share of the requested skills the talent has
+    private double skillFit(int ordinal) {
+        if (skillMatches.isEmpty()) {
+            return 0;
+        }
+        int matched = 0;
+        for (BitSet skill : skillMatches) {
+            if (skill.get(ordinal)) {
+                matched++;
+            }
+        }
+        return matched / (double) skillMatches.size();
+    }
+
+    // Within budget is a full fit; above it the fit drops linearly to zero at twice the budget
+    private double budgetFit(Integer price) {
+        if (price == null) {
+            return 0;
+        }
+        if (price <= budget) {
+            return 1;
+        }
+        return budget <= 0 ? 0 : Math.max(0, 1 - (price - budget) / (double) budget);
+    }
+
+    private double experienceFit(Integer experienceYears) {
+        if (experienceYears == null) {
+            return 0;
+        }
+        if (minExperienceYears <= 0 || experienceYears >= minExperienceYears) {
+            return 1;
+        }
+        return experienceYears / (double) minExperienceYears;
+    }
+}
@@ -0,0 +1,4 @@
+package rencanakan.id.talentpool.index;
+
+public record NearbyTalent(TalentDocument talent, double distanceKm) {
+}
@@ -0,0 +1,7 @@
+package rencanakan.id.talentpool.index;
+
+/**
+ * A gazetteer entry of the {@link RegionHierarchy} with its coordinates.
+ */
+public record Place(String id, String name, GeoPoint point) {
+}
@@ -0,0 +1,71 @@
+package rencanakan.id.talentpool.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Static 2-d tree over gazetteer places, stored implicitly in one array: the node of a
+ * range sits at its midpoint and splits on latitude and longitude alternately.
+ */
+final class PlaceTree {
+
+    private static final Comparator<Place> BY_LATITUDE = Comparator.comparingDouble(place -> place.point().latitude());
+    private static final Comparator<Place> BY_LONGITUDE = Comparator.comparingDouble(place -> place.point().longitude());
+
+    private final Place[] nodes;
+
+    PlaceTree(List<Place> places) {
+        nodes = places.toArray(new Place[0]);
+        build(0, nodes.length, 0);
+    }
+
+    private void build(int from, int to, int depth) {
+        if (to - from < 2) {
+            return;
+        }
+        Arrays.sort(nodes, from, to, depth % 2 == 0 ? BY_LATITUDE : BY_LONGITUDE);
+        int mid = (from + to) >>> 1;
+        build(from, mid, depth + 1);
+        build(mid + 1, to, depth + 1);
+    }
+
+    List<Place> within(GeoPoint center, double radiusKm) {
+        // Bounding box first, widened for the longitude shrinking away from the equator
+        double latitudeSpan = radiusKm / GeoPoint.KM_PER_DEGREE;
+        double widestLatitude = Math.min(89.0, Math.abs(center.latitude()) + latitudeSpan);
+        double longitudeSpan = radiusKm / (GeoPoint.KM_PER_DEGREE * Math.cos(Math.toRadians(widestLatitude)));
+
+        double[] low = {center.latitude() - latitudeSpan, center.longitude() - longitudeSpan};
+        double[] high = {center.latitude() + latitudeSpan, center.longitude() + longitudeSpan};
+
+        List<Place> found = new ArrayList<>();
+        search(0, nodes.length, 0, low, high, center, radiusKm, found);
+        return found;
+    }
+
+    private void search(int from, int to, int depth, double[] low, double[] high, GeoPoint center, double radiusKm, List<Place> found) {
+        if (from >= to) {
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        Place place = nodes[mid];
+        double latitude = place.point().latitude();
+        double longitude = place.point().longitude();
+        if (latitude >= low[0] && latitude <= high[0] && longitude >= low[1] && longitude <= high[1]
+                && center.distanceKm(place.point()) <= radiusKm) {
+            found.add(place);
+        }
+
+        int axis = depth % 2;
+        double split = axis == 0 ? latitude : longitude;
+        if (low[axis] <= split) {
+            search(from, mid, depth + 1, low, high, center, radiusKm, found);
+        }
+        if (high[axis] >= split) {
+            search(mid + 1, to, depth + 1, low, high, center, radiusKm, found);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package rencanakan.id.talentpool.index;
+
+import rencanakan.id.talentpool.dto.FacetCountDTO;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Bitmap posting lists for one keyword field of the talent index, keyed by the
+ * normalized term and remembering the first spelling seen for display.
+ */
+class Postings {
+
+    private final Map<String, BitSet> lists = new HashMap<>();
+    private final Map<String, String> labels = new HashMap<>();
+
+    void add(String term, int ordinal) {
+        String key = TalentDocument.normalize(term);
+        if (key == null) {
+            return;
+        }
+        lists.computeIfAbsent(key, k -> new BitSet()).set(ordinal);
+        labels.putIfAbsent(key, term.trim());
+    }
+
+    void remove(String term, int ordinal) {
+        String key = TalentDocument.normalize(term);
+        BitSet posting = key == null ? null : lists.get(key);
+        if (posting != null) {
+            posting.clear(ordinal);
+            if (posting.isEmpty()) {
+                lists.remove(key);
+                labels.remove(key);
+            }
+        }
+    }
+
+    void clear() {
+        lists.clear();
+        labels.clear();
+    }
+
+    BitSet anyOf(Collection<String> terms) {
+        BitSet result = new BitSet();
+        for (String term : terms) {
+            BitSet posting = lists.get(TalentDocument.normalize(term));
+            if (posting != null) {
+                result.or(posting);
+            }
+        }
+        return result;
+    }
+
+    BitSet allOf(Collection<String> terms) {
+        BitSet result = null;
+        for (String term : terms) {
+            BitSet posting = lists.get(TalentDocument.normalize(term));
+            if (posting == null) {
+                return new BitSet();
+            }
+            if (result == null) {
+                result = (BitSet) posting.clone();
+            } else {
+                result.and(posting);
+            }
+        }
+        return result == null ? new BitSet() : result;
+    }
+
+    BitSet get(String term) {
+        BitSet posting = lists.get(TalentDocument.normalize(term));
+        return posting == null ? new BitSet() : posting;
+    }
+
+    /**
+     * Counts the terms of the talents in {@code base} in a single pass, most frequent first.
+     */
+    List<FacetCountDTO> count(BitSet base, IntFunction<String> termOf) {
+        return countAll(base, ordinal -> Collections.singletonList(termOf.apply(ordinal)));
+    }
+
+    /**
+     * Like {@link #count(BitSet, IntFunction)} for fields holding several terms per talent.
+     */
+    List<FacetCountDTO> countAll(BitSet base, IntFunction<List<String>> termsOf) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int ordinal = base.nextSetBit(0); ordinal >= 0; ordinal = base.nextSetBit(ordinal + 1)) {
+            for (String term : termsOf.apply(ordinal)) {
+                String key = TalentDocument.normalize(term);
+                if (key != null) {
+                    counts.merge(key, 1, Integer::sum);
+                }
+            }
+        }
+
+        return counts.entrySet().stream()
+                .map(entry -> new FacetCountDTO(labels.getOrDefault(entry.getKey(), entry.getKey()), entry.getValue()))
+                .sorted(Comparator.comparingInt(FacetCountDTO::getCount).reversed().thenComparing(FacetCountDTO::getValue))
+                .toList();
+    }
+}
@@ -0,0 +1,185 @@
+package rencanakan.id.talentpool.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Character trie of weighted suggestions. Every suggestion is reachable from the start
+ * of each of its words, and every node remembers the heaviest suggestion below it, so
+ * the top suggestions for a prefix come out of a best-first walk that only opens the
+ * branches that can still beat what was already found.
+ */
+final class PrefixTrie {
+
+    private static final Comparator<Candidate> HEAVIEST_FIRST = Comparator
+            .comparingInt(Candidate::weight).reversed()
+            .thenComparing(candidate -> candidate.entry() == null)
+            .thenComparing(candidate -> candidate.entry() == null ? "" : candidate.entry().label);
+
+    private final Node root = new Node(null, '\0');
+    private final Map<Term, Entry> entries = new HashMap<>();
+
+    void add(TypeaheadField field, String label) {
+        adjust(field, label, 1);
+    }
+
+    void remove(TypeaheadField field, String label) {
+        adjust(field, label, -1);
+    }
+
+    void clear() {
+        root.children.clear();
+        root.entries.clear();
+        root.maxWeight = 0;
+        entries.clear();
+    }
+
+    List<Entry> top(String prefix, int limit) {
+        String key = TalentDocument.normalize(prefix);
+        Node node = key == null || key.isEmpty() ? null : find(key);
+        if (node == null) {
+            return List.of();
+        }
+
+        List<Entry> top = new ArrayList<>(limit);
+        Set<Entry> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(HEAVIEST_FIRST);
+        queue.add(new Candidate(node.maxWeight, null, node));
+
+        while (!queue.isEmpty() && top.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.entry() != null) {
+                // Multi-word suggestions can sit under the prefix more than once
+                if (seen.add(candidate.entry())) {
+                    top.add(candidate.entry());
+                }
+                continue;
+            }
+
+            candidate.node().entries.forEach(entry -> queue.add(new Candidate(entry.weight, entry, null)));
+            candidate.node().children.values().forEach(child -> queue.add(new Candidate(child.maxWeight, null, child)));
+        }
+        return top;
+    }
+
+    private void adjust(TypeaheadField field, String label, int delta) {
+        String key = label == null ? null : TalentDocument.normalize(label.replaceAll("\\s+", " "));
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+
+        Term term = new Term(field, key);
+        Entry entry = entries.get(term);
+        if (entry == null) {
+            if (delta < 0) {
+                return;
+            }
+            entry = new Entry(field, label.trim().replaceAll("\\s+", " "));
+            entries.put(term, entry);
+            for (String suffix : wordStarts(key)) {
+                insert(suffix).entries.add(entry);
+            }
+        }
+
+        entry.weight += delta;
+        boolean gone = entry.weight <= 0;
+        if (gone) {
+            entries.remove(term);
+        }
+        for (String suffix : wordStarts(key)) {
+            Node node = find(suffix);
+            if (node != null) {
+                if (gone) {
+                    node.entries.remove(entry);
+                }
+                refresh(node);
+            }
+        }
+    }
+
+    private static List<String> wordStarts(String key) {
+        List<String> starts = new ArrayList<>();
+        starts.add(key);
+        for (int i = key.indexOf(' '); i >= 0; i = key.indexOf(' ', i + 1)) {
+            if (i + 1 < key.length()) {
+                starts.add(key.substring(i + 1));
+            }
+        }
+        return starts;
+    }
+
+    private Node insert(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            char ch = key.charAt(i);
+            Node parent = node;
+            node = node.children.computeIfAbsent(ch, c -> new Node(parent, c));
+        }
+        return node;
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    // Recomputes subtree maxima up to the root, pruning branches left without suggestions
+    private void refresh(Node node) {
+        for (Node current = node; current != null; current = current.parent) {
+            int max = 0;
+            for (Entry entry : current.entries) {
+                max = Math.max(max, entry.weight);
+            }
+            for (Node child : current.children.values()) {
+                max = Math.max(max, child.maxWeight);
+            }
+            current.maxWeight = max;
+
+            if (current.parent != null && current.entries.isEmpty() && current.children.isEmpty()) {
+                current.parent.children.remove(current.ch);
+            }
+        }
+    }
+
+    private record Term(TypeaheadField field, String key) {
+    }
+
+    private record Candidate(int weight, Entry entry, Node node) {
+    }
+
+    static final class Entry {
+
+        final TypeaheadField field;
+        final String label;
+        int weight;
+
+        private Entry(TypeaheadField field, String label) {
+            this.field = field;
+            this.label = label;
+        }
+    }
+
+    private static final class Node {
+
+        private final Node parent;
+        private final char ch;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Entry> entries = new ArrayList<>(1);
+        private int maxWeight;
+
+        private Node(Node parent, char ch) {
+            this.parent = parent;
+            this.ch = ch;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package rencanakan.id.talentpool.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes made to an index while it is rebuilt from a database snapshot. The snapshot may
+ * have been read before they committed, so they are replayed once it is installed rather
+ * than being wiped out by it. Guarded by the owning index's write lock.
+ */
+final class RebuildJournal {
+
+    private List<Runnable> writes;
+
+    void start() {
+        writes = new ArrayList<>();
+    }
+
+    void cancel() {
+        writes = null;
+    }
+
+    void record(Runnable write) {
+        if (writes != null) {
+            writes.add(write);
+        }
+    }
+
+    void replay() {
+        List<Runnable> missed = writes;
+        writes = null;
+        if (missed != null) {
+            missed.forEach(Runnable::run);
+        }
+    }
+}
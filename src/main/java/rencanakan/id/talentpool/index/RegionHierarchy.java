@@ -0,0 +1,271 @@
+package rencanakan.id.talentpool.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Offline Indonesian province, city (kota) and regency (kabupaten) hierarchy used to
+ * resolve free-text locations. The ancestors of every region and the names of every
+ * place inside it are precomputed on load, so resolving a location never walks the tree.
+ * Regions also carry coordinates (provinces sit at their capital) for radius and
+ * nearest-first lookups through a {@link PlaceTree}.
+ */
+public final class RegionHierarchy {
+
+    private static final String RESOURCE = "regions/indonesia.csv";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, List<Region>> byName = new HashMap<>();
+    private final Map<String, Region> byId = new HashMap<>();
+    private final List<Place> places = new ArrayList<>();
+    private final PlaceTree placeTree;
+
+    private RegionHierarchy(List<String> lines) {
+        Map<String, Region> provinces = new LinkedHashMap<>();
+        List<Region> regions = new ArrayList<>();
+
+        for (String line : lines) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] columns = line.split(",", -1);
+            if (columns.length != 6) {
+                throw new IllegalStateException("Malformed region line: " + line);
+            }
+
+            Level level = Level.valueOf(columns[0].trim());
+            String name = columns[1].trim();
+            Region province = level == Level.PROVINCE ? null : provinces.get(key(columns[2]));
+            if (level != Level.PROVINCE && province == null) {
+                throw new IllegalStateException("Unknown province for region: " + line);
+            }
+
+            GeoPoint point = columns[4].isBlank() ? null
+                    : new GeoPoint(Double.parseDouble(columns[4].trim()), Double.parseDouble(columns[5].trim()));
+            Region region = new Region(level, name, province, point);
+            region.names.addAll(level.namesOf(name));
+            for (String alias : columns[3].split("\\|")) {
+                if (!alias.isBlank()) {
+                    region.names.add(key(alias));
+                }
+            }
+
+            if (level == Level.PROVINCE) {
+                provinces.put(key(name), region);
+            }
+            regions.add(region);
+        }
+
+        for (Region region : regions) {
+            for (Region ancestor = region; ancestor != null; ancestor = ancestor.parent) {
+                region.ancestorsOrSelf.add(ancestor.id);
+                ancestor.namesWithin.addAll(region.names);
+            }
+            region.names.forEach(name -> byName.computeIfAbsent(name, k -> new ArrayList<>()).add(region));
+            byId.put(region.id, region);
+            if (region.place != null) {
+                places.add(region.place);
+            }
+        }
+        placeTree = new PlaceTree(places);
+    }
+
+    public static RegionHierarchy indonesia() {
+        return Holder.INDONESIA;
+    }
+
+    /**
+     * Returns the ids of the regions the location names, e.g. both Kota and Kabupaten
+     * Bandung for "Bandung". Unknown locations resolve to nothing.
+     */
+    public Set<String> resolve(String location) {
+        Set<String> ids = new LinkedHashSet<>();
+        regionsNamed(location).forEach(region -> ids.add(region.id));
+        return ids;
+    }
+
+    /**
+     * Returns the ids of the regions the location names together with every region
+     * containing them, i.e. every region a query could use to find this location.
+     */
+    public Set<String> regionsOf(String location) {
+        Set<String> ids = new LinkedHashSet<>();
+        regionsNamed(location).forEach(region -> ids.addAll(region.ancestorsOrSelf));
+        return ids;
+    }
+
+    /**
+     * Returns every lower-case spelling of the places inside the regions the location
+     * names, plus the location itself, for matching stored text without the index.
+     */
+    public Set<String> namesWithin(String location) {
+        Set<String> names = new LinkedHashSet<>();
+        String key = key(location);
+        if (key != null && !key.isEmpty()) {
+            names.add(key);
+        }
+        regionsNamed(location).forEach(region -> names.addAll(region.namesWithin));
+        return names;
+    }
+
+    /**
+     * Whether {@code location} lies within, or is spelled the same as, {@code region}.
+     */
+    public boolean contains(String region, String location) {
+        String regionKey = key(region);
+        if (regionKey == null || location == null) {
+            return false;
+        }
+        return regionKey.equals(key(location)) || !Collections.disjoint(resolve(region), regionsOf(location));
+    }
+
+    /**
+     * Returns the first place the location names, or {@code null} if it isn't in the gazetteer.
+     */
+    public Place locate(String location) {
+        return regionsNamed(location).stream()
+                .map(region -> region.place)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Resolves "latitude,longitude" or a place name to a point.
+     */
+    public GeoPoint pointOf(String near) {
+        GeoPoint point = GeoPoint.parse(near);
+        if (point != null) {
+            return point;
+        }
+
+        Place place = locate(near);
+        if (place == null) {
+            throw new IllegalArgumentException("Unknown location: " + near);
+        }
+        return place.point();
+    }
+
+    public List<Place> within(GeoPoint center, double radiusKm) {
+        return placeTree.within(center, radiusKm);
+    }
+
+    /**
+     * Returns every place ordered by distance from the centre. The gazetteer is small
+     * enough that sorting it outright beats a best-first tree walk.
+     */
+    public List<Place> nearestFirst(GeoPoint center) {
+        return places.stream()
+                .sorted(Comparator.comparingDouble(place -> center.distanceKm(place.point())))
+                .toList();
+    }
+
+    /**
+     * Returns every lower-case spelling of the places within the radius, for matching
+     * stored text without the index.
+     */
+    public Set<String> namesNear(GeoPoint center, double radiusKm) {
+        Set<String> names = new LinkedHashSet<>();
+        within(center, radiusKm).forEach(place -> names.addAll(byId.get(place.id()).names));
+        return names;
+    }
+
+    private List<Region> regionsNamed(String location) {
+        String key = key(location);
+        if (key == null) {
+            return List.of();
+        }
+
+        List<Region> regions = byName.get(key);
+        if (regions != null) {
+            return regions;
+        }
+
+        // "Bandung, Jawa Barat" resolves through its most specific recognised part
+        for (String part : key.split(",")) {
+            regions = byName.get(part.trim());
+            if (regions != null) {
+                return regions;
+            }
+        }
+        return List.of();
+    }
+
+    static String key(String value) {
+        return value == null ? null : WHITESPACE.matcher(value.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    private enum Level {
+        PROVINCE("provinsi "),
+        CITY("kota ", "kota administrasi "),
+        REGENCY("kabupaten ", "kabupaten administrasi ", "kab. ", "kab ");
+
+        private final String[] prefixes;
+
+        Level(String... prefixes) {
+            this.prefixes = prefixes;
+        }
+
+        List<String> namesOf(String name) {
+            List<String> names = new ArrayList<>();
+            names.add(key(name));
+            for (String prefix : prefixes) {
+                names.add(key(prefix + name));
+            }
+            return names;
+        }
+
+        String displayName(String name) {
+            return this == PROVINCE ? name : Character.toUpperCase(prefixes[0].charAt(0)) + prefixes[0].substring(1) + name;
+        }
+    }
+
+    private static final class Region {
+
+        private final String id;
+        private final Region parent;
+        private final Set<String> names = new LinkedHashSet<>();
+        private final Set<String> ancestorsOrSelf = new LinkedHashSet<>();
+        private final Set<String> namesWithin = new LinkedHashSet<>();
+        private final Place place;
+
+        private Region(Level level, String name, Region parent, GeoPoint point) {
+            String slug = key(level.displayName(name)).replace(' ', '-');
+            this.id = parent == null ? slug : parent.id + "/" + slug;
+            this.parent = parent;
+            this.place = point == null ? null : new Place(id, level.displayName(name), point);
+        }
+    }
+
+    private static final class Holder {
+
+        private static final RegionHierarchy INDONESIA = load();
+
+        private static RegionHierarchy load() {
+            try (InputStream input = Objects.requireNonNull(
+                    RegionHierarchy.class.getClassLoader().getResourceAsStream(RESOURCE), RESOURCE);
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+                return new RegionHierarchy(reader.lines().toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
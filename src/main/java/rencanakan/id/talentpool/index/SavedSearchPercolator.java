@@ -0,0 +1,189 @@
+package rencanakan.id.talentpool.index;
+
+import org.springframework.stereotype.Component;
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.SkillMatch;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Reverse index of saved searches: rather than running every saved filter against the
+ * talent pool, a changed talent is run against the filters. Each filter is filed under
+ * terms a talent must carry to match it (a skill, a region or an SKK level), so only
+ * filters sharing a term with the talent are evaluated with {@link TalentMatcher}.
+ * Filters without such a term are always evaluated.
+ */
+@Component
+public class SavedSearchPercolator {
+
+    private static final String SKILL = "skill:";
+    private static final String REGION = "region:";
+    private static final String PLACE = "place:";
+    private static final String SKK_LEVEL = "skk:";
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, FilterTalentDTO> filters = new HashMap<>();
+    private final Map<String, Set<String>> byTerm = new HashMap<>();
+    private final Map<String, Set<String>> termsById = new HashMap<>();
+    private final Set<String> unanchored = new LinkedHashSet<>();
+
+    public void rebuild(Map<String, FilterTalentDTO> searches) {
+        lock.writeLock().lock();
+        try {
+            filters.clear();
+            byTerm.clear();
+            termsById.clear();
+            unanchored.clear();
+            searches.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void register(String id, FilterTalentDTO filter) {
+        lock.writeLock().lock();
+        try {
+            remove(id);
+            add(id, filter);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void unregister(String id) {
+        lock.writeLock().lock();
+        try {
+            remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the saved searches the talent matches.
+     */
+    public Set<String> percolate(TalentDocument talent) {
+        if (talent == null) {
+            return Set.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<String> candidates = new LinkedHashSet<>(unanchored);
+            for (String term : termsOf(talent)) {
+                candidates.addAll(byTerm.getOrDefault(term, Set.of()));
+            }
+
+            Set<String> matches = new LinkedHashSet<>();
+            for (String id : candidates) {
+                if (TalentMatcher.matches(filters.get(id), talent)) {
+                    matches.add(id);
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return filters.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(String id, FilterTalentDTO filter) {
+        filters.put(id, filter);
+        Set<String> terms = anchorsOf(filter);
+        if (terms.isEmpty()) {
+            unanchored.add(id);
+            return;
+        }
+        termsById.put(id, terms);
+        terms.forEach(term -> byTerm.computeIfAbsent(term, k -> new LinkedHashSet<>()).add(id));
+    }
+
+    private void remove(String id) {
+        if (filters.remove(id) == null) {
+            return;
+        }
+        unanchored.remove(id);
+        Set<String> terms = termsById.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Set<String> ids = byTerm.get(term);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                byTerm.remove(term);
+            }
+        }
+    }
+
+    // Any one of the returned terms must be present on every talent the filter matches
+    private static Set<String> anchorsOf(FilterTalentDTO filter) {
+        Set<String> terms = new LinkedHashSet<>();
+
+        List<String> skills = hasTerms(filter.getSkills()) ? TalentIndex.skillTerms(filter.getSkills()) : List.of();
+        if (!skills.isEmpty()) {
+            if (filter.getSkillMatch() == SkillMatch.ALL) {
+                terms.add(SKILL + skills.get(0));
+            } else {
+                skills.forEach(skill -> terms.add(SKILL + skill));
+            }
+            return terms;
+        }
+
+        if (hasTerms(filter.getPreferredLocations())) {
+            RegionHierarchy hierarchy = RegionHierarchy.indonesia();
+            for (String location : filter.getPreferredLocations()) {
+                String key = RegionHierarchy.key(location);
+                if (key != null) {
+                    terms.add(PLACE + key);
+                    hierarchy.resolve(location).forEach(region -> terms.add(REGION + region));
+                }
+            }
+            return terms;
+        }
+
+        if (hasTerms(filter.getSkkLevels())) {
+            filter.getSkkLevels().stream()
+                    .map(TalentDocument::normalize)
+                    .filter(Objects::nonNull)
+                    .forEach(level -> terms.add(SKK_LEVEL + level));
+        }
+        return terms;
+    }
+
+    private static Set<String> termsOf(TalentDocument talent) {
+        Set<String> terms = new LinkedHashSet<>();
+        talent.skills().forEach(skill -> terms.add(SKILL + TalentDocument.normalize(skill)));
+
+        RegionHierarchy hierarchy = RegionHierarchy.indonesia();
+        for (String location : talent.locations()) {
+            terms.add(PLACE + RegionHierarchy.key(location));
+            hierarchy.regionsOf(location).forEach(region -> terms.add(REGION + region));
+        }
+
+        String level = TalentDocument.normalize(talent.skkLevel());
+        if (level != null) {
+            terms.add(SKK_LEVEL + level);
+        }
+        return terms;
+    }
+
+    private static boolean hasTerms(List<String> terms) {
+        return Objects.nonNull(terms) && !terms.isEmpty();
+    }
+}
@@ -0,0 +1,6 @@
+package rencanakan.id.talentpool.index;
+
+import java.util.Map;
+
+public record ScoredTalent(TalentDocument talent, double score, Map<String, Double> breakdown) {
+}
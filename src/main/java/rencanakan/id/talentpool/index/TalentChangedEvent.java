@@ -0,0 +1,8 @@
+package rencanakan.id.talentpool.index;
+
+/**
+ * Published after a talent write commits. {@code before} is null for new talents and
+ * {@code after} is null for removed ones.
+ */
+public record TalentChangedEvent(TalentDocument before, TalentDocument after) {
+}
@@ -0,0 +1,118 @@
+package rencanakan.id.talentpool.index;
+
+import org.hibernate.Hibernate;
+import rencanakan.id.talentpool.model.User;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+public record TalentDocument(
+        String id,
+        String firstName,
+        String lastName,
+        String skill,
+        String currentLocation,
+        String skkLevel,
+        Integer experienceYears,
+        Integer price,
+        List<String> skills,
+        List<String> preferredLocations
+) {
+    private static final Pattern SKILL_SEPARATOR = Pattern.compile("[,;]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public TalentDocument(String id, String firstName, String lastName, String skill, String currentLocation,
+                          String skkLevel, Integer experienceYears, Integer price) {
+        this(id, firstName, lastName, skill, currentLocation, skkLevel, experienceYears, price, skillTerms(skill), List.of());
+    }
+
+    /**
+     * Captures the user as indexed. Preferred locations that were never loaded are left
+     * {@code null} so {@link #withLocationsOf(TalentDocument)} can carry the indexed ones over.
+     */
+    public static TalentDocument of(User user) {
+        List<String> preferredLocations = user.getPreferredLocations();
+        return new TalentDocument(
+                user.getId(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getSkill(),
+                user.getCurrentLocation(),
+                user.getSkkLevel(),
+                user.getExperienceYears(),
+                user.getPrice(),
+                skillTerms(user.getSkill()),
+                preferredLocations == null ? List.of()
+                        : Hibernate.isInitialized(preferredLocations) ? withoutNulls(preferredLocations) : null
+        );
+    }
+
+    public TalentDocument withPreferredLocations(List<String> preferredLocations) {
+        return new TalentDocument(id, firstName, lastName, skill, currentLocation, skkLevel, experienceYears, price, skills,
+                withoutNulls(preferredLocations));
+    }
+
+    private static List<String> withoutNulls(List<String> values) {
+        return values.stream().filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Fills in preferred locations that were not loaded from the previously indexed version.
+     */
+    public TalentDocument withLocationsOf(TalentDocument previous) {
+        if (preferredLocations != null) {
+            return this;
+        }
+        return withPreferredLocations(previous == null ? List.of() : previous.preferredLocations());
+    }
+
+    /**
+     * Returns the current location followed by the preferred ones.
+     */
+    public List<String> locations() {
+        List<String> locations = new ArrayList<>();
+        locations.add(currentLocation);
+        if (preferredLocations != null) {
+            locations.addAll(preferredLocations);
+        }
+        locations.removeIf(Objects::isNull);
+        return locations;
+    }
+
+    public TalentSortKey sortKey() {
+        return TalentSortKey.of(firstName, lastName, id);
+    }
+
+    public String fullName() {
+        return normalize(Objects.toString(firstName, "") + " " + Objects.toString(lastName, ""));
+    }
+
+    /**
+     * Splits the free-text skill column into individual skills, collapsing whitespace and
+     * dropping duplicates that differ only in case. {@link #normalize(String)} of each term
+     * is its canonical dictionary name.
+     */
+    public static List<String> skillTerms(String skill) {
+        if (skill == null) {
+            return List.of();
+        }
+
+        Map<String, String> terms = new LinkedHashMap<>();
+        for (String part : SKILL_SEPARATOR.split(skill)) {
+            String term = WHITESPACE.matcher(part.trim()).replaceAll(" ");
+            if (!term.isEmpty()) {
+                terms.putIfAbsent(normalize(term), term);
+            }
+        }
+        return List.copyOf(terms.values());
+    }
+
+    public static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
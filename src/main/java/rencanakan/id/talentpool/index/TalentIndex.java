@@ -0,0 +1,581 @@
+package rencanakan.id.talentpool.index;
+
+import org.springframework.stereotype.Component;
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.PriceBucketDTO;
+import rencanakan.id.talentpool.dto.SkillMatch;
+import rencanakan.id.talentpool.dto.TalentFacetsDTO;
+import rencanakan.id.talentpool.dto.TalentMatchRequestDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * In-process inverted index over the talent pool. Every talent gets a dense ordinal,
+ * skills and locations map to bitmap posting lists and prices live in a sorted primitive
+ * array, so filters resolve with bitmap AND/OR and only the requested page of ids has to
+ * be read from the database. Current and preferred locations are also posted under every
+ * {@link RegionHierarchy} region containing them, so a province resolves with one lookup,
+ * and under the gazetteer place they sit at, so a radius resolves to the postings of the
+ * places the {@link PlaceTree} finds.
+ */
+@Component
+public class TalentIndex {
+
+    public static final double SIMILARITY_THRESHOLD = 0.3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RebuildJournal journal = new RebuildJournal();
+
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<TalentDocument> documents = new ArrayList<>();
+    private final List<TalentSortKey> sortKeys = new ArrayList<>();
+    private final Comparator<Integer> inNameOrder = Comparator.comparing(sortKeys::get);
+    private final BitSet live = new BitSet();
+    private final Postings skills = new Postings();
+    private final Postings locations = new Postings();
+    private final Postings places = new Postings();
+    private final Postings regions = new Postings();
+    private final Postings points = new Postings();
+    private final RegionHierarchy regionHierarchy = RegionHierarchy.indonesia();
+    private final Postings skkLevels = new Postings();
+    private final TrigramIndex names = new TrigramIndex();
+
+    // Kept sorted as talents are written, so a write costs a binary search and an array shift
+    // rather than a re-sort. Prices are (price, ordinal) pairs packed into one long.
+    private long[] pricePairs = new long[0];
+    private int priceCount;
+    private int[] sortedOrdinals = new int[0];
+    private int sortedCount;
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Starts recording writes so the next {@link #rebuild} replays the ones its snapshot
+     * may have missed.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            journal.start();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void cancelRebuild() {
+        lock.writeLock().lock();
+        try {
+            journal.cancel();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<TalentDocument> talents) {
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            documents.clear();
+            sortKeys.clear();
+            live.clear();
+            skills.clear();
+            locations.clear();
+            places.clear();
+            regions.clear();
+            points.clear();
+            skkLevels.clear();
+            names.clear();
+
+            talents.forEach(this::add);
+            sortAll();
+            journal.replay();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a talent and returns the previously indexed version, if any.
+     */
+    public TalentDocument upsert(TalentDocument talent) {
+        lock.writeLock().lock();
+        try {
+            journal.record(() -> upsert(talent));
+            Integer ordinal = ordinals.get(talent.id());
+            TalentDocument previous = ordinal == null ? null : documents.get(ordinal);
+            TalentDocument current = talent.withLocationsOf(previous);
+            if (ordinal == null) {
+                order(add(current));
+            } else {
+                unorder(ordinal);
+                unindex(ordinal);
+                documents.set(ordinal, current);
+                sortKeys.set(ordinal, current.sortKey());
+                index(ordinal, current);
+                order(ordinal);
+            }
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a talent and returns the version that was indexed, if any.
+     */
+    public TalentDocument remove(String id) {
+        lock.writeLock().lock();
+        try {
+            journal.record(() -> remove(id));
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return null;
+            }
+            TalentDocument previous = documents.get(ordinal);
+            unorder(ordinal);
+            unindex(ordinal);
+            documents.set(ordinal, null);
+            sortKeys.set(ordinal, null);
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        return read(live::cardinality);
+    }
+
+    public BitSet match(FilterTalentDTO filter) {
+        return read(() -> intersect(constraints(filter), null));
+    }
+
+    /**
+     * Counts skills, locations, SKK levels and price buckets of the matching talents. Each
+     * dimension is counted with every filter applied except its own, so the counts show
+     * what selecting another value of that dimension would return.
+     */
+    public TalentFacetsDTO facets(FilterTalentDTO filter, int priceInterval) {
+        if (priceInterval <= 0) {
+            throw new IllegalArgumentException("Price interval must be positive");
+        }
+
+        return read(() -> {
+            Map<Dimension, BitSet> constraints = constraints(filter);
+
+            return TalentFacetsDTO.builder()
+                    .total(intersect(constraints, null).cardinality())
+                    .skills(skills.countAll(intersect(constraints, Dimension.SKILL), ordinal -> documents.get(ordinal).skills()))
+                    .locations(locations.count(intersect(constraints, Dimension.LOCATION), ordinal -> documents.get(ordinal).currentLocation()))
+                    .skkLevels(skkLevels.count(intersect(constraints, Dimension.SKK_LEVEL), ordinal -> documents.get(ordinal).skkLevel()))
+                    .priceHistogram(priceHistogram(intersect(constraints, Dimension.PRICE), priceInterval))
+                    .build();
+        });
+    }
+
+    /**
+     * Scores every talent against the request and returns the best {@code k}, best first.
+     * Scoring is spread over the common fork-join pool in index partitions, each keeping
+     * a bounded heap, so the pool is never fully sorted.
+     */
+    public List<ScoredTalent> rank(TalentMatchRequestDTO request, int k) {
+        return read(() -> {
+            MatchScorer scorer = new MatchScorer(
+                    documents,
+                    hasTerms(request.getSkills()) ? skillTerms(request.getSkills()).stream().map(skills::get).toList() : null,
+                    hasText(request.getLocation()) ? within(List.of(request.getLocation())) : null,
+                    hasText(request.getSkkLevel()) ? skkLevels.anyOf(List.of(request.getSkkLevel())) : null,
+                    request.getBudget(),
+                    request.getMinExperienceYears()
+            );
+
+            PriorityQueue<TopKMatchTask.Candidate> heap = ForkJoinPool.commonPool()
+                    .invoke(new TopKMatchTask(scorer, live, 0, documents.size(), k));
+
+            return TopKMatchTask.bestFirst(heap).stream()
+                    .map(candidate -> new ScoredTalent(documents.get(candidate.ordinal()), candidate.score(), scorer.breakdown(candidate.ordinal())))
+                    .toList();
+        });
+    }
+
+    /**
+     * Returns the {@code k} matching talents closest to the centre, nearest first, by the
+     * closest of their current and preferred locations. Places are visited nearest first
+     * and the walk stops once {@code k} talents are found.
+     */
+    public List<NearbyTalent> nearest(FilterTalentDTO filter, GeoPoint center, int k) {
+        List<Place> places = regionHierarchy.nearestFirst(center);
+        return read(() -> {
+            BitSet matches = intersect(constraints(filter), null);
+            BitSet seen = new BitSet();
+            List<NearbyTalent> nearest = new ArrayList<>(Math.min(k, 64));
+
+            for (Place place : places) {
+                if (nearest.size() >= k) {
+                    break;
+                }
+
+                BitSet here = (BitSet) points.get(place.id()).clone();
+                here.and(matches);
+                here.andNot(seen);
+                seen.or(here);
+
+                double distance = center.distanceKm(place.point());
+                here.stream()
+                        .boxed()
+                        .sorted(inNameOrder)
+                        .limit(k - nearest.size())
+                        .forEach(ordinal -> nearest.add(new NearbyTalent(documents.get(ordinal), distance)));
+            }
+            return nearest;
+        });
+    }
+
+    static List<String> skillTerms(List<String> requested) {
+        return requested.stream()
+                .flatMap(skill -> TalentDocument.skillTerms(skill).stream())
+                .map(TalentDocument::normalize)
+                .distinct()
+                .toList();
+    }
+
+    private static boolean hasTerms(List<String> terms) {
+        return Objects.nonNull(terms) && !terms.isEmpty();
+    }
+
+    private static boolean hasText(String value) {
+        return Objects.nonNull(value) && !value.trim().isEmpty();
+    }
+
+    private Map<Dimension, BitSet> constraints(FilterTalentDTO filter) {
+        Map<Dimension, BitSet> constraints = new EnumMap<>(Dimension.class);
+
+        if (Objects.nonNull(filter.getName()) && !filter.getName().trim().isEmpty()) {
+            constraints.put(Dimension.NAME, matchName(filter.getName(), Boolean.TRUE.equals(filter.getFuzzy())));
+        }
+
+        if (Objects.nonNull(filter.getPreferredLocations()) && !filter.getPreferredLocations().isEmpty()) {
+            constraints.put(Dimension.LOCATION, within(filter.getPreferredLocations()));
+        }
+
+        GeoRadius radius = GeoRadius.of(filter);
+        if (radius != null) {
+            BitSet near = new BitSet();
+            regionHierarchy.within(radius.center(), radius.radiusKm()).forEach(place -> near.or(points.get(place.id())));
+            constraints.put(Dimension.GEO, near);
+        }
+
+        if (Objects.nonNull(filter.getSkills()) && !filter.getSkills().isEmpty()) {
+            List<String> terms = skillTerms(filter.getSkills());
+            constraints.put(Dimension.SKILL, filter.getSkillMatch() == SkillMatch.ALL ? skills.allOf(terms) : skills.anyOf(terms));
+        }
+
+        if (Objects.nonNull(filter.getSkkLevels()) && !filter.getSkkLevels().isEmpty()) {
+            constraints.put(Dimension.SKK_LEVEL, skkLevels.anyOf(filter.getSkkLevels()));
+        }
+
+        if (Objects.nonNull(filter.getPriceRange()) && filter.getPriceRange().size() == 2) {
+            constraints.put(Dimension.PRICE, priceBetween(filter.getPriceRange().get(0), filter.getPriceRange().get(1)));
+        }
+
+        return constraints;
+    }
+
+    // Exact spellings keep locations outside the hierarchy searchable
+    private BitSet within(List<String> requested) {
+        BitSet result = places.anyOf(requested);
+        requested.forEach(location -> result.or(regions.anyOf(regionHierarchy.resolve(location))));
+        return result;
+    }
+
+    private BitSet intersect(Map<Dimension, BitSet> constraints, Dimension excluded) {
+        BitSet result = (BitSet) live.clone();
+        constraints.forEach((dimension, matches) -> {
+            if (dimension != excluded) {
+                result.and(matches);
+            }
+        });
+        return result;
+    }
+
+    private List<PriceBucketDTO> priceHistogram(BitSet base, int priceInterval) {
+        Map<Long, Integer> buckets = new TreeMap<>();
+        for (int ordinal = base.nextSetBit(0); ordinal >= 0; ordinal = base.nextSetBit(ordinal + 1)) {
+            Integer price = documents.get(ordinal).price();
+            if (price != null) {
+                buckets.merge(Math.floorDiv((long) price, priceInterval) * priceInterval, 1, Integer::sum);
+            }
+        }
+
+        return buckets.entrySet().stream()
+                .map(bucket -> new PriceBucketDTO(bucket.getKey(), bucket.getKey() + priceInterval, bucket.getValue()))
+                .toList();
+    }
+
+    /**
+     * Returns the ids of the scored talents that are in {@code matches}, best score first
+     * and otherwise in (firstName, lastName, id) order.
+     */
+    public List<String> rankByScore(BitSet matches, Map<String, Double> scores) {
+        return read(() -> {
+            List<Map.Entry<Integer, Double>> ranked = new ArrayList<>();
+            scores.forEach((id, score) -> {
+                Integer ordinal = ordinals.get(id);
+                if (ordinal != null && matches.get(ordinal)) {
+                    ranked.add(Map.entry(ordinal, score));
+                }
+            });
+
+            return bestFirst(ranked.stream());
+        });
+    }
+
+    /**
+     * Returns the ids of the talents in {@code matches} by how closely their full name
+     * resembles {@code name}, most similar first and otherwise in (firstName, lastName, id) order.
+     */
+    public List<String> rankByNameSimilarity(BitSet matches, String name) {
+        String query = TalentDocument.normalize(name);
+        return read(() -> bestFirst(matches.stream()
+                .filter(live::get)
+                .mapToObj(ordinal -> Map.entry(ordinal, TrigramIndex.similarity(query, documents.get(ordinal).fullName())))));
+    }
+
+    private List<String> bestFirst(Stream<Map.Entry<Integer, Double>> scored) {
+        return scored
+                .sorted(Map.Entry.<Integer, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(inNameOrder)))
+                .map(entry -> documents.get(entry.getKey()).id())
+                .toList();
+    }
+
+    /**
+     * Returns the ids of matching talents in (firstName, lastName, id) order, skipping
+     * the first {@code offset} matches.
+     */
+    public List<String> page(BitSet matches, int offset, int limit) {
+        return read(() -> collect(matches, 0, offset, limit));
+    }
+
+    /**
+     * Returns up to {@code limit} ids of matching talents that sort strictly after the
+     * given key.
+     */
+    public List<String> seek(BitSet matches, String firstName, String lastName, String id, int limit) {
+        TalentSortKey key = TalentSortKey.of(firstName, lastName, id);
+        return read(() -> collect(matches, countUpTo(key), 0, limit));
+    }
+
+    private List<String> collect(BitSet matches, int from, int offset, int limit) {
+        List<String> ids = new ArrayList<>(Math.min(limit, 64));
+        int skipped = 0;
+        for (int i = from; i < sortedCount && ids.size() < limit; i++) {
+            int ordinal = sortedOrdinals[i];
+            if (!matches.get(ordinal)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            ids.add(documents.get(ordinal).id());
+        }
+        return ids;
+    }
+
+    private BitSet matchName(String name, boolean fuzzy) {
+        String keyword = name.toLowerCase();
+        if (fuzzy) {
+            return names.similar(keyword.trim(), SIMILARITY_THRESHOLD);
+        }
+
+        // Keywords shorter than a trigram can't be narrowed, so every live talent is a candidate
+        BitSet candidates = names.candidates(keyword);
+        if (candidates == null) {
+            candidates = live;
+        }
+
+        BitSet result = new BitSet();
+        for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+            if (live.get(ordinal) && documents.get(ordinal).fullName().contains(keyword)) {
+                result.set(ordinal);
+            }
+        }
+        return result;
+    }
+
+    private BitSet priceBetween(Double minPrice, Double maxPrice) {
+        BitSet result = new BitSet();
+        if (minPrice == null || maxPrice == null) {
+            return result;
+        }
+
+        long lower = (long) Math.ceil(minPrice);
+        long upper = (long) Math.floor(maxPrice);
+        int from = lowerBound(lower);
+        int to = lowerBound(upper + 1);
+        for (int i = from; i < to; i++) {
+            result.set((int) pricePairs[i]);
+        }
+        return result;
+    }
+
+    private int lowerBound(long price) {
+        int low = 0;
+        int high = priceCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (pricePairs[mid] >> 32 < price) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int add(TalentDocument talent) {
+        int ordinal = documents.size();
+        documents.add(talent);
+        sortKeys.add(talent.sortKey());
+        ordinals.put(talent.id(), ordinal);
+        index(ordinal, talent);
+        return ordinal;
+    }
+
+    private void index(int ordinal, TalentDocument talent) {
+        live.set(ordinal);
+        names.add(ordinal, talent.fullName());
+        talent.skills().forEach(skill -> skills.add(skill, ordinal));
+        locations.add(talent.currentLocation(), ordinal);
+        for (String location : talent.locations()) {
+            places.add(location, ordinal);
+            regionHierarchy.regionsOf(location).forEach(region -> regions.add(region, ordinal));
+            Place place = regionHierarchy.locate(location);
+            if (place != null) {
+                points.add(place.id(), ordinal);
+            }
+        }
+        skkLevels.add(talent.skkLevel(), ordinal);
+    }
+
+    private void unindex(int ordinal) {
+        TalentDocument talent = documents.get(ordinal);
+        live.clear(ordinal);
+        names.remove(ordinal, talent.fullName());
+        talent.skills().forEach(skill -> skills.remove(skill, ordinal));
+        locations.remove(talent.currentLocation(), ordinal);
+        for (String location : talent.locations()) {
+            places.remove(location, ordinal);
+            regionHierarchy.regionsOf(location).forEach(region -> regions.remove(region, ordinal));
+            Place place = regionHierarchy.locate(location);
+            if (place != null) {
+                points.remove(place.id(), ordinal);
+            }
+        }
+        skkLevels.remove(talent.skkLevel(), ordinal);
+    }
+
+    private void sortAll() {
+        pricePairs = live.stream()
+                .filter(ordinal -> documents.get(ordinal).price() != null)
+                .mapToLong(this::pricePair)
+                .sorted()
+                .toArray();
+        priceCount = pricePairs.length;
+
+        sortedOrdinals = live.stream()
+                .boxed()
+                .sorted(inNameOrder)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        sortedCount = sortedOrdinals.length;
+    }
+
+    private void order(int ordinal) {
+        int at = countUpTo(sortKeys.get(ordinal));
+        sortedOrdinals = insert(sortedOrdinals, sortedCount++, at, ordinal);
+        if (documents.get(ordinal).price() != null) {
+            long pair = pricePair(ordinal);
+            int priceAt = -Arrays.binarySearch(pricePairs, 0, priceCount, pair) - 1;
+            pricePairs = insert(pricePairs, priceCount++, priceAt, pair);
+        }
+    }
+
+    private void unorder(int ordinal) {
+        // Sort keys are unique, so the talent is the last entry not after its own key
+        int at = countUpTo(sortKeys.get(ordinal)) - 1;
+        System.arraycopy(sortedOrdinals, at + 1, sortedOrdinals, at, --sortedCount - at);
+        if (documents.get(ordinal).price() != null) {
+            int priceAt = Arrays.binarySearch(pricePairs, 0, priceCount, pricePair(ordinal));
+            System.arraycopy(pricePairs, priceAt + 1, pricePairs, priceAt, --priceCount - priceAt);
+        }
+    }
+
+    // Number of sorted talents whose key is not after the given one
+    private int countUpTo(TalentSortKey key) {
+        int low = 0;
+        int high = sortedCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortKeys.get(sortedOrdinals[mid]).compareTo(key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private long pricePair(int ordinal) {
+        return ((long) documents.get(ordinal).price() << 32) | ordinal;
+    }
+
+    private static int[] insert(int[] values, int count, int at, int value) {
+        int[] target = count < values.length ? values : Arrays.copyOf(values, Math.max(16, count * 2));
+        System.arraycopy(values, at, target, at + 1, count - at);
+        target[at] = value;
+        return target;
+    }
+
+    private static long[] insert(long[] values, int count, int at, long value) {
+        long[] target = count < values.length ? values : Arrays.copyOf(values, Math.max(16, count * 2));
+        System.arraycopy(values, at, target, at + 1, count - at);
+        target[at] = value;
+        return target;
+    }
+
+    private enum Dimension {
+        NAME, LOCATION, GEO, SKILL, SKK_LEVEL, PRICE
+    }
+
+    private <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package rencanakan.id.talentpool.index;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import rencanakan.id.talentpool.model.User;
+
+/**
+ * Keeps {@link TalentIndex} in sync with writes to {@link User} and announces each change
+ * as a {@link TalentChangedEvent}. Changes are applied once the surrounding transaction
+ * commits so a rollback never leaks into the index.
+ */
+public class TalentIndexListener {
+
+    private final ObjectProvider<TalentIndex> talentIndex;
+    private final ObjectProvider<TalentTextIndex> textIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TalentIndexListener(ObjectProvider<TalentIndex> talentIndex, ObjectProvider<TalentTextIndex> textIndex,
+                               ApplicationEventPublisher eventPublisher) {
+        this.talentIndex = talentIndex;
+        this.textIndex = textIndex;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(User user) {
+        TalentDocument document = TalentDocument.of(user);
+        TalentText text = TalentText.of(user);
+        afterCommit(() -> {
+            textIndex.ifAvailable(index -> index.upsert(text));
+            TalentIndex index = talentIndex.getIfAvailable();
+            TalentDocument previous = index == null ? null : index.upsert(document);
+            eventPublisher.publishEvent(new TalentChangedEvent(previous, document.withLocationsOf(previous)));
+        });
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        TalentDocument document = TalentDocument.of(user);
+        afterCommit(() -> {
+            textIndex.ifAvailable(index -> index.remove(document.id()));
+            TalentIndex index = talentIndex.getIfAvailable();
+            TalentDocument previous = index == null ? null : index.remove(document.id());
+            eventPublisher.publishEvent(new TalentChangedEvent(previous != null ? previous : document, null));
+        });
+    }
+
+    public static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
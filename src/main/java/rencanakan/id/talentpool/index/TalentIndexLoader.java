@@ -0,0 +1,51 @@
+package rencanakan.id.talentpool.index;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import rencanakan.id.talentpool.repository.ExperienceRepository;
+import rencanakan.id.talentpool.repository.UserRepository;
+
+import java.util.List;
+
+@Component
+public class TalentIndexLoader {
+
+    private final UserRepository userRepository;
+    private final ExperienceRepository experienceRepository;
+    private final TalentIndex talentIndex;
+    private final TypeaheadIndex typeaheadIndex;
+    private final TalentTextIndex textIndex;
+
+    public TalentIndexLoader(UserRepository userRepository, ExperienceRepository experienceRepository, TalentIndex talentIndex,
+                             TypeaheadIndex typeaheadIndex, TalentTextIndex textIndex) {
+        this.userRepository = userRepository;
+        this.experienceRepository = experienceRepository;
+        this.talentIndex = talentIndex;
+        this.typeaheadIndex = typeaheadIndex;
+        this.textIndex = textIndex;
+    }
+
+    /**
+     * Loads the indexes while the application is already taking writes. Changes committed
+     * while the snapshot is read are recorded by each index and replayed on top of it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        talentIndex.beginRebuild();
+        typeaheadIndex.beginRebuild();
+        textIndex.beginRebuild();
+        try {
+            List<TalentDocument> talents = userRepository.loadTalentDocuments();
+            talentIndex.rebuild(talents);
+            typeaheadIndex.rebuild(talents);
+            textIndex.rebuild(userRepository.findAllTalentTexts(), experienceRepository.findAllTitles());
+        } catch (RuntimeException e) {
+            // Stop recording so a failed load does not keep every later write in memory
+            talentIndex.cancelRebuild();
+            typeaheadIndex.cancelRebuild();
+            textIndex.cancelRebuild();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package rencanakan.id.talentpool.index;
+
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.SkillMatch;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates a talent filter against a single talent in memory, with the same semantics
+ * as {@link TalentIndex#match(FilterTalentDTO)}.
+ */
+public final class TalentMatcher {
+
+    private TalentMatcher() {
+    }
+
+    public static boolean matches(FilterTalentDTO filter, TalentDocument talent) {
+        if (talent == null) {
+            return false;
+        }
+
+        if (Objects.nonNull(filter.getName()) && !filter.getName().trim().isEmpty()) {
+            String keyword = filter.getName().toLowerCase();
+            boolean nameMatches = Boolean.TRUE.equals(filter.getFuzzy())
+                    ? TrigramIndex.similarity(keyword.trim(), talent.fullName()) >= TalentIndex.SIMILARITY_THRESHOLD
+                    : talent.fullName().contains(keyword);
+            if (!nameMatches) {
+                return false;
+            }
+        }
+
+        if (!locatedIn(filter.getPreferredLocations(), talent)
+                || !near(GeoRadius.of(filter), talent)
+                || !skillsMatch(filter, talent)
+                || !anyOf(filter.getSkkLevels(), talent.skkLevel())) {
+            return false;
+        }
+
+        if (Objects.nonNull(filter.getPriceRange()) && filter.getPriceRange().size() == 2) {
+            Double minPrice = filter.getPriceRange().get(0);
+            Double maxPrice = filter.getPriceRange().get(1);
+            return talent.price() != null && minPrice != null && maxPrice != null
+                    && talent.price() >= minPrice && talent.price() <= maxPrice;
+        }
+
+        return true;
+    }
+
+    private static boolean skillsMatch(FilterTalentDTO filter, TalentDocument talent) {
+        if (Objects.isNull(filter.getSkills()) || filter.getSkills().isEmpty()) {
+            return true;
+        }
+
+        Set<String> owned = talent.skills().stream().map(TalentDocument::normalize).collect(Collectors.toSet());
+        List<String> requested = TalentIndex.skillTerms(filter.getSkills());
+        return filter.getSkillMatch() == SkillMatch.ALL
+                ? !requested.isEmpty() && owned.containsAll(requested)
+                : requested.stream().anyMatch(owned::contains);
+    }
+
+    private static boolean locatedIn(List<String> regions, TalentDocument talent) {
+        if (Objects.isNull(regions) || regions.isEmpty()) {
+            return true;
+        }
+
+        RegionHierarchy hierarchy = RegionHierarchy.indonesia();
+        return regions.stream().anyMatch(region -> talent.locations().stream()
+                .anyMatch(location -> hierarchy.contains(region, location)));
+    }
+
+    private static boolean near(GeoRadius radius, TalentDocument talent) {
+        if (radius == null) {
+            return true;
+        }
+
+        RegionHierarchy hierarchy = RegionHierarchy.indonesia();
+        return talent.locations().stream()
+                .map(hierarchy::locate)
+                .anyMatch(place -> place != null && radius.contains(place.point()));
+    }
+
+    private static boolean anyOf(List<String> terms, String value) {
+        if (Objects.isNull(terms) || terms.isEmpty()) {
+            return true;
+        }
+
+        String normalized = TalentDocument.normalize(value);
+        return normalized != null && terms.stream()
+                .map(TalentDocument::normalize)
+                .anyMatch(normalized::equals);
+    }
+}
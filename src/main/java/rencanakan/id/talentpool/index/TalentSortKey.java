@@ -0,0 +1,36 @@
+package rencanakan.id.talentpool.index;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Position of a talent in (firstName, lastName, id) order. Names compare like the database's
+ * linguistic collation: letters first, case and accents only break ties ("alice" before "Bob",
+ * "Élodie" before "Emma"), so index pages and cursors agree with the database fallback.
+ * The collation keys are computed once per write, so comparing two keys is a plain byte
+ * comparison rather than a call into the synchronized {@link Collator}.
+ */
+public record TalentSortKey(CollationKey firstName, CollationKey lastName, String id) implements Comparable<TalentSortKey> {
+
+    private static final Collator COLLATOR = Collator.getInstance(Locale.ROOT);
+    private static final Comparator<CollationKey> NAMES = Comparator.nullsLast(Comparator.naturalOrder());
+    private static final Comparator<TalentSortKey> ORDER = Comparator
+            .comparing(TalentSortKey::firstName, NAMES)
+            .thenComparing(TalentSortKey::lastName, NAMES)
+            .thenComparing(TalentSortKey::id);
+
+    public static TalentSortKey of(String firstName, String lastName, String id) {
+        return new TalentSortKey(collationKey(firstName), collationKey(lastName), id);
+    }
+
+    private static CollationKey collationKey(String name) {
+        return name == null ? null : COLLATOR.getCollationKey(name);
+    }
+
+    @Override
+    public int compareTo(TalentSortKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,13 @@
+package rencanakan.id.talentpool.index;
+
+import rencanakan.id.talentpool.model.User;
+
+/**
+ * The free-text profile fields of a talent that {@link TalentTextIndex} searches.
+ */
+public record TalentText(String id, String skill, String aboutMe) {
+
+    public static TalentText of(User user) {
+        return new TalentText(user.getId(), user.getSkill(), user.getAboutMe());
+    }
+}
@@ -0,0 +1,8 @@
+package rencanakan.id.talentpool.index;
+
+/**
+ * Published after a write that only changes what {@link TalentTextIndex} knows about a
+ * talent, such as an experience title.
+ */
+public record TalentTextChangedEvent(String talentId) {
+}
@@ -0,0 +1,207 @@
+package rencanakan.id.talentpool.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-process inverted index over each talent's about me, skill and experience titles,
+ * ranked with Okapi BM25. Skill and title terms count double since they say more about
+ * a talent than a word in free text. Every term frequency is kept per talent so a single
+ * profile or experience write is re-indexed without touching the rest.
+ */
+@Component
+public class TalentTextIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int SKILL_WEIGHT = 2;
+    private static final int TITLE_WEIGHT = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RebuildJournal journal = new RebuildJournal();
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private long totalLength;
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Starts recording writes so the next {@link #rebuild} replays the ones its snapshot
+     * may have missed.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            journal.start();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void cancelRebuild() {
+        lock.writeLock().lock();
+        try {
+            journal.cancel();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<TalentText> talents, Collection<ExperienceTitle> titles) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            entries.clear();
+            totalLength = 0;
+
+            talents.forEach(talent -> entry(talent.id()).profile = profileTerms(talent));
+            titles.forEach(title -> entry(title.talentId()).titles.put(title.experienceId(), termFrequencies(title.title(), TITLE_WEIGHT)));
+            entries.forEach(this::post);
+            journal.replay();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(TalentText talent) {
+        write(talent.id(), entry -> entry.profile = profileTerms(talent));
+    }
+
+    public void putExperience(ExperienceTitle title) {
+        write(title.talentId(), entry -> entry.titles.put(title.experienceId(), termFrequencies(title.title(), TITLE_WEIGHT)));
+    }
+
+    public void removeExperience(String talentId, Long experienceId) {
+        write(talentId, entry -> entry.titles.remove(experienceId));
+    }
+
+    public void remove(String talentId) {
+        lock.writeLock().lock();
+        try {
+            journal.record(() -> remove(talentId));
+            Entry entry = entries.remove(talentId);
+            if (entry != null) {
+                unpost(talentId, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Scores every talent containing at least one query term. Talents without any score
+     * are left out.
+     */
+    public Map<String, Double> search(String query) {
+        Collection<String> terms = new LinkedHashSet<>(IndonesianAnalyzer.analyze(query));
+
+        lock.readLock().lock();
+        try {
+            Map<String, Double> scores = new HashMap<>();
+            if (entries.isEmpty()) {
+                return scores;
+            }
+
+            int talents = entries.size();
+            double averageLength = Math.max(1.0, (double) totalLength / talents);
+            for (String term : terms) {
+                Map<String, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (talents - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((id, frequency) -> {
+                    double norm = K1 * (1 - B + B * entries.get(id).length / averageLength);
+                    scores.merge(id, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(String talentId, Consumer<Entry> change) {
+        lock.writeLock().lock();
+        try {
+            journal.record(() -> write(talentId, change));
+            Entry entry = entries.get(talentId);
+            if (entry != null) {
+                unpost(talentId, entry);
+            } else {
+                entry = entry(talentId);
+            }
+            change.accept(entry);
+            post(talentId, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Entry entry(String talentId) {
+        return entries.computeIfAbsent(talentId, id -> new Entry());
+    }
+
+    private void post(String talentId, Entry entry) {
+        Map<String, Integer> frequencies = new HashMap<>(entry.profile);
+        entry.titles.values().forEach(title -> title.forEach((term, frequency) -> frequencies.merge(term, frequency, Integer::sum)));
+
+        entry.frequencies = frequencies;
+        entry.length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        totalLength += entry.length;
+        frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, k -> new HashMap<>()).put(talentId, frequency));
+    }
+
+    private void unpost(String talentId, Entry entry) {
+        totalLength -= entry.length;
+        entry.frequencies.keySet().forEach(term -> {
+            Map<String, Integer> posting = postings.get(term);
+            posting.remove(talentId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+    }
+
+    private static Map<String, Integer> profileTerms(TalentText talent) {
+        Map<String, Integer> frequencies = termFrequencies(talent.aboutMe(), 1);
+        termFrequencies(talent.skill(), SKILL_WEIGHT).forEach((term, frequency) -> frequencies.merge(term, frequency, Integer::sum));
+        return frequencies;
+    }
+
+    private static Map<String, Integer> termFrequencies(String text, int weight) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        IndonesianAnalyzer.analyze(text).forEach(term -> frequencies.merge(term, weight, Integer::sum));
+        return frequencies;
+    }
+
+    private static final class Entry {
+
+        private Map<String, Integer> profile = Map.of();
+        private final Map<Long, Map<String, Integer>> titles = new HashMap<>();
+        private Map<String, Integer> frequencies = Map.of();
+        private int length;
+    }
+}
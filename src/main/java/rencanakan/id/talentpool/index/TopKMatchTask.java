@@ -0,0 +1,77 @@
+package rencanakan.id.talentpool.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Scores a range of index ordinals and keeps only the best {@code k} in a bounded min-heap.
+ * Large ranges are split in half and the partial heaps are merged on the way back up.
+ */
+class TopKMatchTask extends RecursiveTask<PriorityQueue<TopKMatchTask.Candidate>> {
+
+    record Candidate(int ordinal, double score) {
+    }
+
+    // Worst candidate first: lowest score, and on equal scores the later ordinal
+    static final Comparator<Candidate> WORST_FIRST = Comparator.comparingDouble(Candidate::score)
+            .thenComparing(Candidate::ordinal, Comparator.reverseOrder());
+
+    private static final int LEAF_SIZE = 1 << 14;
+
+    private final MatchScorer scorer;
+    private final BitSet live;
+    private final int from;
+    private final int to;
+    private final int k;
+
+    TopKMatchTask(MatchScorer scorer, BitSet live, int from, int to, int k) {
+        this.scorer = scorer;
+        this.live = live;
+        this.from = from;
+        this.to = to;
+        this.k = k;
+    }
+
+    static List<Candidate> bestFirst(PriorityQueue<Candidate> heap) {
+        List<Candidate> candidates = new ArrayList<>(heap);
+        candidates.sort(WORST_FIRST.reversed());
+        return candidates;
+    }
+
+    @Override
+    protected PriorityQueue<Candidate> compute() {
+        if (to - from <= LEAF_SIZE) {
+            PriorityQueue<Candidate> heap = new PriorityQueue<>(k + 1, WORST_FIRST);
+            for (int ordinal = live.nextSetBit(from); ordinal >= 0 && ordinal < to; ordinal = live.nextSetBit(ordinal + 1)) {
+                double score = scorer.score(ordinal);
+                if (score > 0) {
+                    offer(heap, new Candidate(ordinal, score));
+                }
+            }
+            return heap;
+        }
+
+        int middle = (from + to) >>> 1;
+        TopKMatchTask left = new TopKMatchTask(scorer, live, from, middle, k);
+        TopKMatchTask right = new TopKMatchTask(scorer, live, middle, to, k);
+        left.fork();
+        PriorityQueue<Candidate> heap = right.compute();
+        for (Candidate candidate : left.join()) {
+            offer(heap, candidate);
+        }
+        return heap;
+    }
+
+    private void offer(PriorityQueue<Candidate> heap, Candidate candidate) {
+        if (heap.size() < k) {
+            heap.add(candidate);
+        } else if (WORST_FIRST.compare(candidate, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package rencanakan.id.talentpool.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trigram posting lists over normalized talent names. Substring lookups intersect the
+ * postings of every trigram in the keyword to narrow candidates before verification,
+ * and similarity lookups count shared trigrams so near matches such as typos can be found.
+ */
+public class TrigramIndex {
+
+    private final Map<String, BitSet> postings = new HashMap<>();
+
+    public void add(int ordinal, String text) {
+        for (String gram : trigrams(pad(text))) {
+            postings.computeIfAbsent(gram, k -> new BitSet()).set(ordinal);
+        }
+    }
+
+    public void remove(int ordinal, String text) {
+        for (String gram : trigrams(pad(text))) {
+            BitSet posting = postings.get(gram);
+            if (posting != null) {
+                posting.clear(ordinal);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the ordinals whose text contains every trigram of {@code keyword}, or
+     * {@code null} when the keyword is too short to be narrowed by trigrams.
+     */
+    public BitSet candidates(String keyword) {
+        Set<String> grams = trigrams(keyword);
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        List<BitSet> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            BitSet posting = postings.get(gram);
+            if (posting == null) {
+                return new BitSet();
+            }
+            lists.add(posting);
+        }
+
+        // Start from the rarest trigram so the intersection shrinks as early as possible
+        lists.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet result = (BitSet) lists.get(0).clone();
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.and(lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ordinals sharing at least {@code threshold} of the query's trigrams.
+     */
+    public BitSet similar(String query, double threshold) {
+        Set<String> grams = trigrams(pad(query));
+        BitSet result = new BitSet();
+        if (grams.isEmpty()) {
+            return result;
+        }
+
+        int required = Math.max(1, (int) Math.ceil(threshold * grams.size()));
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (String gram : grams) {
+            BitSet posting = postings.get(gram);
+            if (posting == null) {
+                continue;
+            }
+            for (int ordinal = posting.nextSetBit(0); ordinal >= 0; ordinal = posting.nextSetBit(ordinal + 1)) {
+                if (shared.merge(ordinal, 1, Integer::sum) == required) {
+                    result.set(ordinal);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Share of the query's trigrams that also occur in {@code text}, between 0 and 1.
+     */
+    public static double similarity(String query, String text) {
+        Set<String> queryGrams = trigrams(pad(query));
+        if (queryGrams.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> textGrams = trigrams(pad(text));
+        long shared = queryGrams.stream().filter(textGrams::contains).count();
+        return (double) shared / queryGrams.size();
+    }
+
+    private static String pad(String text) {
+        return "  " + text + " ";
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 3));
+        }
+        return grams;
+    }
+}
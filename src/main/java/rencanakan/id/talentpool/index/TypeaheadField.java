@@ -0,0 +1,5 @@
+package rencanakan.id.talentpool.index;
+
+public enum TypeaheadField {
+    NAME, SKILL, LOCATION
+}
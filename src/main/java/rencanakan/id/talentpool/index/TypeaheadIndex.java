@@ -0,0 +1,122 @@
+package rencanakan.id.talentpool.index;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import rencanakan.id.talentpool.dto.TypeaheadSuggestionDTO;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Autocomplete over talent names, skills and locations, weighted by how many talents
+ * share each value. Built alongside {@link TalentIndex} and kept current from
+ * {@link TalentChangedEvent}s, so a keystroke never touches the database.
+ */
+@Component
+public class TypeaheadIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RebuildJournal journal = new RebuildJournal();
+    private final PrefixTrie trie = new PrefixTrie();
+    // Terms each talent contributed, so replaying a change the snapshot already holds is a no-op
+    private final Map<String, Collection<Term>> indexed = new HashMap<>();
+
+    /**
+     * Starts recording changes so the next {@link #rebuild} replays the ones its snapshot
+     * may have missed.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            journal.start();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void cancelRebuild() {
+        lock.writeLock().lock();
+        try {
+            journal.cancel();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Collection<TalentDocument> talents) {
+        lock.writeLock().lock();
+        try {
+            trie.clear();
+            indexed.clear();
+            talents.forEach(this::add);
+            journal.replay();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onTalentChanged(TalentChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            journal.record(() -> onTalentChanged(event));
+            TalentDocument talent = event.after() != null ? event.after() : event.before();
+            Collection<Term> previous = indexed.remove(talent.id());
+            if (previous != null) {
+                previous.forEach(term -> trie.remove(term.field(), term.label()));
+            }
+            if (event.after() != null) {
+                add(event.after());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<TypeaheadSuggestionDTO> suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return trie.top(prefix, limit).stream()
+                    .map(entry -> TypeaheadSuggestionDTO.builder()
+                            .value(entry.label)
+                            .type(entry.field.name().toLowerCase(Locale.ROOT))
+                            .count(entry.weight)
+                            .build())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(TalentDocument talent) {
+        Collection<Term> terms = terms(talent);
+        terms.forEach(term -> trie.add(term.field(), term.label()));
+        indexed.put(talent.id(), terms);
+    }
+
+    // One term per distinct value, so a talent counts once towards each suggestion
+    private static Collection<Term> terms(TalentDocument talent) {
+        Map<String, Term> terms = new LinkedHashMap<>();
+        add(terms, TypeaheadField.NAME, Objects.toString(talent.firstName(), "") + " " + Objects.toString(talent.lastName(), ""));
+        talent.skills().forEach(skill -> add(terms, TypeaheadField.SKILL, skill));
+        talent.locations().forEach(location -> add(terms, TypeaheadField.LOCATION, location));
+        return terms.values();
+    }
+
+    private static void add(Map<String, Term> terms, TypeaheadField field, String label) {
+        String key = TalentDocument.normalize(label);
+        if (key != null && !key.isEmpty()) {
+            terms.putIfAbsent(field + ":" + key, new Term(field, label));
+        }
+    }
+
+    private record Term(TypeaheadField field, String label) {
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.validation.constraints.*;
 import lombok.*;
 import rencanakan.id.talentpool.enums.EmploymentType;
 import rencanakan.id.talentpool.enums.LocationType;
+import rencanakan.id.talentpool.index.ExperienceIndexListener;
 
 import java.time.LocalDate;
 
@@ -15,6 +16,7 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "experience")
+@EntityListeners(ExperienceIndexListener.class)
 public class Experience {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
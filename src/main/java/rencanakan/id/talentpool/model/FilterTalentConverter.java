@@ -0,0 +1,31 @@
+package rencanakan.id.talentpool.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+
+@Converter
+public class FilterTalentConverter implements AttributeConverter<FilterTalentDTO, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(FilterTalentDTO filter) {
+        try {
+            return filter == null ? null : MAPPER.writeValueAsString(filter);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to store filter", e);
+        }
+    }
+
+    @Override
+    public FilterTalentDTO convertToEntityAttribute(String json) {
+        try {
+            return json == null ? null : MAPPER.readValue(json, FilterTalentDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to read stored filter", e);
+        }
+    }
+}
@@ -2,7 +2,12 @@ package rencanakan.id.talentpool.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 @Getter
 @Setter
@@ -10,13 +15,34 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "password_reset_tokens")
+@Table(name = "password_reset_tokens", indexes = {
+        @Index(name = "uk_password_reset_tokens_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_password_reset_tokens_email_used", columnList = "email, used"),
+        @Index(name = "idx_password_reset_tokens_expiry_date", columnList = "expiry_date")})
 public class PasswordResetToken {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+
+    @Column(name = "email", nullable = false)
     private String email;
-    private String token;
+
+    // Only the emailed token's SHA-256 is stored, so a leaked table can't reset passwords
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "expiry_date", nullable = false)
     private LocalDateTime expiryDate;
+
+    @Column(name = "used", nullable = false)
     private boolean used;
-}
\ No newline at end of file
+
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
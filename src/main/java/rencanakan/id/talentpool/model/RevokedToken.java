@@ -0,0 +1,24 @@
+package rencanakan.id.talentpool.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
+public class RevokedToken {
+
+    @Id
+    @Column(name = "jti", length = 64)
+    private String jti;
+
+    // Once passed the token is rejected as expired anyway and the row can go
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
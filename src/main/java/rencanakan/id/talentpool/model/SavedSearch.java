@@ -0,0 +1,42 @@
+package rencanakan.id.talentpool.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "saved_search", indexes = @Index(name = "idx_saved_search_contractor", columnList = "contractor_id"))
+public class SavedSearch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(name = "contractor_id", nullable = false)
+    @NotNull(message = "Contractor ID is required")
+    private String contractorId;
+
+    @Column(name = "name", nullable = false)
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name cannot exceed 100 characters")
+    private String name;
+
+    @Convert(converter = FilterTalentConverter.class)
+    @Column(name = "search_filter", nullable = false, columnDefinition = "TEXT")
+    @NotNull(message = "Filter is required")
+    private FilterTalentDTO filter;
+
+    @CreationTimestamp
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+}
@@ -0,0 +1,37 @@
+package rencanakan.id.talentpool.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A talent that started matching a saved search, queued until the contractor collects it.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "saved_search_match", indexes = @Index(name = "idx_saved_search_match_search", columnList = "saved_search_id"))
+public class SavedSearchMatch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "saved_search_id", nullable = false)
+    @NotNull(message = "Saved search is required")
+    private SavedSearch savedSearch;
+
+    @Column(name = "talent_id", nullable = false)
+    @NotNull(message = "Talent ID is required")
+    private String talentId;
+
+    @CreationTimestamp
+    @Column(name = "matched_date", nullable = false, updatable = false)
+    private LocalDateTime matchedDate;
+}
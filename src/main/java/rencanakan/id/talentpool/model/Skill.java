@@ -0,0 +1,25 @@
+package rencanakan.id.talentpool.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Dictionary entry for one canonical (trimmed, lowercased) skill name. Talents link to
+ * skills through {@code user_skills}, so skill filters resolve through indexes instead of
+ * comparing the free-text {@link User#getSkill()} column.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "skills", indexes = @Index(name = "ux_skills_name", columnList = "name", unique = true))
+public class Skill {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", length = 255, nullable = false)
+    private String name;
+}
@@ -4,11 +4,15 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import rencanakan.id.talentpool.index.TalentIndexListener;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Getter
@@ -18,6 +22,7 @@ import java.util.UUID;
 @Builder
 @Entity
 @Table(name = "users")
+@EntityListeners(TalentIndexListener.class)
 public class User implements UserDetails {
 
     @Id
@@ -74,7 +79,9 @@ public class User implements UserDetails {
     @Column(name = "current_location", length = 255)
     private String currentLocation;
 
+    // Lazy per-user loads are batched so a page of N users costs one extra query, not N
     @ElementCollection
+    @BatchSize(size = 64)
     @CollectionTable(name = "user_preferred_locations", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "preferred_location")
     private List<String> preferredLocations;
@@ -82,9 +89,24 @@ public class User implements UserDetails {
     @Column(name = "skill", length = 255)
     private String skill;
 
+    @ManyToMany
+    @BatchSize(size = 64)
+    @JoinTable(
+            name = "user_skills",
+            joinColumns = @JoinColumn(name = "user_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_user_skills_skill", columnList = "skill_id, user_id"))
+    @Builder.Default
+    private Set<Skill> skills = new HashSet<>();
+
     @Column(name = "price")
     private Integer price;
 
+    // Carried in every JWT; bumping it invalidates the tokens issued before
+    @Column(name = "token_version", columnDefinition = "integer default 0 not null")
+    @Builder.Default
+    private int tokenVersion = 0;
+
     public void setId(String id) {
         this.id = (id == null) ? UUID.randomUUID().toString() : id;
     }
@@ -1,7 +1,9 @@
 package rencanakan.id.talentpool.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import rencanakan.id.talentpool.index.ExperienceTitle;
 import rencanakan.id.talentpool.model.Experience;
 
 import java.util.List;
@@ -9,4 +11,7 @@ import java.util.List;
 @Repository
 public interface ExperienceRepository extends JpaRepository<Experience, Long> {
     List<Experience> findByUserId(String userId);
+
+    @Query("select new rencanakan.id.talentpool.index.ExperienceTitle(e.user.id, e.id, e.title) from Experience e")
+    List<ExperienceTitle> findAllTitles();
 }
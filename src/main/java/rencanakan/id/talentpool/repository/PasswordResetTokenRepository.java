@@ -1,11 +1,19 @@
 package rencanakan.id.talentpool.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import rencanakan.id.talentpool.model.PasswordResetToken;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
-    Optional<PasswordResetToken> findByToken(String token);
+    Optional<PasswordResetToken> findByTokenHash(String tokenHash);
     Optional<PasswordResetToken> findByEmailAndUsedIsFalse(String email);
-}
\ No newline at end of file
+
+    @Query("select t.id from PasswordResetToken t where t.used = true or t.expiryDate < :now order by t.id")
+    List<Long> findPurgeableIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,4 @@
+package rencanakan.id.talentpool.repository;
+
+public record PreferredLocation(String userId, String location) {
+}
@@ -0,0 +1,22 @@
+package rencanakan.id.talentpool.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import rencanakan.id.talentpool.model.SavedSearch;
+import rencanakan.id.talentpool.model.SavedSearchMatch;
+
+import java.util.List;
+
+@Repository
+public interface SavedSearchMatchRepository extends JpaRepository<SavedSearchMatch, String> {
+
+    @Query("select m from SavedSearchMatch m join fetch m.savedSearch s where s.contractorId = :contractorId order by m.matchedDate")
+    List<SavedSearchMatch> findQueuedFor(@Param("contractorId") String contractorId);
+
+    @Modifying
+    @Query("delete from SavedSearchMatch m where m.savedSearch = :savedSearch")
+    void deleteBySavedSearch(@Param("savedSearch") SavedSearch savedSearch);
+}
@@ -0,0 +1,12 @@
+package rencanakan.id.talentpool.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import rencanakan.id.talentpool.model.SavedSearch;
+
+import java.util.List;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, String> {
+    List<SavedSearch> findByContractorIdOrderByCreatedDateAsc(String contractorId);
+}
@@ -0,0 +1,19 @@
+package rencanakan.id.talentpool.repository;
+
+/**
+ * Narrow read model for talent listings. Only the columns shown on a search result card are
+ * selected, so the wide profile columns (about me, identity numbers, document photos, password)
+ * are never read from the database.
+ */
+public record TalentCard(
+        String id,
+        String firstName,
+        String lastName,
+        String photo,
+        String skill,
+        String currentLocation,
+        String skkLevel,
+        Integer experienceYears,
+        Integer price
+) {
+}
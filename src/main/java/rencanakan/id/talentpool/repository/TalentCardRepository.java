@@ -0,0 +1,16 @@
+package rencanakan.id.talentpool.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import rencanakan.id.talentpool.model.User;
+
+import java.util.List;
+
+public interface TalentCardRepository {
+    Page<TalentCard> findCards(Specification<User> specification, Pageable pageable);
+    Slice<TalentCard> findCardSlice(Specification<User> specification, Pageable pageable);
+    List<TalentCard> findCards(Specification<User> specification, Sort sort, int limit);
+}
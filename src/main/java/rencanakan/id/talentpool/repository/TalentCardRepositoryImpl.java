@@ -0,0 +1,90 @@
+package rencanakan.id.talentpool.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import rencanakan.id.talentpool.model.User;
+
+import java.util.List;
+
+public class TalentCardRepositoryImpl implements TalentCardRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TalentCard> findCards(Specification<User> specification, Pageable pageable) {
+        List<TalentCard> cards = select(specification, pageable.getSort(), (int) pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(cards, pageable, () -> count(specification));
+    }
+
+    // Reads one row past the page to learn whether another page exists, without counting
+    @Override
+    public Slice<TalentCard> findCardSlice(Specification<User> specification, Pageable pageable) {
+        List<TalentCard> cards = select(specification, pageable.getSort(), (int) pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = cards.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? cards.subList(0, pageable.getPageSize()) : cards, pageable, hasNext);
+    }
+
+    @Override
+    public List<TalentCard> findCards(Specification<User> specification, Sort sort, int limit) {
+        return select(specification, sort, 0, limit);
+    }
+
+    private List<TalentCard> select(Specification<User> specification, Sort sort, int offset, int limit) {
+        return entityManager.createQuery(cardQuery(specification, sort))
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private CriteriaQuery<TalentCard> cardQuery(Specification<User> specification, Sort sort) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TalentCard> query = builder.createQuery(TalentCard.class);
+        Root<User> root = query.from(User.class);
+
+        query.select(builder.construct(TalentCard.class,
+                root.get("id"),
+                root.get("firstName"),
+                root.get("lastName"),
+                root.get("photo"),
+                root.get("skill"),
+                root.get("currentLocation"),
+                root.get("skkLevel"),
+                root.get("experienceYears"),
+                root.get("price")));
+
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        return query;
+    }
+
+    private long count(Specification<User> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<User> root = query.from(User.class);
+
+        query.select(builder.count(root));
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,4 @@
+package rencanakan.id.talentpool.repository;
+
+public record UserIdentity(String email, String nik, String npwp, String phoneNumber) {
+}
@@ -3,15 +3,69 @@ package rencanakan.id.talentpool.repository;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import rencanakan.id.talentpool.index.TalentDocument;
+import rencanakan.id.talentpool.index.TalentText;
 import rencanakan.id.talentpool.model.User;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, String>, JpaSpecificationExecutor<User> {
+public interface UserRepository extends JpaRepository<User, String>, JpaSpecificationExecutor<User>, TalentCardRepository {
     Optional<User> findByEmail(String email);
     Optional<User> findByNik(String nik);
     Optional<User> findByNpwp(String npwp);
     Optional<User> findByPhoneNumber(String phoneNumber);
+
+    // One round trip for every unique field a signup could collide on
+    @Query("select new rencanakan.id.talentpool.repository.UserIdentity(u.email, u.nik, u.npwp, u.phoneNumber) from User u " +
+            "where u.email = :email or u.nik = :nik or u.npwp = :npwp or u.phoneNumber = :phoneNumber")
+    List<UserIdentity> findIdentityCollisions(@Param("email") String email, @Param("nik") String nik,
+                                              @Param("npwp") String npwp, @Param("phoneNumber") String phoneNumber);
+
+    @Query("select new rencanakan.id.talentpool.repository.UserIdentity(u.email, u.nik, u.npwp, u.phoneNumber) from User u " +
+            "where u.email in :emails or u.nik in :niks or u.npwp in :npwps or u.phoneNumber in :phoneNumbers")
+    List<UserIdentity> findIdentitiesIn(@Param("emails") Collection<String> emails, @Param("niks") Collection<String> niks,
+                                        @Param("npwps") Collection<String> npwps, @Param("phoneNumbers") Collection<String> phoneNumbers);
+
+    @Query("select new rencanakan.id.talentpool.repository.UserIdentity(u.email, u.nik, u.npwp, u.phoneNumber) from User u")
+    List<UserIdentity> findAllIdentities();
+
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") String id);
+    List<User> findTop500BySkillIsNotNullAndSkillsIsEmptyAndIdGreaterThanOrderByIdAsc(String id);
+
+    @Query("select new rencanakan.id.talentpool.index.TalentDocument(u.id, u.firstName, u.lastName, u.skill, " +
+            "u.currentLocation, u.skkLevel, u.experienceYears, u.price) from User u")
+    List<TalentDocument> findAllTalentDocuments();
+
+    @Query("select new rencanakan.id.talentpool.repository.PreferredLocation(u.id, l) from User u join u.preferredLocations l")
+    List<PreferredLocation> findAllPreferredLocations();
+
+    /**
+     * Loads every talent for the index with its preferred locations, in two queries.
+     */
+    default List<TalentDocument> loadTalentDocuments() {
+        Map<String, List<String>> preferredLocations = findAllPreferredLocations().stream()
+                .filter(row -> row.location() != null)
+                .collect(Collectors.groupingBy(PreferredLocation::userId,
+                        Collectors.mapping(PreferredLocation::location, Collectors.toList())));
+
+        return findAllTalentDocuments().stream()
+                .map(document -> document.withPreferredLocations(preferredLocations.getOrDefault(document.id(), List.of())))
+                .toList();
+    }
+
+    @Query("select new rencanakan.id.talentpool.index.TalentText(u.id, u.skill, u.aboutMe) from User u")
+    List<TalentText> findAllTalentTexts();
+
+    @Query("select new rencanakan.id.talentpool.repository.TalentCard(u.id, u.firstName, u.lastName, u.photo, u.skill, " +
+            "u.currentLocation, u.skkLevel, u.experienceYears, u.price) from User u where u.id in :ids")
+    List<TalentCard> findCardsByIds(@Param("ids") Collection<String> ids);
 }
\ No newline at end of file
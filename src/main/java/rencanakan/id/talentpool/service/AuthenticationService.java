@@ -2,8 +2,10 @@ package rencanakan.id.talentpool.service;
 
 import jakarta.validation.Valid;
 import org.apache.coyote.BadRequestException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import rencanakan.id.talentpool.dto.LoginRequestDTO;
@@ -11,10 +13,13 @@ import rencanakan.id.talentpool.dto.UserRequestDTO;
 import rencanakan.id.talentpool.model.PasswordResetToken;
 import rencanakan.id.talentpool.model.User;
 import rencanakan.id.talentpool.repository.PasswordResetTokenRepository;
+import rencanakan.id.talentpool.repository.UserIdentity;
 import rencanakan.id.talentpool.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 public class AuthenticationService {
@@ -23,36 +28,33 @@ public class AuthenticationService {
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final TokenVersions tokenVersions;
+    private final UserDetailsCache userDetailsCache;
+    private final UserIdentityPrefilter userIdentityPrefilter;
 
     public AuthenticationService(
             UserRepository userRepository,
             AuthenticationManager authenticationManager,
             PasswordEncoder passwordEncoder,
             UserService userService,
-            PasswordResetTokenRepository passwordResetTokenRepository) {
+            PasswordResetTokenRepository passwordResetTokenRepository,
+            TokenVersions tokenVersions,
+            UserDetailsCache userDetailsCache,
+            UserIdentityPrefilter userIdentityPrefilter) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.userService = userService;
         this.passwordResetTokenRepository = passwordResetTokenRepository;
+        this.tokenVersions = tokenVersions;
+        this.userDetailsCache = userDetailsCache;
+        this.userIdentityPrefilter = userIdentityPrefilter;
     }
 
     public User signup(@Valid UserRequestDTO request) throws BadRequestException {
-        Optional<User> existingUserByEmail = userRepository.findByEmail(request.getEmail());
-        if (existingUserByEmail.isPresent()) {
-            throw new BadRequestException("Email " + request.getEmail() + " is already in use.");
-        }
-        Optional<User> existingUserByNik = userRepository.findByNik(request.getNik());
-        if (existingUserByNik.isPresent()) {
-            throw new BadRequestException("NIK " + request.getNik() + " is already in use.");
-        }
-        Optional<User> existingUserByNpwp = userRepository.findByNpwp(request.getNpwp());
-        if (existingUserByNpwp.isPresent()) {
-            throw new BadRequestException("NPWP " + request.getNpwp() + " is already in use.");
-        }
-        Optional<User> existingUserByPhoneNumber = userRepository.findByPhoneNumber(request.getPhoneNumber());
-        if (existingUserByPhoneNumber.isPresent()) {
-            throw new BadRequestException("Phone number " + request.getPhoneNumber() + " is already in use.");
+        UserIdentity identity = new UserIdentity(request.getEmail(), request.getNik(), request.getNpwp(), request.getPhoneNumber());
+        if (userIdentityPrefilter.mightExist(identity)) {
+            rejectCollisions(identity);
         }
 
         User newUser = User.builder()
@@ -75,21 +77,56 @@ public class AuthenticationService {
                 .skill(request.getSkill())
                 .price(request.getPrice())
                 .build();
-        return userRepository.save(newUser);
+        userService.assignSkills(newUser);
+
+        User saved;
+        try {
+            saved = userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            // Skipped or raced the pre-check; report the field the way the pre-check would
+            rejectCollisions(identity);
+            throw e;
+        }
+        userIdentityPrefilter.add(identity);
+        return saved;
+    }
+
+    private void rejectCollisions(UserIdentity identity) throws BadRequestException {
+        List<UserIdentity> collisions = userRepository.findIdentityCollisions(
+                identity.email(), identity.nik(), identity.npwp(), identity.phoneNumber());
+        if (collides(collisions, identity.email(), UserIdentity::email)) {
+            throw new BadRequestException("Email " + identity.email() + " is already in use.");
+        }
+        if (collides(collisions, identity.nik(), UserIdentity::nik)) {
+            throw new BadRequestException("NIK " + identity.nik() + " is already in use.");
+        }
+        if (collides(collisions, identity.npwp(), UserIdentity::npwp)) {
+            throw new BadRequestException("NPWP " + identity.npwp() + " is already in use.");
+        }
+        if (collides(collisions, identity.phoneNumber(), UserIdentity::phoneNumber)) {
+            throw new BadRequestException("Phone number " + identity.phoneNumber() + " is already in use.");
+        }
+    }
+
+    private static boolean collides(List<UserIdentity> collisions, String value, Function<UserIdentity, String> field) {
+        return value != null && collisions.stream().anyMatch(existing -> value.equals(field.apply(existing)));
     }
 
     public User authenticate(LoginRequestDTO input) {
-        authenticationManager.authenticate(
+        // The provider has already loaded the user to check the password
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         input.getEmail(),
                         input.getPassword()
                 )
         );
-        return userRepository.findByEmail(input.getEmail()).orElse(null);
+        return (User) authentication.getPrincipal();
     }
 
     public void resetPasswordWithToken(String token, String newPassword) {
-        PasswordResetToken resetToken = passwordResetTokenRepository.findByToken(token)
+        PasswordResetToken resetToken = Optional.ofNullable(token)
+                .map(PasswordResetToken::hash)
+                .flatMap(passwordResetTokenRepository::findByTokenHash)
                 .orElseThrow(() -> new IllegalArgumentException("Token tidak valid"));
 
         if (resetToken.isUsed() || resetToken.getExpiryDate().isBefore(LocalDateTime.now())) {
@@ -100,7 +137,11 @@ public class AuthenticationService {
                 .orElseThrow(() -> new IllegalArgumentException("User tidak ditemukan"));
 
         user.setPassword(passwordEncoder.encode(newPassword));
+        // Tokens issued with the old password stop working
+        user.setTokenVersion(user.getTokenVersion() + 1);
         userRepository.save(user);
+        tokenVersions.update(user);
+        userDetailsCache.evict(user.getEmail());
 
         resetToken.setUsed(true);
         passwordResetTokenRepository.save(resetToken);
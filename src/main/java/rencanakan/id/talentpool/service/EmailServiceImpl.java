@@ -51,7 +51,7 @@ public class EmailServiceImpl implements EmailService {
 
         PasswordResetToken resetToken = PasswordResetToken.builder()
                 .email(email)
-                .token(token)
+                .tokenHash(PasswordResetToken.hash(token))
                 .expiryDate(expiry)
                 .used(false)
                 .build();
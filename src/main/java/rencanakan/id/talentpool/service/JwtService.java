@@ -1,14 +1,24 @@
 package rencanakan.id.talentpool.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -18,18 +28,48 @@ import rencanakan.id.talentpool.model.User;
 
 @Service
 public class JwtService {
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+
+
     @Value("${security.jwt.secret-key}")
     private String secretKey;
 
     @Value("${security.jwt.expiration-time}")
     private long jwtExpiration;
 
+    @Value("${security.jwt.verified-cache.maximum-size:10000}")
+    private long verifiedCacheSize = 10_000;
+
+    private volatile Verifier verifier;
+
+    /**
+     * Verifies the token's signature and returns its claims. Tokens verified recently are
+     * answered from a bounded cache keyed by their SHA-256 digest until they expire, so a
+     * client reusing its token skips the HMAC check and the JSON parse.
+     */
+    public Claims verify(String token) {
+        Verifier current = verifier();
+        if (current.verified() == null) {
+            return current.parser().parseClaimsJws(token).getBody();
+        }
+
+        String digest = digest(token);
+        Claims claims = current.verified().getIfPresent(digest);
+        if (claims == null) {
+            claims = current.parser().parseClaimsJws(token).getBody();
+            if (!isExpired(claims)) {
+                current.verified().put(digest, claims);
+            }
+        }
+        return claims;
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = verify(token);
         return claimsResolver.apply(claims);
     }
 
@@ -54,10 +94,12 @@ public class JwtService {
         extraClaims.put("id", userDetails.getId());
         extraClaims.put("email", userDetails.getEmail());
         extraClaims.put("firstName", userDetails.getFirstName() + " " + userDetails.getLastName());
+        extraClaims.put(TOKEN_VERSION_CLAIM, userDetails.getTokenVersion());
         return Jwts
                 .builder()
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getEmail())
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
                 .signWith(getSignInKey(), SignatureAlgorithm.HS256)
@@ -65,28 +107,112 @@ public class JwtService {
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(verify(token), userDetails);
     }
 
-    public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        final String username = claims.getSubject();
+        return username != null && username.equals(userDetails.getUsername()) && !isExpired(claims)
+                && (!(userDetails instanceof User user) || tokenVersion(claims) == user.getTokenVersion());
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /**
+     * The version the token was issued at. Tokens from before versions were added count as
+     * version 0.
+     */
+    public int tokenVersion(Claims claims) {
+        Integer version = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+        return version == null ? 0 : version;
     }
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey())
-                .setAllowedClockSkewSeconds(60L * 60 * 24 * 365 * 10)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+
+    /**
+     * A principal carrying only what the token says about the user: id and email. It is not
+     * a managed entity; load the user through {@link UserService} when more is needed.
+     */
+    public User principalOf(Claims claims) {
+        String id = claims.get("id", String.class);
+        if (id == null || claims.getSubject() == null || isExpired(claims)) {
+            return null;
+        }
+
+        User principal = new User();
+        principal.setId(id);
+        principal.setEmail(claims.getSubject());
+        principal.setTokenVersion(tokenVersion(claims));
+        return principal;
+    }
+
+    public boolean isTokenExpired(String token) {
+        return isExpired(verify(token));
+    }
+
+    private static boolean isExpired(Claims claims) {
+        return claims.getExpiration() == null || claims.getExpiration().before(new Date());
     }
 
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return verifier().key();
+    }
+
+    private Verifier verifier() {
+        Verifier current = verifier;
+        if (current == null) {
+            synchronized (this) {
+                current = verifier;
+                if (current == null) {
+                    current = Verifier.of(secretKey, verifiedCacheSize);
+                    verifier = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The decoded key, the parser built on it and the verified-token cache, created once.
+     * A maximum size of zero turns the cache off.
+     */
+    private record Verifier(Key key, JwtParser parser, Cache<String, Claims> verified) {
+
+        private static Verifier of(String secretKey, long maximumSize) {
+            Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+            JwtParser parser = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .setAllowedClockSkewSeconds(60L * 60 * 24 * 365 * 10)
+                    .build();
+            Cache<String, Claims> verified = maximumSize <= 0 ? null : Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfter(new UntilExpiration())
+                    .build();
+            return new Verifier(key, parser, verified);
+        }
+    }
+
+    private static final class UntilExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+            long remaining = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remaining));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
\ No newline at end of file
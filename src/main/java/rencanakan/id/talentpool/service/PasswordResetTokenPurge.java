@@ -0,0 +1,44 @@
+package rencanakan.id.talentpool.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rencanakan.id.talentpool.repository.PasswordResetTokenRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Deletes used and expired password reset tokens on a schedule. Rows go in chunks of ids,
+ * each deleted in its own short transaction, so a large backlog never holds locks on the
+ * table for long and resets keep working while it is purged.
+ */
+@Component
+public class PasswordResetTokenPurge {
+
+    private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final int chunkSize;
+
+    public PasswordResetTokenPurge(
+            PasswordResetTokenRepository passwordResetTokenRepository,
+            @Value("${security.password-reset.purge-chunk-size:500}") int chunkSize) {
+        this.passwordResetTokenRepository = passwordResetTokenRepository;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Scheduled(fixedDelayString = "${security.password-reset.purge-interval:1h}")
+    public int purge() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        List<Long> ids;
+        do {
+            ids = passwordResetTokenRepository.findPurgeableIds(now, PageRequest.of(0, chunkSize));
+            if (!ids.isEmpty()) {
+                passwordResetTokenRepository.deleteAllByIdInBatch(ids);
+                purged += ids.size();
+            }
+        } while (ids.size() == chunkSize);
+        return purged;
+    }
+}
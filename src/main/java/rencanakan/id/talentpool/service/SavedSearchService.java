@@ -0,0 +1,14 @@
+package rencanakan.id.talentpool.service;
+
+import rencanakan.id.talentpool.dto.SavedSearchMatchDTO;
+import rencanakan.id.talentpool.dto.SavedSearchRequestDTO;
+import rencanakan.id.talentpool.dto.SavedSearchResponseDTO;
+
+import java.util.List;
+
+public interface SavedSearchService {
+    SavedSearchResponseDTO create(String contractorId, SavedSearchRequestDTO request);
+    List<SavedSearchResponseDTO> getByContractorId(String contractorId);
+    SavedSearchResponseDTO deleteById(String contractorId, String id);
+    List<SavedSearchMatchDTO> collectMatches(String contractorId);
+}
@@ -0,0 +1,161 @@
+package rencanakan.id.talentpool.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import rencanakan.id.talentpool.dto.SavedSearchMatchDTO;
+import rencanakan.id.talentpool.dto.SavedSearchRequestDTO;
+import rencanakan.id.talentpool.dto.SavedSearchResponseDTO;
+import rencanakan.id.talentpool.index.GeoRadius;
+import rencanakan.id.talentpool.index.SavedSearchPercolator;
+import rencanakan.id.talentpool.index.TalentChangedEvent;
+import rencanakan.id.talentpool.model.SavedSearch;
+import rencanakan.id.talentpool.model.SavedSearchMatch;
+import rencanakan.id.talentpool.repository.SavedSearchMatchRepository;
+import rencanakan.id.talentpool.repository.SavedSearchRepository;
+import rencanakan.id.talentpool.repository.TalentCard;
+import rencanakan.id.talentpool.repository.UserRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Saved talent searches for contractors. Every committed talent change is percolated
+ * through the saved filters and the searches it newly satisfies get the talent queued,
+ * so contractors collect new matches instead of re-running their searches.
+ */
+@Service
+public class SavedSearchServiceImpl implements SavedSearchService {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMatchRepository savedSearchMatchRepository;
+    private final UserRepository userRepository;
+    private final SavedSearchPercolator percolator;
+    private final Executor executor;
+
+    public SavedSearchServiceImpl(
+            SavedSearchRepository savedSearchRepository,
+            SavedSearchMatchRepository savedSearchMatchRepository,
+            UserRepository userRepository,
+            SavedSearchPercolator percolator,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.savedSearchMatchRepository = savedSearchMatchRepository;
+        this.userRepository = userRepository;
+        this.percolator = percolator;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPercolator() {
+        percolator.rebuild(savedSearchRepository.findAll().stream()
+                .collect(Collectors.toMap(SavedSearch::getId, SavedSearch::getFilter)));
+    }
+
+    @Override
+    public SavedSearchResponseDTO create(String contractorId, SavedSearchRequestDTO request) {
+        // Rejects a bad radius or unknown centre now rather than on every talent change
+        GeoRadius.of(request.getFilter());
+        if (Objects.nonNull(request.getFilter().getQuery()) && !request.getFilter().getQuery().trim().isEmpty()) {
+            throw new IllegalArgumentException("Saved searches do not support full-text queries");
+        }
+
+        SavedSearch savedSearch = savedSearchRepository.save(SavedSearch.builder()
+                .contractorId(contractorId)
+                .name(request.getName())
+                .filter(request.getFilter())
+                .build());
+        percolator.register(savedSearch.getId(), savedSearch.getFilter());
+        return toResponse(savedSearch);
+    }
+
+    @Override
+    public List<SavedSearchResponseDTO> getByContractorId(String contractorId) {
+        return savedSearchRepository.findByContractorIdOrderByCreatedDateAsc(contractorId).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public SavedSearchResponseDTO deleteById(String contractorId, String id) {
+        SavedSearch savedSearch = savedSearchRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Saved search with id " + id + " not found."));
+        if (!savedSearch.getContractorId().equals(contractorId)) {
+            throw new AccessDeniedException("You are not allowed to delete this saved search.");
+        }
+
+        savedSearchMatchRepository.deleteBySavedSearch(savedSearch);
+        savedSearchRepository.delete(savedSearch);
+        percolator.unregister(id);
+        return toResponse(savedSearch);
+    }
+
+    /**
+     * Returns and dequeues the talents that started matching the contractor's saved searches.
+     */
+    @Override
+    @Transactional
+    public List<SavedSearchMatchDTO> collectMatches(String contractorId) {
+        List<SavedSearchMatch> matches = savedSearchMatchRepository.findQueuedFor(contractorId);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, TalentCard> cardsById = userRepository.findCardsByIds(matches.stream().map(SavedSearchMatch::getTalentId).distinct().toList()).stream()
+                .collect(Collectors.toMap(TalentCard::id, Function.identity()));
+        savedSearchMatchRepository.deleteAllInBatch(matches);
+
+        return matches.stream()
+                .filter(match -> cardsById.containsKey(match.getTalentId()))
+                .map(match -> SavedSearchMatchDTO.builder()
+                        .savedSearchId(match.getSavedSearch().getId())
+                        .savedSearchName(match.getSavedSearch().getName())
+                        .talent(UserServiceImpl.toCard(cardsById.get(match.getTalentId())))
+                        .matchedDate(match.getMatchedDate())
+                        .build())
+                .toList();
+    }
+
+    @EventListener
+    public void onTalentChanged(TalentChangedEvent event) {
+        if (event.after() == null) {
+            return;
+        }
+
+        Set<String> matched = percolator.percolate(event.after());
+        matched.removeAll(percolator.percolate(event.before()));
+        if (matched.isEmpty()) {
+            return;
+        }
+
+        // Runs after the talent's transaction has committed, so the queue write needs its own
+        String talentId = event.after().id();
+        executor.execute(() -> savedSearchMatchRepository.saveAll(savedSearchRepository.findAllById(matched).stream()
+                .map(savedSearch -> SavedSearchMatch.builder()
+                        .savedSearch(savedSearch)
+                        .talentId(talentId)
+                        .build())
+                .toList()));
+    }
+
+    private SavedSearchResponseDTO toResponse(SavedSearch savedSearch) {
+        return SavedSearchResponseDTO.builder()
+                .id(savedSearch.getId())
+                .contractorId(savedSearch.getContractorId())
+                .name(savedSearch.getName())
+                .filter(savedSearch.getFilter())
+                .createdDate(savedSearch.getCreatedDate())
+                .build();
+    }
+}
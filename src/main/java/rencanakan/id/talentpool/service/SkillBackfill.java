@@ -0,0 +1,58 @@
+package rencanakan.id.talentpool.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.repository.UserRepository;
+
+import java.util.List;
+
+/**
+ * Links talents saved before the skill dictionary existed to their skills. Runs once at
+ * startup in id order, one transaction per batch, and is a no-op once every talent is linked.
+ * Instances starting together race to insert the same skill names; the loser's batch rolls
+ * back on the unique name index and is retried, and then finds the winner's rows.
+ */
+@Component
+public class SkillBackfill {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+
+    public SkillBackfill(UserRepository userRepository, UserService userService, TransactionTemplate transactionTemplate) {
+        this.userRepository = userRepository;
+        this.userService = userService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        String lastId = "";
+        while (lastId != null) {
+            lastId = backfillAfter(lastId);
+        }
+    }
+
+    private String backfillAfter(String after) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    List<User> users = userRepository.findTop500BySkillIsNotNullAndSkillsIsEmptyAndIdGreaterThanOrderByIdAsc(after);
+                    userService.assignSkills(users);
+                    userRepository.saveAll(users);
+                    return users.isEmpty() ? null : users.get(users.size() - 1).getId();
+                });
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
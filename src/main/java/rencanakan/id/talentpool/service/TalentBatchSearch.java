@@ -0,0 +1,94 @@
+package rencanakan.id.talentpool.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.TalentBatchResultDTO;
+import rencanakan.id.talentpool.dto.TalentSearchQueryDTO;
+import rencanakan.id.talentpool.dto.UserResponseWithPagingDTO;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs several talent searches at once, one virtual thread each, through
+ * {@link UserService#filter}. The whole batch shares one deadline; a query still running
+ * when it passes is cancelled and reported as timed out while the others are returned.
+ */
+@Component
+public class TalentBatchSearch {
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final UserService userService;
+    private final Duration deadline;
+
+    public TalentBatchSearch(UserService userService,
+                             @Value("${talent.search.batch.deadline:2s}") Duration deadline) {
+        this.userService = userService;
+        this.deadline = deadline;
+    }
+
+    public List<TalentBatchResultDTO> search(List<TalentSearchQueryDTO> queries) {
+        List<Callable<UserResponseWithPagingDTO>> tasks = queries.stream()
+                .<Callable<UserResponseWithPagingDTO>>map(query -> () -> search(query))
+                .toList();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            return executor.invokeAll(tasks, deadline.toNanos(), TimeUnit.NANOSECONDS).stream()
+                    .map(TalentBatchSearch::resultOf)
+                    .toList();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Batch search was interrupted");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private UserResponseWithPagingDTO search(TalentSearchQueryDTO query) {
+        FilterTalentDTO filter = Objects.requireNonNullElseGet(query.getFilter(), FilterTalentDTO::new);
+        int page = Objects.requireNonNullElse(query.getPage(), 0);
+        int size = Objects.requireNonNullElse(query.getSize(), DEFAULT_PAGE_SIZE);
+        return userService.filter(filter, PageRequest.of(page, size));
+    }
+
+    private static TalentBatchResultDTO resultOf(Future<UserResponseWithPagingDTO> future) {
+        try {
+            return TalentBatchResultDTO.builder().result(future.get()).build();
+        } catch (CancellationException e) {
+            return TalentBatchResultDTO.builder().error("Search timed out").build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return TalentBatchResultDTO.builder().error("Search was interrupted").build();
+        } catch (ExecutionException e) {
+            return errorOf(e.getCause());
+        }
+    }
+
+    // A panel with no matches is an empty page, not a failed batch
+    private static TalentBatchResultDTO errorOf(Throwable cause) {
+        if (cause instanceof EntityNotFoundException) {
+            return TalentBatchResultDTO.builder()
+                    .result(UserResponseWithPagingDTO.builder().users(List.of()).build())
+                    .build();
+        }
+        if (cause instanceof IllegalArgumentException || cause instanceof ResponseStatusException) {
+            return TalentBatchResultDTO.builder().error(cause.getMessage()).build();
+        }
+        return TalentBatchResultDTO.builder().error("Search failed").build();
+    }
+}
@@ -0,0 +1,69 @@
+package rencanakan.id.talentpool.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * Cached total counts per filter for count-free pagination. Counts are only ever run on a
+ * background executor: a request gets whatever estimate is cached (possibly none yet) and
+ * at most one refresh per filter is in flight.
+ */
+@Component
+public class TalentCountEstimator {
+
+    private record Estimate(long total, long countedAt) {
+    }
+
+    private final Cache<TalentSearchKey, Estimate> estimates;
+    private final Set<TalentSearchKey> refreshing = ConcurrentHashMap.newKeySet();
+    private final Duration refreshAfter;
+    private final Executor executor;
+
+    public TalentCountEstimator(
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor,
+            @Value("${talent.search.count.maximum-size:1000}") long maximumSize,
+            @Value("${talent.search.count.refresh-after:1m}") Duration refreshAfter) {
+        this.executor = executor;
+        this.refreshAfter = refreshAfter;
+        this.estimates = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public Long estimate(TalentSearchKey key, LongSupplier counter) {
+        Estimate estimate = estimates.getIfPresent(key);
+        if (estimate == null || System.nanoTime() - estimate.countedAt() >= refreshAfter.toNanos()) {
+            refresh(key, counter);
+        }
+        return estimate == null ? null : estimate.total();
+    }
+
+    private void refresh(TalentSearchKey key, LongSupplier counter) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    estimates.put(key, new Estimate(counter.getAsLong(), System.nanoTime()));
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package rencanakan.id.talentpool.service;
+
+/**
+ * How a paged talent search reports its size. Only {@link #EXACT} runs the count query on
+ * the request path.
+ */
+public enum TalentCountMode {
+    EXACT,
+    NONE,
+    ESTIMATE;
+
+    public static TalentCountMode from(String value) {
+        for (TalentCountMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported count mode: " + value);
+    }
+}
@@ -0,0 +1,43 @@
+package rencanakan.id.talentpool.service;
+
+import rencanakan.id.talentpool.repository.TalentCard;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position used by the talent search. Encodes the sort key of the
+ * last row of a page (first name, last name, id) so the next page can seek past it
+ * instead of skipping rows with an OFFSET.
+ */
+public record TalentCursor(String firstName, String lastName, String id) {
+
+    public static TalentCursor of(TalentCard card) {
+        return new TalentCursor(card.firstName(), card.lastName(), card.id());
+    }
+
+    public String encode() {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(firstName);
+            out.writeUTF(lastName);
+            out.writeUTF(id);
+            out.flush();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+    }
+
+    public static TalentCursor decode(String token) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            return new TalentCursor(in.readUTF(), in.readUTF(), in.readUTF());
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package rencanakan.id.talentpool.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Caps how many exports run at once. Each export holds a request thread and reads the
+ * whole result in chunks, so when every slot is taken the request is shed with 429
+ * instead of queueing behind the running ones.
+ */
+@Component
+public class TalentExportSlots {
+
+    private final Semaphore slots;
+
+    public TalentExportSlots(@Value("${talent.export.max-concurrent:4}") int maxConcurrent) {
+        this.slots = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    public void acquire() {
+        if (!slots.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many exports are running, please try again shortly");
+        }
+    }
+
+    public void release() {
+        slots.release();
+    }
+}
@@ -0,0 +1,112 @@
+package rencanakan.id.talentpool.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import rencanakan.id.talentpool.repository.TalentCard;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes talent cards one at a time to an output stream, so an export never holds more
+ * than the current row in memory.
+ */
+abstract class TalentExportWriter implements Closeable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    static TalentExportWriter of(TalentExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(out);
+            case CSV -> new CsvWriter(out);
+        };
+    }
+
+    abstract void write(TalentCard card) throws IOException;
+
+    private static final class NdjsonWriter extends TalentExportWriter {
+        private final JsonGenerator generator;
+
+        NdjsonWriter(OutputStream out) throws IOException {
+            this.generator = JSON_FACTORY.createGenerator(out);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void write(TalentCard card) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("id", card.id());
+            generator.writeStringField("firstName", card.firstName());
+            generator.writeStringField("lastName", card.lastName());
+            generator.writeStringField("photo", card.photo());
+            generator.writeStringField("skill", card.skill());
+            generator.writeStringField("currentLocation", card.currentLocation());
+            generator.writeStringField("skkLevel", card.skkLevel());
+            writeNumberField("experienceYears", card.experienceYears());
+            writeNumberField("price", card.price());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeNumberField(String name, Integer value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(name);
+            } else {
+                generator.writeNumberField(name, value);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvWriter extends TalentExportWriter {
+        private static final String HEADER = "id,firstName,lastName,photo,skill,currentLocation,skkLevel,experienceYears,price";
+
+        private final Writer writer;
+
+        CsvWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.writer.write(HEADER);
+            this.writer.write("\r\n");
+        }
+
+        @Override
+        void write(TalentCard card) throws IOException {
+            writer.write(String.join(",",
+                    escape(card.id()),
+                    escape(card.firstName()),
+                    escape(card.lastName()),
+                    escape(card.photo()),
+                    escape(card.skill()),
+                    escape(card.currentLocation()),
+                    escape(card.skkLevel()),
+                    card.experienceYears() == null ? "" : card.experienceYears().toString(),
+                    card.price() == null ? "" : card.price().toString()));
+            writer.write("\r\n");
+        }
+
+        // RFC 4180: quote fields containing separators, quotes or line breaks and double embedded quotes
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
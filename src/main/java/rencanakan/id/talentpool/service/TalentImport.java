@@ -0,0 +1,294 @@
+package rencanakan.id.talentpool.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import rencanakan.id.talentpool.configs.BoundedPasswordEncoder;
+import rencanakan.id.talentpool.dto.TalentImportResultDTO;
+import rencanakan.id.talentpool.dto.TalentImportRowDTO;
+import rencanakan.id.talentpool.dto.UserRequestDTO;
+import rencanakan.id.talentpool.enums.ImportStatus;
+import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.repository.UserIdentity;
+import rencanakan.id.talentpool.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates many talents in one request. Every row is validated and checked for clashes
+ * within the batch, then the survivors are checked against existing users in one query,
+ * their passwords are hashed on the hashing pool and only then are they inserted in one
+ * short transaction, which Hibernate sends as JDBC batches. Each row is reported as created or
+ * rejected with its reasons. Only accounts listed in {@code talent.import.allowed-emails}
+ * may import, since the service has no roles to grant bulk provisioning with.
+ */
+@Component
+public class TalentImport {
+
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final UserIdentityPrefilter userIdentityPrefilter;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxRows;
+    private final Set<String> allowedEmails;
+
+    public TalentImport(UserRepository userRepository,
+                        UserService userService,
+                        BoundedPasswordEncoder passwordEncoder,
+                        Validator validator,
+                        UserIdentityPrefilter userIdentityPrefilter,
+                        TransactionTemplate transactionTemplate,
+                        @Value("${talent.import.max-rows:1000}") int maxRows,
+                        @Value("${talent.import.allowed-emails:}") List<String> allowedEmails) {
+        this.userRepository = userRepository;
+        this.userService = userService;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.userIdentityPrefilter = userIdentityPrefilter;
+        this.transactionTemplate = transactionTemplate;
+        this.maxRows = maxRows;
+        this.allowedEmails = allowedEmails.stream()
+                .map(email -> email.trim().toLowerCase(Locale.ROOT))
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    public void authorize(User importer) {
+        if (importer == null || importer.getEmail() == null
+                || !allowedEmails.contains(importer.getEmail().toLowerCase(Locale.ROOT))) {
+            throw new AccessDeniedException("You are not allowed to import talents.");
+        }
+    }
+
+    public TalentImportResultDTO importTalents(List<UserRequestDTO> talents) {
+        return importRows(talents.stream()
+                .map(talent -> new TalentImportReader.Row(talent, List.of()))
+                .toList());
+    }
+
+    public TalentImportResultDTO importCsv(String csv) {
+        return importRows(TalentImportReader.read(csv));
+    }
+
+    private TalentImportResultDTO importRows(List<TalentImportReader.Row> rows) {
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("At least one talent is required");
+        }
+        if (rows.size() > maxRows) {
+            throw new IllegalArgumentException("An import cannot exceed " + maxRows + " talents");
+        }
+
+        List<Candidate> candidates = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            candidates.add(validate(i + 1, rows.get(i)));
+        }
+        rejectBatchDuplicates(candidates);
+        rejectExisting(candidates);
+
+        List<Candidate> accepted = candidates.stream().filter(Candidate::isAccepted).toList();
+        if (!accepted.isEmpty()) {
+            insert(accepted);
+        }
+
+        List<TalentImportRowDTO> results = candidates.stream().map(Candidate::toResult).toList();
+        return TalentImportResultDTO.builder()
+                .created(accepted.size())
+                .rejected(results.size() - accepted.size())
+                .rows(results)
+                .build();
+    }
+
+    private Candidate validate(int row, TalentImportReader.Row input) {
+        UserRequestDTO talent = input.talent();
+        Set<String> errors = new LinkedHashSet<>(input.errors());
+        if (talent == null) {
+            errors.add("Row is empty");
+            return new Candidate(row, null, null, errors);
+        }
+
+        for (ConstraintViolation<UserRequestDTO> violation : validator.validate(talent)) {
+            errors.add(violation.getMessage());
+        }
+        if (talent.getPassword() == null || talent.getPassword().isBlank()) {
+            errors.add("Password is required");
+        }
+
+        // The raw password is validated here and swapped for its hash before saving
+        User user = toUser(talent);
+        for (ConstraintViolation<User> violation : validator.validate(user)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+
+        UserIdentity identity = new UserIdentity(talent.getEmail(), talent.getNik(), talent.getNpwp(), talent.getPhoneNumber());
+        return new Candidate(row, user, identity, errors);
+    }
+
+    private static void rejectBatchDuplicates(List<Candidate> candidates) {
+        Map<String, Integer> emails = new HashMap<>();
+        Map<String, Integer> niks = new HashMap<>();
+        Map<String, Integer> npwps = new HashMap<>();
+        Map<String, Integer> phoneNumbers = new HashMap<>();
+
+        for (Candidate candidate : candidates.stream().filter(Candidate::isAccepted).toList()) {
+            UserIdentity identity = candidate.identity;
+            claim(candidate, emails, identity.email(), "Email");
+            claim(candidate, niks, identity.nik(), "NIK");
+            claim(candidate, npwps, identity.npwp(), "NPWP");
+            claim(candidate, phoneNumbers, identity.phoneNumber(), "Phone number");
+        }
+    }
+
+    private static void claim(Candidate candidate, Map<String, Integer> claimed, String value, String field) {
+        if (value == null) {
+            return;
+        }
+        Integer first = claimed.putIfAbsent(value, candidate.row);
+        if (first != null) {
+            candidate.errors.add(field + " " + value + " is already used by row " + first + ".");
+        }
+    }
+
+    private void rejectExisting(List<Candidate> candidates) {
+        List<Candidate> remaining = candidates.stream().filter(Candidate::isAccepted).toList();
+        if (remaining.stream().noneMatch(candidate -> userIdentityPrefilter.mightExist(candidate.identity))) {
+            return;
+        }
+
+        // One set-based query for the whole batch instead of four lookups per row
+        List<UserIdentity> existing = userRepository.findIdentitiesIn(
+                values(remaining, UserIdentity::email),
+                values(remaining, UserIdentity::nik),
+                values(remaining, UserIdentity::npwp),
+                values(remaining, UserIdentity::phoneNumber));
+        if (existing.isEmpty()) {
+            return;
+        }
+
+        Set<String> emails = existingValues(existing, UserIdentity::email);
+        Set<String> niks = existingValues(existing, UserIdentity::nik);
+        Set<String> npwps = existingValues(existing, UserIdentity::npwp);
+        Set<String> phoneNumbers = existingValues(existing, UserIdentity::phoneNumber);
+        for (Candidate candidate : remaining) {
+            UserIdentity identity = candidate.identity;
+            if (emails.contains(identity.email())) {
+                candidate.errors.add("Email " + identity.email() + " is already in use.");
+            }
+            if (niks.contains(identity.nik())) {
+                candidate.errors.add("NIK " + identity.nik() + " is already in use.");
+            }
+            if (npwps.contains(identity.npwp())) {
+                candidate.errors.add("NPWP " + identity.npwp() + " is already in use.");
+            }
+            if (phoneNumbers.contains(identity.phoneNumber())) {
+                candidate.errors.add("Phone number " + identity.phoneNumber() + " is already in use.");
+            }
+        }
+    }
+
+    private static List<String> values(List<Candidate> candidates, Function<UserIdentity, String> field) {
+        return candidates.stream()
+                .map(candidate -> field.apply(candidate.identity))
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private static Set<String> existingValues(List<UserIdentity> identities, Function<UserIdentity, String> field) {
+        Set<String> values = new HashSet<>();
+        identities.forEach(identity -> values.add(field.apply(identity)));
+        values.remove(null);
+        return values;
+    }
+
+    private void insert(List<Candidate> accepted) {
+        List<String> hashes = passwordEncoder.encodeAll(accepted.stream().map(candidate -> candidate.user.getPassword()).toList());
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            User user = accepted.get(i).user;
+            user.setPassword(hashes.get(i));
+            users.add(user);
+        }
+        // Skills are resolved in their own short transactions, where a name inserted concurrently is retried
+        userService.assignSkills(users);
+
+        // Hashing is done before the transaction opens, so it only spans the batched inserts
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                userRepository.flush();
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Raced another signup or import; nothing from this batch is kept
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Some talents were registered while importing, please retry");
+        }
+        accepted.forEach(candidate -> userIdentityPrefilter.add(candidate.identity));
+    }
+
+    private static User toUser(UserRequestDTO talent) {
+        return User.builder()
+                .firstName(talent.getFirstName())
+                .password(talent.getPassword())
+                .lastName(talent.getLastName())
+                .email(talent.getEmail())
+                .phoneNumber(talent.getPhoneNumber())
+                .photo(talent.getPhoto())
+                .aboutMe(talent.getAboutMe())
+                .nik(talent.getNik())
+                .npwp(talent.getNpwp())
+                .photoKtp(talent.getPhotoKtp())
+                .photoNpwp(talent.getPhotoNpwp())
+                .photoIjazah(talent.getPhotoIjazah())
+                .experienceYears(talent.getExperienceYears())
+                .skkLevel(talent.getSkkLevel())
+                .currentLocation(talent.getCurrentLocation())
+                .preferredLocations(talent.getPreferredLocations())
+                .skill(talent.getSkill())
+                .price(talent.getPrice())
+                .build();
+    }
+
+    private static final class Candidate {
+        private final int row;
+        private final User user;
+        private final UserIdentity identity;
+        private final Set<String> errors;
+
+        private Candidate(int row, User user, UserIdentity identity, Set<String> errors) {
+            this.row = row;
+            this.user = user;
+            this.identity = identity;
+            this.errors = errors;
+        }
+
+        private boolean isAccepted() {
+            return errors.isEmpty();
+        }
+
+        private TalentImportRowDTO toResult() {
+            return TalentImportRowDTO.builder()
+                    .row(row)
+                    .status(isAccepted() ? ImportStatus.CREATED : ImportStatus.REJECTED)
+                    .id(isAccepted() ? user.getId() : null)
+                    .errors(List.copyOf(errors))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package rencanakan.id.talentpool.service;
+
+import rencanakan.id.talentpool.dto.UserRequestDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads a talent import CSV: RFC 4180 quoting, as {@link TalentExportWriter} writes it, and
+ * a header row naming {@link UserRequestDTO} properties in any order. Preferred locations
+ * are separated by ';'. A row that cannot be read is returned with its errors rather than
+ * failing the whole file.
+ */
+final class TalentImportReader {
+
+    record Row(UserRequestDTO talent, List<String> errors) {
+    }
+
+    private static final Map<String, BiConsumer<UserRequestDTO, String>> COLUMNS = Map.ofEntries(
+            Map.entry("firstName", UserRequestDTO::setFirstName),
+            Map.entry("lastName", UserRequestDTO::setLastName),
+            Map.entry("email", UserRequestDTO::setEmail),
+            Map.entry("phoneNumber", UserRequestDTO::setPhoneNumber),
+            Map.entry("photo", UserRequestDTO::setPhoto),
+            Map.entry("aboutMe", UserRequestDTO::setAboutMe),
+            Map.entry("nik", UserRequestDTO::setNik),
+            Map.entry("npwp", UserRequestDTO::setNpwp),
+            Map.entry("photoKtp", UserRequestDTO::setPhotoKtp),
+            Map.entry("photoNpwp", UserRequestDTO::setPhotoNpwp),
+            Map.entry("photoIjazah", UserRequestDTO::setPhotoIjazah),
+            Map.entry("experienceYears", (talent, value) -> talent.setExperienceYears(number("experienceYears", value))),
+            Map.entry("skkLevel", UserRequestDTO::setSkkLevel),
+            Map.entry("currentLocation", UserRequestDTO::setCurrentLocation),
+            Map.entry("preferredLocations", (talent, value) -> talent.setPreferredLocations(Arrays.stream(value.split(";"))
+                    .map(String::trim)
+                    .filter(location -> !location.isEmpty())
+                    .toList())),
+            Map.entry("skill", UserRequestDTO::setSkill),
+            Map.entry("password", UserRequestDTO::setPassword),
+            Map.entry("price", (talent, value) -> talent.setPrice(number("price", value))));
+
+    private TalentImportReader() {
+    }
+
+    static List<Row> read(String csv) {
+        List<List<String>> records = records(csv == null ? "" : csv);
+        if (records.isEmpty()) {
+            throw new IllegalArgumentException("CSV must start with a header row");
+        }
+
+        List<String> header = records.get(0).stream().map(String::trim).toList();
+        for (String column : header) {
+            if (!COLUMNS.containsKey(column)) {
+                throw new IllegalArgumentException("Unknown column " + column);
+            }
+        }
+
+        List<Row> rows = new ArrayList<>(records.size() - 1);
+        for (List<String> fields : records.subList(1, records.size())) {
+            rows.add(row(header, fields));
+        }
+        return rows;
+    }
+
+    private static Row row(List<String> header, List<String> fields) {
+        UserRequestDTO talent = new UserRequestDTO();
+        if (fields.size() != header.size()) {
+            return new Row(talent, List.of("Expected " + header.size() + " fields but found " + fields.size()));
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = fields.get(i);
+            if (value.isEmpty()) {
+                continue;
+            }
+            try {
+                COLUMNS.get(header.get(i)).accept(talent, value);
+            } catch (IllegalArgumentException e) {
+                errors.add(e.getMessage());
+            }
+        }
+        return new Row(talent, errors);
+    }
+
+    private static Integer number(String column, String value) {
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " must be a whole number");
+        }
+    }
+
+    // Splits into records of fields; line breaks inside quotes belong to the field, blank lines are skipped
+    private static List<List<String>> records(String csv) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < csv.length(); i++) {
+            char c = csv.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < csv.length() && csv.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r' && i + 1 < csv.length() && csv.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                endRecord(records, fields, field);
+                fields = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("CSV has an unterminated quoted field");
+        }
+        endRecord(records, fields, field);
+        return records;
+    }
+
+    private static void endRecord(List<List<String>> records, List<String> fields, StringBuilder field) {
+        fields.add(field.toString());
+        field.setLength(0);
+        if (fields.size() > 1 || !fields.get(0).isEmpty()) {
+            records.add(fields);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package rencanakan.id.talentpool.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import rencanakan.id.talentpool.dto.UserResponseWithPagingDTO;
+import rencanakan.id.talentpool.index.TalentChangedEvent;
+import rencanakan.id.talentpool.index.TalentTextChangedEvent;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of talent search pages. An entry is dropped as soon as a talent that
+ * matched its filter before or after a change is written, so unrelated edits keep it warm.
+ */
+@Component
+public class TalentSearchCache {
+
+    private final Cache<TalentSearchKey, UserResponseWithPagingDTO> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public TalentSearchCache(
+            MeterRegistry meterRegistry,
+            @Value("${talent.search.cache.maximum-size:1000}") long maximumSize,
+            @Value("${talent.search.cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "talentSearch");
+    }
+
+    public UserResponseWithPagingDTO get(TalentSearchKey key, Supplier<UserResponseWithPagingDTO> loader) {
+        UserResponseWithPagingDTO cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long stamp = generation.get();
+        UserResponseWithPagingDTO result = loader.get();
+
+        // A talent changed while loading, so the result may already be stale
+        if (generation.get() == stamp) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    @EventListener
+    public void onTalentChanged(TalentChangedEvent event) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.matches(event.before()) || key.matches(event.after()));
+    }
+
+    @EventListener
+    public void onTalentTextChanged(TalentTextChangedEvent event) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.query() != null);
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,108 @@
+package rencanakan.id.talentpool.service;
+
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.SkillMatch;
+import rencanakan.id.talentpool.index.TalentDocument;
+import rencanakan.id.talentpool.index.TalentMatcher;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical form of a talent search request, so that equivalent filters (different
+ * casing, ordering or duplicates) share one result cache entry.
+ */
+public record TalentSearchKey(
+        String name,
+        boolean fuzzy,
+        List<String> skills,
+        SkillMatch skillMatch,
+        List<String> preferredLocations,
+        List<String> skkLevels,
+        List<Double> priceRange,
+        String near,
+        Double radiusKm,
+        String query,
+        int page,
+        int size,
+        String after,
+        boolean counted
+) {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static TalentSearchKey of(FilterTalentDTO filter, int page, int size, String after) {
+        return of(filter, page, size, after, true);
+    }
+
+    public static TalentSearchKey of(FilterTalentDTO filter, int page, int size, String after, boolean counted) {
+        String name = (Objects.isNull(filter.getName()) || filter.getName().trim().isEmpty())
+                ? null
+                : filter.getName().toLowerCase();
+        List<String> skills = Objects.isNull(filter.getSkills()) ? null : canonical(filter.getSkills().stream()
+                .flatMap(skill -> TalentDocument.skillTerms(skill).stream())
+                .toList());
+        List<Double> priceRange = (Objects.nonNull(filter.getPriceRange()) && filter.getPriceRange().size() == 2)
+                ? Arrays.asList(filter.getPriceRange().get(0), filter.getPriceRange().get(1))
+                : null;
+        boolean hasNear = Objects.nonNull(filter.getNear()) && !filter.getNear().trim().isEmpty();
+        String query = (Objects.isNull(filter.getQuery()) || filter.getQuery().trim().isEmpty())
+                ? null
+                : WHITESPACE.matcher(TalentDocument.normalize(filter.getQuery())).replaceAll(" ");
+
+        return new TalentSearchKey(
+                name,
+                name != null && Boolean.TRUE.equals(filter.getFuzzy()),
+                skills,
+                skills != null && filter.getSkillMatch() == SkillMatch.ALL ? SkillMatch.ALL : SkillMatch.ANY,
+                canonical(filter.getPreferredLocations()),
+                canonical(filter.getSkkLevels()),
+                priceRange,
+                hasNear ? TalentDocument.normalize(filter.getNear()) : null,
+                hasNear ? filter.getRadiusKm() : null,
+                query,
+                page,
+                size,
+                after,
+                counted
+        );
+    }
+
+    public FilterTalentDTO toFilter() {
+        return FilterTalentDTO.builder()
+                .name(name)
+                .fuzzy(fuzzy)
+                .skills(skills)
+                .skillMatch(skillMatch)
+                .preferredLocations(preferredLocations)
+                .skkLevels(skkLevels)
+                .priceRange(priceRange)
+                .near(near)
+                .radiusKm(radiusKm)
+                .query(query)
+                .build();
+    }
+
+    /**
+     * Whether a change to the talent may alter this search's results. Full-text results
+     * are ranked against every talent's text, so any change may reorder them.
+     */
+    public boolean matches(TalentDocument talent) {
+        return query != null || TalentMatcher.matches(toFilter(), talent);
+    }
+
+    private static List<String> canonical(List<String> terms) {
+        if (Objects.isNull(terms)) {
+            return null;
+        }
+
+        List<String> normalized = terms.stream()
+                .map(TalentDocument::normalize)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+        return normalized.isEmpty() ? null : normalized;
+    }
+}
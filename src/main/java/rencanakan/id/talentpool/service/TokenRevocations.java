@@ -0,0 +1,82 @@
+package rencanakan.id.talentpool.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import rencanakan.id.talentpool.index.BloomFilter;
+import rencanakan.id.talentpool.model.RevokedToken;
+import rencanakan.id.talentpool.repository.RevokedTokenRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Revoked token ids ({@code jti}). The revoked_tokens table is authoritative; a Bloom
+ * filter over it answers almost every check in memory, and only ids the filter might
+ * contain are confirmed against the table, once each. The filter is rebuilt from the table
+ * on a schedule, which also drops ids whose tokens have expired and picks up revocations
+ * made by other instances.
+ */
+@Component
+public class TokenRevocations {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedRevocations;
+    private final Cache<String, Boolean> confirmed;
+
+    private volatile BloomFilter filter;
+
+    public TokenRevocations(
+            RevokedTokenRepository revokedTokenRepository,
+            @Value("${security.jwt.revocation.expected-size:10000}") long expectedRevocations,
+            @Value("${security.jwt.revocation.refresh-interval:5m}") Duration refreshInterval) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.filter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+        this.confirmed = Caffeine.newBuilder()
+                .maximumSize(expectedRevocations)
+                .expireAfterWrite(refreshInterval)
+                .build();
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        return confirmed.get(jti, revokedTokenRepository::existsById);
+    }
+
+    public void revoke(String jti, Date expiresAt) {
+        if (jti == null || expiresAt == null) {
+            throw new IllegalArgumentException("Token cannot be revoked");
+        }
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()))
+                .build());
+        synchronized (this) {
+            filter.put(jti);
+        }
+        confirmed.put(jti, true);
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.refresh-interval:5m}")
+    public synchronized void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.deleteExpired(now);
+        List<String> active = revokedTokenRepository.findActiveIds(now);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, 2L * active.size()), FALSE_POSITIVE_RATE);
+        active.forEach(rebuilt::put);
+        filter = rebuilt;
+        confirmed.invalidateAll();
+    }
+}
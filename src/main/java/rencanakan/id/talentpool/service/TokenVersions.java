@@ -0,0 +1,46 @@
+package rencanakan.id.talentpool.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.repository.UserRepository;
+
+import java.time.Duration;
+
+/**
+ * Current token version per user, so a token can be checked against it without loading
+ * the user on every request. Versions are read once per user and then served from memory;
+ * changes made here are seen immediately, changes made by another instance within the
+ * expiry.
+ */
+@Component
+public class TokenVersions {
+
+    // Users that no longer exist accept no token version
+    private static final int UNKNOWN_USER = -1;
+
+    private final LoadingCache<String, Integer> versions;
+
+    public TokenVersions(
+            UserRepository userRepository,
+            @Value("${security.jwt.token-version.maximum-size:10000}") long maximumSize,
+            @Value("${security.jwt.token-version.expire-after:5m}") Duration expireAfter) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfter)
+                .build(id -> userRepository.findTokenVersionById(id).orElse(UNKNOWN_USER));
+    }
+
+    public boolean isCurrent(String userId, int tokenVersion) {
+        return userId != null && versions.get(userId) == tokenVersion;
+    }
+
+    /**
+     * Records the version of a user that has just been saved.
+     */
+    public void update(User user) {
+        versions.put(user.getId(), user.getTokenVersion());
+    }
+}
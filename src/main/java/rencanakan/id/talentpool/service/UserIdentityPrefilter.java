@@ -0,0 +1,94 @@
+package rencanakan.id.talentpool.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import rencanakan.id.talentpool.index.BloomFilter;
+import rencanakan.id.talentpool.repository.UserIdentity;
+import rencanakan.id.talentpool.repository.UserRepository;
+
+import java.util.List;
+
+/**
+ * Bloom filters over every email, NIK, NPWP and phone number in use. When none of a
+ * signup's values might be taken the uniqueness query is skipped; the unique constraints
+ * still catch anything the filters have not seen, such as values changed by a profile
+ * edit. Until loaded every value might be taken.
+ */
+@Component
+public class UserIdentityPrefilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final UserRepository userRepository;
+    private final long expectedUsers;
+
+    private volatile Filters filters;
+
+    public UserIdentityPrefilter(
+            UserRepository userRepository,
+            @Value("${security.signup-prefilter.expected-size:100000}") long expectedUsers) {
+        this.userRepository = userRepository;
+        this.expectedUsers = expectedUsers;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<UserIdentity> identities = userRepository.findAllIdentities();
+        Filters rebuilt = new Filters(Math.max(expectedUsers, 2L * identities.size()));
+        identities.forEach(rebuilt::put);
+        filters = rebuilt;
+    }
+
+    public boolean mightExist(UserIdentity identity) {
+        Filters current = filters;
+        return current == null || current.mightContain(identity);
+    }
+
+    public void add(UserIdentity identity) {
+        Filters current = filters;
+        if (current != null) {
+            current.put(identity);
+        }
+    }
+
+    private static final class Filters {
+
+        private final BloomFilter emails;
+        private final BloomFilter niks;
+        private final BloomFilter npwps;
+        private final BloomFilter phoneNumbers;
+
+        private Filters(long expectedUsers) {
+            emails = new BloomFilter(expectedUsers, FALSE_POSITIVE_RATE);
+            niks = new BloomFilter(expectedUsers, FALSE_POSITIVE_RATE);
+            npwps = new BloomFilter(expectedUsers, FALSE_POSITIVE_RATE);
+            phoneNumbers = new BloomFilter(expectedUsers, FALSE_POSITIVE_RATE);
+        }
+
+        private void put(UserIdentity identity) {
+            put(emails, identity.email());
+            put(niks, identity.nik());
+            put(npwps, identity.npwp());
+            put(phoneNumbers, identity.phoneNumber());
+        }
+
+        private boolean mightContain(UserIdentity identity) {
+            return mightContain(emails, identity.email())
+                    || mightContain(niks, identity.nik())
+                    || mightContain(npwps, identity.npwp())
+                    || mightContain(phoneNumbers, identity.phoneNumber());
+        }
+
+        private static void put(BloomFilter filter, String value) {
+            if (value != null) {
+                filter.put(value);
+            }
+        }
+
+        private static boolean mightContain(BloomFilter filter, String value) {
+            return value != null && filter.mightContain(value);
+        }
+    }
+}
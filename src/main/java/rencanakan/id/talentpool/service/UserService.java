@@ -2,17 +2,33 @@ package rencanakan.id.talentpool.service;
 
 import org.springframework.data.domain.Pageable;
 import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.TalentDistanceDTO;
+import rencanakan.id.talentpool.dto.TalentFacetsDTO;
+import rencanakan.id.talentpool.dto.TalentMatchDTO;
+import rencanakan.id.talentpool.dto.TalentMatchRequestDTO;
+import rencanakan.id.talentpool.dto.TypeaheadSuggestionDTO;
 import rencanakan.id.talentpool.dto.UserRequestDTO;
 import rencanakan.id.talentpool.dto.UserResponseDTO;
 import rencanakan.id.talentpool.dto.UserResponseWithPagingDTO;
 import rencanakan.id.talentpool.model.User;
 
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface UserService {
     UserResponseDTO getById(String id);
     UserResponseDTO editById(String id, UserRequestDTO editedUser);
     User findByEmail(String email);
+    void assignSkills(User user);
+    void assignSkills(List<User> users);
     UserResponseWithPagingDTO filter(FilterTalentDTO filter, Pageable page);
+    UserResponseWithPagingDTO filter(FilterTalentDTO filter, Pageable page, TalentCountMode count);
+    UserResponseWithPagingDTO filter(FilterTalentDTO filter, String after, int size);
+    TalentFacetsDTO facets(FilterTalentDTO filter, int priceInterval);
+    List<TalentMatchDTO> match(TalentMatchRequestDTO request);
+    List<TalentDistanceDTO> nearest(FilterTalentDTO filter, int limit);
+    List<TypeaheadSuggestionDTO> suggest(String prefix, int limit);
+    void export(FilterTalentDTO filter, TalentExportFormat format, OutputStream out) throws IOException;
 }
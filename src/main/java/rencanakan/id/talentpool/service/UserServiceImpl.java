@@ -5,43 +5,113 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.TalentDistanceDTO;
+import rencanakan.id.talentpool.dto.SkillMatch;
+import rencanakan.id.talentpool.dto.TalentCardDTO;
+import rencanakan.id.talentpool.dto.TalentFacetsDTO;
+import rencanakan.id.talentpool.dto.TalentMatchDTO;
+import rencanakan.id.talentpool.dto.TalentMatchRequestDTO;
+import rencanakan.id.talentpool.dto.TypeaheadSuggestionDTO;
 import rencanakan.id.talentpool.dto.UserRequestDTO;
 import rencanakan.id.talentpool.dto.UserResponseDTO;
 import rencanakan.id.talentpool.dto.UserResponseWithPagingDTO;
+import rencanakan.id.talentpool.index.GeoPoint;
+import rencanakan.id.talentpool.index.GeoRadius;
+import rencanakan.id.talentpool.index.NearbyTalent;
+import rencanakan.id.talentpool.index.RegionHierarchy;
+import rencanakan.id.talentpool.index.TalentChangedEvent;
+import rencanakan.id.talentpool.index.TalentIndexListener;
+import rencanakan.id.talentpool.index.ScoredTalent;
+import rencanakan.id.talentpool.index.TalentDocument;
+import rencanakan.id.talentpool.index.TalentIndex;
+import rencanakan.id.talentpool.index.TalentTextIndex;
+import rencanakan.id.talentpool.index.TrigramIndex;
+import rencanakan.id.talentpool.index.TypeaheadIndex;
 import rencanakan.id.talentpool.mapper.DTOMapper;
+import rencanakan.id.talentpool.model.Skill;
 import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.repository.SkillRepository;
+import rencanakan.id.talentpool.repository.TalentCard;
 import rencanakan.id.talentpool.repository.UserRepository;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class UserServiceImpl implements UserService, UserDetailsService {
+    private static final String ID = "id";
     private static final String FIRST_NAME = "firstName";
     private static final String LAST_NAME = "lastName";
     private static final String CURRENT_LOCATION = "currentLocation";
-    private static final String SKILL = "skill";
+    private static final String PREFERRED_LOCATIONS = "preferredLocations";
+    private static final String SKILLS = "skills";
+    private static final String NAME = "name";
+    private static final String SKK_LEVEL = "skkLevel";
     private static final String PRICE = "price";
+    private static final int MAX_MATCH_LIMIT = 100;
+    private static final int MAX_SUGGEST_LIMIT = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final int MAX_EXPORT_ROWS = 10_000;
     private final UserRepository userRepository;
     private final Validator validator;
-
-    public UserServiceImpl(UserRepository userRepository, Validator validator) {
+    private final TalentIndex talentIndex;
+    private final TalentSearchCache searchCache;
+    private final TalentCountEstimator countEstimator;
+    private final SkillRepository skillRepository;
+    private final TypeaheadIndex typeaheadIndex;
+    private final TalentTextIndex textIndex;
+    private final UserDetailsCache userDetailsCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserServiceImpl(UserRepository userRepository, Validator validator, TalentIndex talentIndex, TalentSearchCache searchCache,
+                           TalentCountEstimator countEstimator, SkillRepository skillRepository, TypeaheadIndex typeaheadIndex,
+                           TalentTextIndex textIndex, UserDetailsCache userDetailsCache, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.skillRepository = skillRepository;
+        this.typeaheadIndex = typeaheadIndex;
+        this.textIndex = textIndex;
+        this.userDetailsCache = userDetailsCache;
+        this.eventPublisher = eventPublisher;
         this.validator = validator;
+        this.talentIndex = talentIndex;
+        this.searchCache = searchCache;
+        this.countEstimator = countEstimator;
     }
 
     @Override
@@ -57,8 +127,15 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User with ID " + id + " not found"));
 
+        String previousEmail = user.getEmail();
+        // Copied because Hibernate's bag compares by identity
+        boolean locationsChanged = edited.getPreferredLocations() != null
+                && (user.getPreferredLocations() == null || !new ArrayList<>(user.getPreferredLocations()).equals(edited.getPreferredLocations()));
         try {
             updateUserFields(user, edited);
+            if (edited.getSkill() != null) {
+                assignSkills(user);
+            }
 
             // Validate the user before saving
             Set<ConstraintViolation<User>> violations = validator.validate(user);
@@ -74,12 +151,77 @@ public class UserServiceImpl implements UserService, UserDetailsService {
             }
 
             userRepository.save(user);
+            if (locationsChanged) {
+                reindex(user);
+            }
+            userDetailsCache.evict(previousEmail);
+            userDetailsCache.evict(user.getEmail());
             return DTOMapper.map(user, UserResponseDTO.class);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Failed to update user: " + e.getMessage(), e);
         }
     }
 
+    // User is not versioned, so Hibernate fires no @PostUpdate when only the preferred locations
+    // collection changed. Should the listener fire as well, its event repeats this one and is a no-op.
+    private void reindex(User user) {
+        TalentDocument document = TalentDocument.of(user);
+        TalentIndexListener.afterCommit(() -> eventPublisher.publishEvent(new TalentChangedEvent(talentIndex.upsert(document), document)));
+    }
+
+    @Override
+    public void assignSkills(User user) {
+        assignSkills(List.of(user));
+    }
+
+    @Override
+    public void assignSkills(List<User> users) {
+        Map<User, List<String>> namesByUser = new IdentityHashMap<>();
+        Set<String> names = new LinkedHashSet<>();
+        for (User user : users) {
+            List<String> userNames = TalentDocument.skillTerms(user.getSkill()).stream()
+                    .map(TalentDocument::normalize)
+                    .toList();
+            namesByUser.put(user, userNames);
+            names.addAll(userNames);
+        }
+        if (names.isEmpty()) {
+            users.forEach(user -> user.setSkills(new HashSet<>()));
+            return;
+        }
+
+        // One lookup and one insert for the skills of the whole batch
+        Map<String, Skill> skills = new HashMap<>();
+        try {
+            insertMissingSkills(names, skills);
+        } catch (DataIntegrityViolationException e) {
+            // Another request inserted one of these names first. Inside a surrounding
+            // transaction the failed insert has already spoiled it, so only retry outside one.
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw e;
+            }
+            skills.clear();
+            insertMissingSkills(names, skills);
+        }
+
+        for (User user : users) {
+            Set<Skill> userSkills = new HashSet<>();
+            namesByUser.get(user).forEach(name -> userSkills.add(skills.get(name)));
+            user.setSkills(userSkills);
+        }
+    }
+
+    private void insertMissingSkills(Set<String> names, Map<String, Skill> skills) {
+        skillRepository.findByNameIn(List.copyOf(names)).forEach(skill -> skills.put(skill.getName(), skill));
+        List<Skill> missing = names.stream()
+                .filter(name -> !skills.containsKey(name))
+                .map(name -> Skill.builder().name(name).build())
+                .toList();
+        if (!missing.isEmpty()) {
+            skillRepository.saveAll(missing).forEach(skill -> skills.put(skill.getName(), skill));
+        }
+    }
+
     private void updateUserFields(User user, UserRequestDTO edited) {
         updateIfNotNull(edited.getEmail(), user::setEmail);
         updateIfNotNull(edited.getFirstName(), user::setFirstName);
@@ -99,7 +241,7 @@ public class UserServiceImpl implements UserService, UserDetailsService {
         updateIfNotNull(edited.getExperienceYears(), user::setExperienceYears);
         updateIfNotNull(edited.getSkkLevel(), user::setSkkLevel);
         updateIfNotNull(edited.getCurrentLocation(), user::setCurrentLocation);
-        updateIfNotNull(edited.getPreferredLocations(), user::setPreferredLocations);
+        updateIfNotNull(edited.getPreferredLocations(), locations -> user.setPreferredLocations(new ArrayList<>(locations)));
         updateIfNotNull(edited.getSkill(), user::setSkill);
     }
 
@@ -111,14 +253,337 @@ public class UserServiceImpl implements UserService, UserDetailsService {
 
     @Override
     public User findByEmail(String email) {
-        Optional<User> userOptional = userRepository.findByEmail(email);
+        Optional<User> userOptional = userDetailsCache.findByEmail(email);
         return userOptional.orElseThrow(() -> new EntityNotFoundException("User not found with email: " + email));
     }
 
-    // Ensure proper usage of builder and root within the Specification lambda
     @Override
     public UserResponseWithPagingDTO filter(FilterTalentDTO filter, Pageable page) {
-        Specification<User> specification = (root, query, builder) -> {
+        TalentSearchKey key = TalentSearchKey.of(filter, page.getPageNumber(), page.getPageSize(), null);
+        return searchCache.get(key, () -> search(filter, page));
+    }
+
+    @Override
+    public UserResponseWithPagingDTO filter(FilterTalentDTO filter, Pageable page, TalentCountMode count) {
+        if (count == TalentCountMode.EXACT) {
+            return filter(filter, page);
+        }
+        if (page.getPageSize() < 1 || page.getPageSize() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        TalentSearchKey key = TalentSearchKey.of(filter, page.getPageNumber(), page.getPageSize(), null, false);
+        // Ranking already scores every match, so full-text searches always know their total
+        if (hasQuery(filter)) {
+            return searchCache.get(key, () -> searchText(filter, page));
+        }
+        UserResponseWithPagingDTO slice = searchCache.get(key, () -> searchSlice(filter, page));
+        if (count == TalentCountMode.NONE) {
+            return slice;
+        }
+
+        // The cached slice is shared, so the estimate goes on a copy
+        return UserResponseWithPagingDTO.builder()
+                .users(slice.getUsers())
+                .page(slice.getPage())
+                .size(slice.getSize())
+                .hasNext(slice.getHasNext())
+                .estimatedTotal(estimateTotal(filter))
+                .build();
+    }
+
+    @Override
+    public UserResponseWithPagingDTO filter(FilterTalentDTO filter, String after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (hasQuery(filter)) {
+            throw new IllegalArgumentException("Full-text search does not support cursor paging");
+        }
+        if (isFuzzy(filter)) {
+            throw new IllegalArgumentException("Fuzzy name search does not support cursor paging");
+        }
+        TalentSearchKey key = TalentSearchKey.of(filter, 0, size, after == null ? "" : after);
+        return searchCache.get(key, () -> searchAfter(filter, after, size));
+    }
+
+    private UserResponseWithPagingDTO search(FilterTalentDTO filter, Pageable page) {
+        if (hasQuery(filter)) {
+            UserResponseWithPagingDTO ranked = searchText(filter, page);
+            if (ranked.getUsers().isEmpty()) {
+                throw new EntityNotFoundException("No users found");
+            }
+            return ranked;
+        }
+        if (talentIndex.isReady()) {
+            return filterWithIndex(filter, page);
+        }
+
+        // Create a Sort object that orders by firstName and then by lastName
+        Sort sort = Sort.by(FIRST_NAME).and(Sort.by(LAST_NAME));
+        Pageable pageable = PageRequest.of(page.getPageNumber(), page.getPageSize(), sort);
+        Page<TalentCard> cardPage = userRepository.findCards(buildSpecification(filter), pageable);
+
+        if(cardPage.isEmpty()){
+            throw  new EntityNotFoundException("No users found");
+        }
+
+        List<TalentCardDTO> cardDTOs = cardPage.getContent().stream()
+                .map(card -> toSearchResult(card, filter))
+                .toList();
+
+        return UserResponseWithPagingDTO.builder().users(cardDTOs).page( cardPage.getNumber()).size(cardPage.getSize()).totalPages(cardPage.getTotalPages()).build();
+    }
+
+    private UserResponseWithPagingDTO searchText(FilterTalentDTO filter, Pageable page) {
+        if (!talentIndex.isReady() || !textIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Talent index is still loading");
+        }
+
+        Map<String, Double> scores = textIndex.search(filter.getQuery());
+        List<String> ranked = talentIndex.rankByScore(talentIndex.match(filter), scores);
+        int from = (int) Math.min(page.getOffset(), ranked.size());
+        List<TalentCard> cards = findCardsInOrder(ranked.subList(from, Math.min(from + page.getPageSize(), ranked.size())));
+
+        List<TalentCardDTO> cardDTOs = cards.stream()
+                .map(card -> {
+                    TalentCardDTO dto = toCard(card);
+                    dto.setScore(scores.get(card.id()));
+                    return dto;
+                })
+                .toList();
+
+        int totalPages = (ranked.size() + page.getPageSize() - 1) / page.getPageSize();
+        return UserResponseWithPagingDTO.builder().users(cardDTOs).page(page.getPageNumber()).size(page.getPageSize())
+                .totalPages(totalPages).hasNext(page.getPageNumber() + 1 < totalPages).build();
+    }
+
+    private static boolean hasQuery(FilterTalentDTO filter) {
+        return Objects.nonNull(filter.getQuery()) && !filter.getQuery().trim().isEmpty();
+    }
+
+    private static boolean isFuzzy(FilterTalentDTO filter) {
+        return Boolean.TRUE.equals(filter.getFuzzy()) && Objects.nonNull(filter.getName()) && !filter.getName().trim().isEmpty();
+    }
+
+    // Fuzzy matches are paged by name similarity, everything else in name order
+    private List<String> pageOf(FilterTalentDTO filter, BitSet matches, int offset, int limit) {
+        if (!isFuzzy(filter)) {
+            return talentIndex.page(matches, offset, limit);
+        }
+        List<String> ranked = talentIndex.rankByNameSimilarity(matches, filter.getName());
+        int from = Math.min(offset, ranked.size());
+        return ranked.subList(from, Math.min(from + limit, ranked.size()));
+    }
+
+    // Like cursor pages, an empty slice is a 200 with no users, on the first page as on later ones
+    private UserResponseWithPagingDTO searchSlice(FilterTalentDTO filter, Pageable page) {
+        List<TalentCard> cards;
+        boolean hasNext;
+        if (talentIndex.isReady()) {
+            List<TalentCard> fetched = findCardsInOrder(pageOf(filter, talentIndex.match(filter), (int) page.getOffset(), page.getPageSize() + 1));
+            hasNext = fetched.size() > page.getPageSize();
+            cards = hasNext ? fetched.subList(0, page.getPageSize()) : fetched;
+        } else {
+            Sort sort = Sort.by(FIRST_NAME).and(Sort.by(LAST_NAME)).and(Sort.by(ID));
+            Slice<TalentCard> slice = userRepository.findCardSlice(buildSpecification(filter), PageRequest.of(page.getPageNumber(), page.getPageSize(), sort));
+            cards = slice.getContent();
+            hasNext = slice.hasNext();
+        }
+
+        List<TalentCardDTO> cardDTOs = cards.stream()
+                .map(card -> toSearchResult(card, filter))
+                .toList();
+
+        return UserResponseWithPagingDTO.builder().users(cardDTOs).page(page.getPageNumber()).size(page.getPageSize()).hasNext(hasNext).build();
+    }
+
+    private Long estimateTotal(FilterTalentDTO filter) {
+        if (talentIndex.isReady()) {
+            return (long) talentIndex.match(filter).cardinality();
+        }
+        return countEstimator.estimate(TalentSearchKey.of(filter, 0, 0, null, false),
+                () -> userRepository.count(buildSpecification(filter)));
+    }
+
+    private UserResponseWithPagingDTO searchAfter(FilterTalentDTO filter, String after, int size) {
+        TalentCursor cursor = (after == null || after.isBlank()) ? null : TalentCursor.decode(after);
+
+        // Fetch one extra row so we know whether another page exists without counting
+        List<TalentCard> cards;
+        if (talentIndex.isReady()) {
+            BitSet matches = talentIndex.match(filter);
+            cards = findCardsInOrder(cursor == null
+                    ? talentIndex.page(matches, 0, size + 1)
+                    : talentIndex.seek(matches, cursor.firstName(), cursor.lastName(), cursor.id(), size + 1));
+        } else {
+            Specification<User> specification = buildSpecification(filter);
+            if (cursor != null) {
+                specification = specification.and(seekAfter(cursor));
+            }
+
+            Sort sort = Sort.by(FIRST_NAME).and(Sort.by(LAST_NAME)).and(Sort.by(ID));
+            cards = userRepository.findCards(specification, sort, size + 1);
+        }
+
+        boolean hasNext = cards.size() > size;
+        List<TalentCard> pageContent = hasNext ? cards.subList(0, size) : cards;
+
+        List<TalentCardDTO> cardDTOs = pageContent.stream()
+                .map(card -> toSearchResult(card, filter))
+                .toList();
+
+        String nextCursor = hasNext ? TalentCursor.of(pageContent.get(pageContent.size() - 1)).encode() : null;
+
+        return UserResponseWithPagingDTO.builder().users(cardDTOs).size(size).nextCursor(nextCursor).build();
+    }
+
+    @Override
+    public TalentFacetsDTO facets(FilterTalentDTO filter, int priceInterval) {
+        if (!talentIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Talent index is still loading");
+        }
+        return talentIndex.facets(filter, priceInterval);
+    }
+
+    @Override
+    public List<TalentMatchDTO> match(TalentMatchRequestDTO request) {
+        if (request.getLimit() < 1 || request.getLimit() > MAX_MATCH_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_MATCH_LIMIT);
+        }
+        if (!talentIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Talent index is still loading");
+        }
+
+        List<ScoredTalent> ranked = talentIndex.rank(request, request.getLimit());
+        Map<String, TalentCard> cardsById = userRepository.findCardsByIds(ranked.stream().map(scored -> scored.talent().id()).toList()).stream()
+                .collect(Collectors.toMap(TalentCard::id, Function.identity()));
+
+        return ranked.stream()
+                .filter(scored -> cardsById.containsKey(scored.talent().id()))
+                .map(scored -> TalentMatchDTO.builder()
+                        .talent(toCard(cardsById.get(scored.talent().id())))
+                        .score(scored.score())
+                        .breakdown(scored.breakdown())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public List<TalentDistanceDTO> nearest(FilterTalentDTO filter, int limit) {
+        if (limit < 1 || limit > MAX_MATCH_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_MATCH_LIMIT);
+        }
+        if (Objects.isNull(filter.getNear()) || filter.getNear().trim().isEmpty()) {
+            throw new IllegalArgumentException("Near is required");
+        }
+        GeoPoint center = RegionHierarchy.indonesia().pointOf(filter.getNear());
+        if (!talentIndex.isReady()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Talent index is still loading");
+        }
+
+        List<NearbyTalent> nearest = talentIndex.nearest(filter, center, limit);
+        Map<String, TalentCard> cardsById = userRepository.findCardsByIds(nearest.stream().map(nearby -> nearby.talent().id()).toList()).stream()
+                .collect(Collectors.toMap(TalentCard::id, Function.identity()));
+
+        return nearest.stream()
+                .filter(nearby -> cardsById.containsKey(nearby.talent().id()))
+                .map(nearby -> TalentDistanceDTO.builder()
+                        .talent(toCard(cardsById.get(nearby.talent().id())))
+                        .distanceKm(nearby.distanceKm())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public List<TypeaheadSuggestionDTO> suggest(String prefix, int limit) {
+        if (limit < 1 || limit > MAX_SUGGEST_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SUGGEST_LIMIT);
+        }
+        if (Objects.isNull(prefix) || prefix.trim().isEmpty()) {
+            return List.of();
+        }
+        return typeaheadIndex.suggest(prefix, limit);
+    }
+
+    // Read in keyset chunks without a surrounding transaction, so a slow client never pins a connection between chunks
+    @Override
+    public void export(FilterTalentDTO filter, TalentExportFormat format, OutputStream out) throws IOException {
+        Specification<User> specification = buildSpecification(filter);
+        Sort sort = Sort.by(FIRST_NAME).and(Sort.by(LAST_NAME)).and(Sort.by(ID));
+
+        try (TalentExportWriter writer = TalentExportWriter.of(format, out)) {
+            TalentCursor cursor = null;
+            int written = 0;
+            while (written < MAX_EXPORT_ROWS) {
+                int limit = Math.min(EXPORT_CHUNK_SIZE, MAX_EXPORT_ROWS - written);
+                List<TalentCard> chunk = userRepository.findCards(
+                        cursor == null ? specification : specification.and(seekAfter(cursor)), sort, limit);
+                for (TalentCard card : chunk) {
+                    writer.write(card);
+                }
+                written += chunk.size();
+                if (chunk.size() < limit) {
+                    break;
+                }
+                cursor = TalentCursor.of(chunk.get(chunk.size() - 1));
+            }
+        }
+    }
+
+    private UserResponseWithPagingDTO filterWithIndex(FilterTalentDTO filter, Pageable page) {
+        BitSet matches = talentIndex.match(filter);
+        List<TalentCard> cards = findCardsInOrder(pageOf(filter, matches, (int) page.getOffset(), page.getPageSize()));
+
+        if (cards.isEmpty()) {
+            throw new EntityNotFoundException("No users found");
+        }
+
+        List<TalentCardDTO> cardDTOs = cards.stream()
+                .map(card -> toSearchResult(card, filter))
+                .toList();
+
+        int totalPages = (matches.cardinality() + page.getPageSize() - 1) / page.getPageSize();
+
+        return UserResponseWithPagingDTO.builder().users(cardDTOs).page(page.getPageNumber()).size(page.getPageSize()).totalPages(totalPages).build();
+    }
+
+    private TalentCardDTO toSearchResult(TalentCard card, FilterTalentDTO filter) {
+        TalentCardDTO dto = toCard(card);
+        if (isFuzzy(filter)) {
+            String fullName = TalentDocument.normalize(Objects.toString(card.firstName(), "") + " " + Objects.toString(card.lastName(), ""));
+            dto.setScore(TrigramIndex.similarity(filter.getName().trim().toLowerCase(), fullName));
+        }
+        return dto;
+    }
+
+    static TalentCardDTO toCard(TalentCard card) {
+        return TalentCardDTO.builder()
+                .id(card.id())
+                .firstName(card.firstName())
+                .lastName(card.lastName())
+                .photo(card.photo())
+                .skill(card.skill())
+                .currentLocation(card.currentLocation())
+                .skkLevel(card.skkLevel())
+                .experienceYears(card.experienceYears())
+                .price(card.price())
+                .build();
+    }
+
+    private List<TalentCard> findCardsInOrder(List<String> ids) {
+        Map<String, TalentCard> cardsById = userRepository.findCardsByIds(ids).stream()
+                .collect(Collectors.toMap(TalentCard::id, Function.identity()));
+
+        return ids.stream()
+                .map(cardsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // Ensure proper usage of builder and root within the Specification lambda
+    private Specification<User> buildSpecification(FilterTalentDTO filter) {
+        return (root, query, builder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             if (Objects.nonNull(filter.getName()) && !filter.getName().trim().isEmpty()) {
@@ -141,25 +606,39 @@ public class UserServiceImpl implements UserService, UserDetailsService {
             }
 
             if (Objects.nonNull(filter.getPreferredLocations()) && !filter.getPreferredLocations().isEmpty()) {
-                List<Predicate> locationPredicates = filter.getPreferredLocations().stream()
-                        .map(location -> builder.equal(
-                                builder.lower(root.get(CURRENT_LOCATION)),
-                                location.toLowerCase()
-                        ))
-                        .toList();
+                Set<String> locations = filter.getPreferredLocations().stream()
+                        .flatMap(location -> RegionHierarchy.indonesia().namesWithin(location).stream())
+                        .collect(Collectors.toSet());
+
+                predicates.add(builder.or(
+                        builder.lower(root.get(CURRENT_LOCATION)).in(locations),
+                        root.get(ID).in(withPreferredLocations(query, builder, locations))
+                ));
+            }
+
+            GeoRadius radius = GeoRadius.of(filter);
+            if (radius != null) {
+                Set<String> locations = RegionHierarchy.indonesia().namesNear(radius.center(), radius.radiusKm());
 
-                predicates.add(builder.or(locationPredicates.toArray(new Predicate[0])));
+                predicates.add(locations.isEmpty() ? builder.disjunction() : builder.or(
+                        builder.lower(root.get(CURRENT_LOCATION)).in(locations),
+                        root.get(ID).in(withPreferredLocations(query, builder, locations))
+                ));
             }
 
             if (Objects.nonNull(filter.getSkills()) && !filter.getSkills().isEmpty()) {
-                List<Predicate> skillsPredicates = filter.getSkills().stream()
-                        .map(skill -> builder.equal(
-                                builder.lower(root.get(SKILL)),
-                                skill.toLowerCase()
+                predicates.add(root.get(ID).in(withSkills(query, builder, filter)));
+            }
+
+            if (Objects.nonNull(filter.getSkkLevels()) && !filter.getSkkLevels().isEmpty()) {
+                List<Predicate> skkLevelPredicates = filter.getSkkLevels().stream()
+                        .map(skkLevel -> builder.equal(
+                                builder.lower(root.get(SKK_LEVEL)),
+                                skkLevel.toLowerCase()
                         ))
                         .toList();
 
-                predicates.add(builder.or(skillsPredicates.toArray(new Predicate[0])));
+                predicates.add(builder.or(skkLevelPredicates.toArray(new Predicate[0])));
             }
 
             if (Objects.nonNull(filter.getPriceRange()) && filter.getPriceRange().size() == 2) {
@@ -173,26 +652,54 @@ public class UserServiceImpl implements UserService, UserDetailsService {
 
             return builder.and(predicates.toArray(new Predicate[0]));
         };
+    }
 
-        // Create a Sort object that orders by firstName and then by lastName
-        Sort sort = Sort.by(FIRST_NAME).and(Sort.by(LAST_NAME));
-        Pageable pageable = PageRequest.of(page.getPageNumber(), page.getPageSize(), sort);
-        Page<User> userPage = userRepository.findAll(specification, pageable);
+    // Resolves through the skill dictionary and user_skills indexes instead of scanning users
+    private Subquery<String> withSkills(CriteriaQuery<?> query, CriteriaBuilder builder, FilterTalentDTO filter) {
+        List<String> names = filter.getSkills().stream()
+                .flatMap(skill -> TalentDocument.skillTerms(skill).stream())
+                .map(TalentDocument::normalize)
+                .distinct()
+                .toList();
 
-        if(userPage.isEmpty()){
-            throw  new EntityNotFoundException("No users found");
+        Subquery<String> subquery = query.subquery(String.class);
+        Root<User> user = subquery.from(User.class);
+        Join<User, Skill> skill = user.join(SKILLS);
+        subquery.select(user.get(ID)).where(names.isEmpty() ? builder.disjunction() : skill.get(NAME).in(names));
+
+        if (filter.getSkillMatch() == SkillMatch.ALL) {
+            subquery.groupBy(user.get(ID)).having(builder.equal(builder.countDistinct(skill.get(ID)), (long) names.size()));
         }
+        return subquery;
+    }
 
-        List<UserResponseDTO> userDTOs = userPage.getContent().stream()
-                .map(user -> DTOMapper.map(user, UserResponseDTO.class))
-                .toList();
+    // Region and radius lookups are expanded to place names up front so each location compares against a plain IN list
+    private Subquery<String> withPreferredLocations(CriteriaQuery<?> query, CriteriaBuilder builder, Set<String> locations) {
+        Subquery<String> subquery = query.subquery(String.class);
+        Root<User> user = subquery.from(User.class);
+        Join<User, String> location = user.join(PREFERRED_LOCATIONS);
+        subquery.select(user.get(ID)).where(builder.lower(location).in(locations));
+        return subquery;
+    }
 
-        return UserResponseWithPagingDTO.builder().users(userDTOs).page( userPage.getNumber()).size(userPage.getSize()).totalPages(userPage.getTotalPages()).build();
+    private Specification<User> seekAfter(TalentCursor cursor) {
+        return (root, query, builder) -> builder.or(
+                builder.greaterThan(root.get(FIRST_NAME), cursor.firstName()),
+                builder.and(
+                        builder.equal(root.get(FIRST_NAME), cursor.firstName()),
+                        builder.greaterThan(root.get(LAST_NAME), cursor.lastName())
+                ),
+                builder.and(
+                        builder.equal(root.get(FIRST_NAME), cursor.firstName()),
+                        builder.equal(root.get(LAST_NAME), cursor.lastName()),
+                        builder.greaterThan(root.get(ID), cursor.id())
+                )
+        );
     }
 
     @Override
     public User loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByEmail(username)
+        return userDetailsCache.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 }
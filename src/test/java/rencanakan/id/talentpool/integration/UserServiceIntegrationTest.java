@@ -1,5 +1,6 @@
 package rencanakan.id.talentpool.integration;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,13 +11,34 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.web.server.ResponseStatusException;
 import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.SkillMatch;
+import rencanakan.id.talentpool.dto.UserRequestDTO;
 import rencanakan.id.talentpool.dto.UserResponseWithPagingDTO;
+import rencanakan.id.talentpool.enums.EmploymentType;
+import rencanakan.id.talentpool.enums.LocationType;
+import rencanakan.id.talentpool.index.TalentIndex;
+import rencanakan.id.talentpool.index.TalentTextIndex;
+import rencanakan.id.talentpool.index.TypeaheadIndex;
+import rencanakan.id.talentpool.model.Experience;
 import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.repository.ExperienceRepository;
+import rencanakan.id.talentpool.repository.SkillRepository;
 import rencanakan.id.talentpool.repository.UserRepository;
+import rencanakan.id.talentpool.service.TalentCountEstimator;
+import rencanakan.id.talentpool.service.TalentCountMode;
+import rencanakan.id.talentpool.service.TalentExportFormat;
+import rencanakan.id.talentpool.service.TalentSearchCache;
 import rencanakan.id.talentpool.service.UserService;
+import rencanakan.id.talentpool.service.UserDetailsCache;
 import rencanakan.id.talentpool.service.UserServiceImpl;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -28,12 +50,25 @@ class UserServiceIntegrationTest {
 
     @Autowired
     private UserRepository userRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
     private UserService userService;
+    private TalentIndex talentIndex;
+    private TalentTextIndex textIndex;
     private  Pageable page;
 
     @BeforeEach
     void setup() {
-        userService = new UserServiceImpl(userRepository, jakarta.validation.Validation.buildDefaultValidatorFactory().getValidator());
+        talentIndex = new TalentIndex();
+        textIndex = new TalentTextIndex();
+        TalentSearchCache searchCache = new TalentSearchCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+        TalentCountEstimator countEstimator = new TalentCountEstimator(Runnable::run, 100, Duration.ofMinutes(1));
+        userService = new UserServiceImpl(userRepository, jakarta.validation.Validation.buildDefaultValidatorFactory().getValidator(), talentIndex, searchCache, countEstimator, skillRepository, new TypeaheadIndex(), textIndex,
+                new UserDetailsCache(userRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)), event -> { });
         User user = User.builder()
                 .firstName("John")
                 .lastName("Doe")
@@ -47,12 +82,17 @@ class UserServiceIntegrationTest {
                 .price(75)
                 .aboutMe("Full-stack developer with 5+ years experience")
                 .build();
-        userRepository.save(user);
+        save(user);
 
         page = PageRequest.of(0, 1);
     }
 
 
+    private User save(User user) {
+        userService.assignSkills(user);
+        return userRepository.save(user);
+    }
+
     @Test
     void testFilter_SuccessfulMatch() {
         FilterTalentDTO filter = FilterTalentDTO.builder().name("john").preferredLocations( List.of("Jakarta")).skills(List.of("Java")).priceRange(List.of(50.0, 100.0)).build();
@@ -68,14 +108,14 @@ class UserServiceIntegrationTest {
 
     @Test
     void testFilter_LocationMismatch() {
-        FilterTalentDTO filter = new FilterTalentDTO(null, List.of("CA"), null, null);
+        FilterTalentDTO filter = FilterTalentDTO.builder().skills(List.of("CA")).build();
         assertThrows(EntityNotFoundException.class, () -> userService.filter(filter,page));
     }
 
     // Edge Test: Empty price range (ignored) [[6]]
     @Test
     void testFilter_EmptyPriceRange() {
-        FilterTalentDTO filter = new FilterTalentDTO(null, null, null, List.of());
+        FilterTalentDTO filter = FilterTalentDTO.builder().priceRange(List.of()).build();
         UserResponseWithPagingDTO result = userService.filter(filter,page);
         assertFalse(result.getUsers().isEmpty()); // Price filter skipped
         assertEquals(result.getPage(),0);
@@ -86,7 +126,7 @@ class UserServiceIntegrationTest {
     // Edge Test: Exact price boundary [[4]]
     @Test
     void testFilter_ExactPriceBoundary() {
-        FilterTalentDTO filter = new FilterTalentDTO(null, null, null, List.of(75.0, 75.0));
+        FilterTalentDTO filter = FilterTalentDTO.builder().priceRange(List.of(75.0, 75.0)).build();
         UserResponseWithPagingDTO result = userService.filter(filter, page);
         assertFalse(result.getUsers().isEmpty()); // Exact price match
         assertEquals(result.getPage(),0);
@@ -97,12 +137,12 @@ class UserServiceIntegrationTest {
     // Negative Test: Non-existent skill [[4]]
     @Test
     void testFilter_SkillMismatch() {
-        FilterTalentDTO filter = new FilterTalentDTO(null, null, List.of("Python"), null);
+        FilterTalentDTO filter = FilterTalentDTO.builder().preferredLocations(List.of("Python")).build();
         assertThrows(EntityNotFoundException.class, () -> userService.filter(filter,page));
     }
     @Test
     void testBlank() {
-        FilterTalentDTO filter = new FilterTalentDTO(null, List.of(), List.of(), null);
+        FilterTalentDTO filter = FilterTalentDTO.builder().skills(List.of()).preferredLocations(List.of()).build();
         UserResponseWithPagingDTO result = userService.filter(filter, page);
         assertFalse(result.getUsers().isEmpty());
         assertEquals(result.getTotalPages(), 1);
@@ -145,8 +185,8 @@ class UserServiceIntegrationTest {
                 .price(90)
                 .build();
                 
-        userRepository.save(userA);
-        userRepository.save(userZ);
+        save(userA);
+        save(userZ);
         
         // Use a larger page size to get all users
         Pageable largerPage = PageRequest.of(0, 10);
@@ -180,4 +220,244 @@ class UserServiceIntegrationTest {
         assertFalse(result.getUsers().isEmpty());
         assertTrue(result.getUsers().size() >= 1);
     }
+
+    @Test
+    void testFilterAfter_WalksAllPagesInOrder() {
+        User userA = User.builder()
+                .firstName("Alice")
+                .lastName("Smith")
+                .email("alice.smith@example.com")
+                .password("SecurePass123!")
+                .phoneNumber("081234567891")
+                .nik("1234567890123457")
+                .currentLocation("Jakarta")
+                .skill("Java")
+                .price(80)
+                .build();
+        save(userA);
+
+        FilterTalentDTO filter = new FilterTalentDTO();
+
+        UserResponseWithPagingDTO first = userService.filter(filter, "", 1);
+        assertEquals(1, first.getUsers().size());
+        assertEquals("Alice", first.getUsers().get(0).getFirstName());
+        assertNotNull(first.getNextCursor());
+
+        UserResponseWithPagingDTO second = userService.filter(filter, first.getNextCursor(), 1);
+        assertEquals(1, second.getUsers().size());
+        assertEquals("John", second.getUsers().get(0).getFirstName());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void testFilter_WithBuiltIndex_MatchesDatabaseResults() {
+        talentIndex.rebuild(userRepository.loadTalentDocuments());
+
+        FilterTalentDTO filter = FilterTalentDTO.builder().name("john").preferredLocations(List.of("jakarta")).skills(List.of("JAVA")).priceRange(List.of(50.0, 100.0)).build();
+        UserResponseWithPagingDTO result = userService.filter(filter, page);
+
+        assertEquals(1, result.getUsers().size());
+        assertEquals("John", result.getUsers().get(0).getFirstName());
+        assertEquals(1, result.getTotalPages());
+
+        FilterTalentDTO mismatch = FilterTalentDTO.builder().priceRange(List.of(76.0, 100.0)).build();
+        assertThrows(EntityNotFoundException.class, () -> userService.filter(mismatch, page));
+    }
+
+    @Test
+    void testFilter_WithBuiltIndex_FuzzyNameToleratesTypos() {
+        talentIndex.rebuild(userRepository.loadTalentDocuments());
+
+        FilterTalentDTO strict = FilterTalentDTO.builder().name("jonh").build();
+        assertThrows(EntityNotFoundException.class, () -> userService.filter(strict, page));
+
+        FilterTalentDTO fuzzy = FilterTalentDTO.builder().name("jonh").fuzzy(true).build();
+        UserResponseWithPagingDTO result = userService.filter(fuzzy, page);
+
+        assertEquals("John", result.getUsers().get(0).getFirstName());
+        assertTrue(result.getUsers().get(0).getScore() > 0);
+    }
+
+    @Test
+    void testExportStreamsMatchingTalentsAsNdjson() throws Exception {
+        save(User.builder()
+                .firstName("Alice")
+                .lastName("Smith")
+                .email("alice.export@example.com")
+                .password("SecurePass123!")
+                .phoneNumber("081234567893")
+                .nik("1234567890123499")
+                .currentLocation("Bandung")
+                .skill("Python")
+                .build());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        userService.export(FilterTalentDTO.builder().skills(List.of("java")).build(), TalentExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].contains("\"firstName\":\"John\""));
+        assertFalse(lines[0].contains("aboutMe"));
+    }
+
+    @Test
+    void testFilterWithoutCountReportsHasNext() {
+        save(User.builder()
+                .firstName("Alice")
+                .lastName("Smith")
+                .email("alice.slice@example.com")
+                .password("SecurePass123!")
+                .phoneNumber("081234567894")
+                .nik("1234567890123488")
+                .build());
+
+        UserResponseWithPagingDTO first = userService.filter(new FilterTalentDTO(), PageRequest.of(0, 1), TalentCountMode.NONE);
+        UserResponseWithPagingDTO second = userService.filter(new FilterTalentDTO(), PageRequest.of(1, 1), TalentCountMode.ESTIMATE);
+
+        assertEquals("Alice", first.getUsers().get(0).getFirstName());
+        assertTrue(first.getHasNext());
+        assertEquals("John", second.getUsers().get(0).getFirstName());
+        assertFalse(second.getHasNext());
+        // First estimate request schedules the count and reports nothing yet
+        assertNull(second.getEstimatedTotal());
+        assertEquals(Long.valueOf(2), userService.filter(new FilterTalentDTO(), PageRequest.of(1, 1), TalentCountMode.ESTIMATE).getEstimatedTotal());
+    }
+
+    @Test
+    void testFilter_BySkillsAnyAndAll() {
+        save(User.builder()
+                .firstName("Alice")
+                .lastName("Smith")
+                .email("alice.skills@example.com")
+                .password("SecurePass123!")
+                .phoneNumber("081234567895")
+                .nik("1234567890123477")
+                .skill("Java, Spring Boot;  Docker")
+                .build());
+
+        FilterTalentDTO any = FilterTalentDTO.builder().skills(List.of("spring boot", "java")).build();
+        FilterTalentDTO all = FilterTalentDTO.builder().skills(List.of("SPRING  BOOT", "java")).skillMatch(SkillMatch.ALL).build();
+        FilterTalentDTO missing = FilterTalentDTO.builder().skills(List.of("docker", "python")).skillMatch(SkillMatch.ALL).build();
+
+        assertEquals(2, userService.filter(any, PageRequest.of(0, 10)).getUsers().size());
+        UserResponseWithPagingDTO allResult = userService.filter(all, PageRequest.of(0, 10));
+        assertEquals(1, allResult.getUsers().size());
+        assertEquals("Alice", allResult.getUsers().get(0).getFirstName());
+        assertThrows(EntityNotFoundException.class, () -> userService.filter(missing, PageRequest.of(0, 10)));
+        assertEquals(3, skillRepository.count());
+
+        talentIndex.rebuild(userRepository.loadTalentDocuments());
+        assertEquals(1, userService.filter(all, PageRequest.of(0, 5)).getUsers().size());
+    }
+
+    @Test
+    void testFilter_ByRegion_MatchesPreferredLocationsWithAndWithoutIndex() {
+        save(User.builder()
+                .firstName("Alice")
+                .lastName("Smith")
+                .email("alice.region@example.com")
+                .password("SecurePass123!")
+                .phoneNumber("081234567896")
+                .nik("1234567890123466")
+                .currentLocation("Kota Cimahi")
+                .build());
+
+        FilterTalentDTO westJava = FilterTalentDTO.builder().preferredLocations(List.of("Jawa Barat")).build();
+        FilterTalentDTO abroad = FilterTalentDTO.builder().preferredLocations(List.of("ny")).build();
+        FilterTalentDTO centralJava = FilterTalentDTO.builder().preferredLocations(List.of("Jawa Tengah")).build();
+
+        assertEquals(2, userService.filter(westJava, PageRequest.of(0, 10)).getUsers().size());
+        assertEquals("John", userService.filter(abroad, PageRequest.of(0, 10)).getUsers().get(0).getFirstName());
+        assertThrows(EntityNotFoundException.class, () -> userService.filter(centralJava, PageRequest.of(0, 10)));
+
+        talentIndex.rebuild(userRepository.loadTalentDocuments());
+        assertEquals(2, userService.filter(westJava, PageRequest.of(0, 5)).getUsers().size());
+        assertEquals(1, userService.filter(abroad, PageRequest.of(0, 5)).getUsers().size());
+        assertThrows(EntityNotFoundException.class, () -> userService.filter(centralJava, PageRequest.of(0, 5)));
+    }
+
+    @Test
+    void testEditById_OnlyPreferredLocations_ReindexesTheTalent() {
+        talentIndex.rebuild(userRepository.loadTalentDocuments());
+        String id = userRepository.findByEmail("john.doe@example.com").orElseThrow().getId();
+        FilterTalentDTO eastJava = FilterTalentDTO.builder().preferredLocations(List.of("Jawa Timur")).build();
+        assertThrows(EntityNotFoundException.class, () -> userService.filter(eastJava, PageRequest.of(0, 5)));
+
+        userService.editById(id, UserRequestDTO.builder().preferredLocations(List.of("Surabaya")).build());
+        // The index is updated once the edit commits
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        try {
+            assertEquals("John", userService.filter(eastJava, PageRequest.of(0, 5)).getUsers().get(0).getFirstName());
+            FilterTalentDTO westJava = FilterTalentDTO.builder().preferredLocations(List.of("Jawa Barat")).build();
+            assertThrows(EntityNotFoundException.class, () -> userService.filter(westJava, PageRequest.of(0, 5)));
+        } finally {
+            TestTransaction.start();
+            userRepository.deleteAll();
+            skillRepository.deleteAll();
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+
+    @Test
+    void testFilter_ByRadius_MatchesWithAndWithoutIndex() {
+        save(User.builder()
+                .firstName("Alice")
+                .lastName("Smith")
+                .email("alice.radius@example.com")
+                .password("SecurePass123!")
+                .phoneNumber("081234567897")
+                .nik("1234567890123455")
+                .currentLocation("Surabaya")
+                .build());
+
+        FilterTalentDTO nearBandung = FilterTalentDTO.builder().near("Cimahi").radiusKm(25.0).build();
+        FilterTalentDTO nearSidoarjo = FilterTalentDTO.builder().near("Kabupaten Sidoarjo").radiusKm(40.0).build();
+
+        assertEquals("John", userService.filter(nearBandung, PageRequest.of(0, 10)).getUsers().get(0).getFirstName());
+        assertEquals("Alice", userService.filter(nearSidoarjo, PageRequest.of(0, 10)).getUsers().get(0).getFirstName());
+
+        talentIndex.rebuild(userRepository.loadTalentDocuments());
+        assertEquals("John", userService.filter(nearBandung, PageRequest.of(0, 5)).getUsers().get(0).getFirstName());
+        assertEquals(1, userService.filter(nearSidoarjo, PageRequest.of(0, 5)).getUsers().size());
+        assertEquals("Alice", userService.nearest(FilterTalentDTO.builder().near("Malang").build(), 1).get(0).getTalent().getFirstName());
+    }
+
+    @Test
+    void testFilter_ByFullText_RanksAboutMeSkillAndExperienceTitles() {
+        User alice = save(User.builder()
+                .firstName("Alice")
+                .lastName("Smith")
+                .email("alice.text@example.com")
+                .password("SecurePass123!")
+                .phoneNumber("081234567898")
+                .nik("1234567890123444")
+                .skill("Site Engineer")
+                .aboutMe("Berpengalaman membangun gedung bertingkat di Jakarta.")
+                .build());
+        experienceRepository.save(Experience.builder()
+                .title("Pengawas Gedung")
+                .company("PT Bangun")
+                .employmentType(EmploymentType.FULL_TIME)
+                .startDate(LocalDate.of(2020, 1, 1))
+                .location("Jakarta")
+                .locationType(LocationType.ON_SITE)
+                .user(alice)
+                .build());
+
+        FilterTalentDTO query = FilterTalentDTO.builder().query("pengalaman gedung bertingkat").build();
+        assertThrows(ResponseStatusException.class, () -> userService.filter(query, PageRequest.of(0, 10)));
+
+        talentIndex.rebuild(userRepository.loadTalentDocuments());
+        textIndex.rebuild(userRepository.findAllTalentTexts(), experienceRepository.findAllTitles());
+
+        UserResponseWithPagingDTO result = userService.filter(query, PageRequest.of(0, 10));
+        assertEquals(1, result.getUsers().size());
+        assertEquals("Alice", result.getUsers().get(0).getFirstName());
+        assertTrue(result.getUsers().get(0).getScore() > 0);
+        assertThrows(EntityNotFoundException.class, () -> userService.filter(
+                FilterTalentDTO.builder().query("pengawas gedung").skkLevels(List.of("Ahli")).build(), PageRequest.of(0, 10)));
+    }
 }
@@ -16,7 +16,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import rencanakan.id.talentpool.configs.ApplicationConfiguration;
 import rencanakan.id.talentpool.model.User;
-import rencanakan.id.talentpool.repository.UserRepository;
+import rencanakan.id.talentpool.service.UserDetailsCache;
 
 import java.util.Optional;
 
@@ -27,7 +27,7 @@ import static org.mockito.Mockito.*;
 class ApplicationConfigurationTest {
 
     @Mock
-    private UserRepository userRepository;
+    private UserDetailsCache userDetailsCache;
 
     @InjectMocks
     private ApplicationConfiguration applicationConfiguration;
@@ -51,7 +51,7 @@ class ApplicationConfigurationTest {
 
     @Test
     void testUserDetailsService_UserFound() {
-        when(userRepository.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
+        when(userDetailsCache.findByEmail(testUser.getEmail())).thenReturn(Optional.of(testUser));
 
         UserDetailsService userDetailsService = applicationConfiguration.userDetailsService();
 
@@ -63,7 +63,7 @@ class ApplicationConfigurationTest {
 
     @Test
     void testUserDetailsService_UserNotFound() {
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(userDetailsCache.findByEmail(anyString())).thenReturn(Optional.empty());
 
         UserDetailsService userDetailsService = applicationConfiguration.userDetailsService();
 
@@ -87,7 +87,7 @@ class ApplicationConfigurationTest {
 
         when(mockAuthenticationConfiguration.getAuthenticationManager()).thenReturn(mockAuthenticationManager);
 
-        ApplicationConfiguration config = new ApplicationConfiguration(userRepository);
+        ApplicationConfiguration config = new ApplicationConfiguration(userDetailsCache);
 
         AuthenticationManager authenticationManager = config.authenticationManager(mockAuthenticationConfiguration);
 
@@ -97,7 +97,7 @@ class ApplicationConfigurationTest {
 
     @Test
     void testAuthenticationProvider() {
-        ApplicationConfiguration config = new ApplicationConfiguration(userRepository);
+        ApplicationConfiguration config = new ApplicationConfiguration(userDetailsCache);
 
         DaoAuthenticationProvider authProvider = (DaoAuthenticationProvider) config.authenticationProvider();
 
@@ -0,0 +1,111 @@
+package rencanakan.id.talentpool.unit.configs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import rencanakan.id.talentpool.configs.BoundedPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    void encodeAndMatches_runOnThePool() {
+        passwordEncoder = new BoundedPasswordEncoder(1, 4);
+
+        String encoded = passwordEncoder.encode("SecurePass123!");
+
+        assertTrue(passwordEncoder.matches("SecurePass123!", encoded));
+        assertFalse(passwordEncoder.matches("wrong", encoded));
+    }
+
+    @Test
+    void encodeAll_hashesEveryPasswordInOrder() {
+        passwordEncoder = new BoundedPasswordEncoder(2, 1);
+        List<String> passwords = List.of("FirstPass123!", "SecondPass123!", "ThirdPass123!");
+
+        List<String> encoded = passwordEncoder.encodeAll(passwords);
+
+        assertEquals(3, encoded.size());
+        for (int i = 0; i < passwords.size(); i++) {
+            assertTrue(passwordEncoder.matches(passwords.get(i), encoded.get(i)));
+        }
+    }
+
+    @Test
+    void matches_isNotStarvedByARunningBatch() {
+        passwordEncoder = new BoundedPasswordEncoder(1, 4);
+        String encoded = passwordEncoder.encode("SecurePass123!");
+        List<String> passwords = Collections.nCopies(12, "ImportPass123!");
+
+        CompletableFuture<List<String>> imported = CompletableFuture.supplyAsync(() -> passwordEncoder.encodeAll(passwords));
+        assertTrue(passwordEncoder.matches("SecurePass123!", encoded));
+        assertFalse(imported.isDone());
+
+        assertEquals(12, imported.join().size());
+    }
+
+    @Test
+    void bindTo_recordsHashLatencyAndQueueMetrics() {
+        passwordEncoder = new BoundedPasswordEncoder(1, 4);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder.bindTo(meterRegistry);
+
+        passwordEncoder.matches("SecurePass123!", passwordEncoder.encode("SecurePass123!"));
+
+        assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "matches").timer().count());
+        assertEquals(0.0, meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge().value());
+    }
+
+    @Test
+    void encode_shedsWith429WhenPoolAndQueueAreFull() throws Exception {
+        passwordEncoder = new BoundedPasswordEncoder(1, 1);
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                return passwordEncoder.encode("SecurePass123!");
+            }));
+        }
+        start.countDown();
+
+        int shed = 0;
+        for (Future<String> result : results) {
+            try {
+                assertNotNull(result.get());
+            } catch (ExecutionException e) {
+                ResponseStatusException cause = assertInstanceOf(ResponseStatusException.class, e.getCause());
+                assertEquals(HttpStatus.TOO_MANY_REQUESTS, cause.getStatusCode());
+                shed++;
+            }
+        }
+        pool.shutdown();
+
+        assertTrue(shed > 0);
+        assertTrue(shed <= callers - 2);
+    }
+}
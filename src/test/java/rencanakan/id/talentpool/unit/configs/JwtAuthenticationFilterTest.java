@@ -0,0 +1,123 @@
+package rencanakan.id.talentpool.unit.configs;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import rencanakan.id.talentpool.configs.JwtAuthenticationFilter;
+import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.service.JwtService;
+import rencanakan.id.talentpool.service.TokenRevocations;
+import rencanakan.id.talentpool.service.TokenVersions;
+import rencanakan.id.talentpool.service.UserServiceImpl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET_KEY = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    @Mock
+    private UserServiceImpl userService;
+
+    @Mock
+    private TokenVersions tokenVersions;
+
+    @Mock
+    private TokenRevocations tokenRevocations;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private JwtService jwtService;
+    private JwtAuthenticationFilter filter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3600000L);
+
+        filter = new JwtAuthenticationFilter(jwtService, userService, tokenVersions, tokenRevocations);
+
+        user = User.builder()
+                .id("1")
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testLoadsUserFromDatabaseByDefault() throws Exception {
+        when(userService.loadUserByUsername(user.getEmail())).thenReturn(user);
+
+        filter.doFilterInternal(requestWith(jwtService.generateToken(user)), new MockHttpServletResponse(), filterChain);
+
+        assertSame(user, principal().getPrincipal());
+        verifyNoInteractions(tokenVersions);
+    }
+
+    @Test
+    void testStatelessPrincipalSkipsDatabase() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", true);
+        when(tokenVersions.isCurrent("1", 0)).thenReturn(true);
+
+        filter.doFilterInternal(requestWith(jwtService.generateToken(user)), new MockHttpServletResponse(), filterChain);
+
+        User principal = (User) principal().getPrincipal();
+        assertEquals("1", principal.getId());
+        assertEquals("john.doe@example.com", principal.getEmail());
+        verifyNoInteractions(userService);
+        verify(filterChain).doFilter(any(), any());
+    }
+
+    @Test
+    void testStatelessPrincipalRejectsOutdatedTokenVersion() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessPrincipal", true);
+        when(tokenVersions.isCurrent("1", 0)).thenReturn(false);
+
+        filter.doFilterInternal(requestWith(jwtService.generateToken(user)), new MockHttpServletResponse(), filterChain);
+
+        assertNull(principal());
+        verify(filterChain).doFilter(any(), any());
+    }
+
+    @Test
+    void testRevokedTokenIsNotAuthenticated() throws Exception {
+        String token = jwtService.generateToken(user);
+        when(tokenRevocations.isRevoked(jwtService.verify(token).getId())).thenReturn(true);
+
+        filter.doFilterInternal(requestWith(token), new MockHttpServletResponse(), filterChain);
+
+        assertNull(principal());
+        verifyNoInteractions(userService);
+        verify(filterChain).doFilter(any(), any());
+    }
+
+    private static MockHttpServletRequest requestWith(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static Authentication principal() {
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -9,11 +9,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.server.ResponseStatusException;
 import rencanakan.id.talentpool.controller.AuthenticationController;
 import rencanakan.id.talentpool.dto.LoginRequestDTO;
 import rencanakan.id.talentpool.dto.ResetPasswordDTO;
@@ -22,10 +24,17 @@ import rencanakan.id.talentpool.model.User;
 import rencanakan.id.talentpool.repository.PasswordResetTokenRepository;
 import rencanakan.id.talentpool.service.AuthenticationService;
 import rencanakan.id.talentpool.service.JwtService;
+import rencanakan.id.talentpool.service.TokenRevocations;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 
 import java.util.Arrays;
+import java.util.Date;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -45,6 +54,9 @@ class AuthenticationControllerTest {
     @Mock
     private JwtService jwtService;
 
+    @Mock
+    private TokenRevocations tokenRevocations;
+
     @InjectMocks
     private AuthenticationController authenticationController;
 
@@ -109,6 +121,16 @@ class AuthenticationControllerTest {
         verify(authenticationService, times(1)).signup(any(UserRequestDTO.class));
     }
 
+    @Test
+    void testRegister_SheddingIsNotReportedAsBadRequest() throws Exception {
+        when(authenticationService.signup(any(UserRequestDTO.class)))
+                .thenThrow(new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many requests, please try again shortly"));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> authenticationController.register(validUserRequestDTO));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatusCode());
+    }
+
     @Test
     void testRegister_InvalidEmail() throws Exception {
         UserRequestDTO invalidUserRequestDTO = createUser();
@@ -250,4 +272,27 @@ class AuthenticationControllerTest {
 
         verify(authenticationService).resetPasswordWithToken("abc", "newpass");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testLogout_RevokesToken() throws Exception {
+        Date expiration = new Date((System.currentTimeMillis() / 1000 + 60) * 1000);
+        Claims claims = Jwts.claims();
+        claims.setId("token-id");
+        claims.setExpiration(expiration);
+        when(jwtService.verify("abc")).thenReturn(claims);
+
+        mockMvc.perform(post("/auth/logout")
+                        .header("Authorization", "Bearer abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value("Token revoked."));
+
+        verify(tokenRevocations).revoke("token-id", expiration);
+    }
+
+    @Test
+    void testLogout_RejectsNonBearerHeader() {
+        assertThrows(IllegalArgumentException.class, () -> authenticationController.logout("Basic abc"));
+
+        verifyNoInteractions(tokenRevocations);
+    }
+}
@@ -0,0 +1,119 @@
+package rencanakan.id.talentpool.unit.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import rencanakan.id.talentpool.controller.ErrorController;
+import rencanakan.id.talentpool.controller.SavedSearchController;
+import rencanakan.id.talentpool.dto.*;
+import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.service.SavedSearchService;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class SavedSearchControllerTest {
+
+    @Mock
+    private SavedSearchService savedSearchService;
+
+    @InjectMocks
+    private SavedSearchController savedSearchController;
+
+    private MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final User contractor = User.builder().id("contractor1").build();
+
+    private final SavedSearchResponseDTO response = SavedSearchResponseDTO.builder()
+            .id("search1")
+            .contractorId("contractor1")
+            .name("Welders")
+            .filter(FilterTalentDTO.builder().skills(List.of("welder")).build())
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(savedSearchController)
+                .setControllerAdvice(new ErrorController())
+                .setCustomArgumentResolvers(new PrincipalDetailsArgumentResolver(contractor))
+                .build();
+    }
+
+    @Test
+    void create_returnsCreatedSearch() throws Exception {
+        SavedSearchRequestDTO request = SavedSearchRequestDTO.builder()
+                .name("Welders")
+                .filter(response.getFilter())
+                .build();
+        when(savedSearchService.create(eq("contractor1"), any(SavedSearchRequestDTO.class))).thenReturn(response);
+
+        mockMvc.perform(post("/saved-searches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.id").value("search1"))
+                .andExpect(jsonPath("$.data.filter.skills[0]").value("welder"));
+    }
+
+    @Test
+    void create_withoutName_returnsBadRequest() throws Exception {
+        SavedSearchRequestDTO request = SavedSearchRequestDTO.builder()
+                .filter(response.getFilter())
+                .build();
+
+        mockMvc.perform(post("/saved-searches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors").value("Name is required"));
+        verifyNoInteractions(savedSearchService);
+    }
+
+    @Test
+    void getByContractorId_returnsSearches() throws Exception {
+        when(savedSearchService.getByContractorId("contractor1")).thenReturn(List.of(response));
+
+        mockMvc.perform(get("/saved-searches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].name").value("Welders"));
+    }
+
+    @Test
+    void deleteById_whenMissing_returnsNotFound() throws Exception {
+        when(savedSearchService.deleteById("contractor1", "missing")).thenThrow(new EntityNotFoundException("Saved search with id missing not found."));
+
+        mockMvc.perform(delete("/saved-searches/missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errors").value("Saved search with id missing not found."));
+    }
+
+    @Test
+    void collectMatches_returnsQueuedTalents() throws Exception {
+        when(savedSearchService.collectMatches("contractor1")).thenReturn(List.of(SavedSearchMatchDTO.builder()
+                .savedSearchId("search1")
+                .savedSearchName("Welders")
+                .talent(TalentCardDTO.builder().id("t1").firstName("John").build())
+                .build()));
+
+        mockMvc.perform(post("/saved-searches/matches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].talent.id").value("t1"))
+                .andExpect(jsonPath("$.data[0].savedSearchName").value("Welders"));
+    }
+}
@@ -18,21 +18,44 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import rencanakan.id.talentpool.controller.ErrorController;
 import rencanakan.id.talentpool.controller.UserController;
+import rencanakan.id.talentpool.dto.FacetCountDTO;
 import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.TalentBatchResultDTO;
+import rencanakan.id.talentpool.dto.TalentCardDTO;
+import rencanakan.id.talentpool.dto.TalentDistanceDTO;
+import rencanakan.id.talentpool.dto.TalentFacetsDTO;
+import rencanakan.id.talentpool.dto.TalentImportResultDTO;
+import rencanakan.id.talentpool.dto.TalentImportRowDTO;
+import rencanakan.id.talentpool.dto.TalentMatchDTO;
+import rencanakan.id.talentpool.dto.TalentMatchRequestDTO;
+import rencanakan.id.talentpool.dto.TypeaheadSuggestionDTO;
 import rencanakan.id.talentpool.dto.UserRequestDTO;
 import rencanakan.id.talentpool.dto.UserResponseDTO;
 import rencanakan.id.talentpool.dto.UserResponseWithPagingDTO;
+import rencanakan.id.talentpool.enums.ImportStatus;
 import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.service.TalentBatchSearch;
+import rencanakan.id.talentpool.service.TalentCountMode;
+import rencanakan.id.talentpool.service.TalentExportFormat;
+import rencanakan.id.talentpool.service.TalentExportSlots;
+import rencanakan.id.talentpool.service.TalentImport;
 import rencanakan.id.talentpool.service.UserService;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +67,15 @@ class UserControllerTest {
     @Mock
     private Validator validator;
 
+    @Mock
+    private TalentBatchSearch batchSearch;
+
+    @Mock
+    private TalentImport talentImport;
+
+    @Mock
+    private TalentExportSlots exportSlots;
+
     @InjectMocks
     private UserController userController;
 
@@ -290,7 +322,7 @@ class UserControllerTest {
         @Test
         void getAllTalent_withNameFilter_returnsFilteredUsers() throws Exception {
 
-            UserResponseDTO userDto = UserResponseDTO.builder().firstName("John").lastName("Doe").build();
+            TalentCardDTO userDto = TalentCardDTO.builder().firstName("John").lastName("Doe").build();
 
             when(userService.filter(any(FilterTalentDTO.class), any(Pageable.class))).thenReturn(UserResponseWithPagingDTO.builder().users(List.of(userDto)).build() );
 
@@ -314,10 +346,10 @@ class UserControllerTest {
         @Test
         void getAllTalent_withNullName_returnsAllUsers() throws Exception {
 
-            UserResponseDTO user1 =UserResponseDTO.builder().firstName("Alice").build();
-            UserResponseDTO user2 = UserResponseDTO.builder().firstName("Bob").build();
+            TalentCardDTO user1 =TalentCardDTO.builder().firstName("Alice").build();
+            TalentCardDTO user2 = TalentCardDTO.builder().firstName("Bob").build();
 
-            List<UserResponseDTO> allUsers = List.of(user1, user2);
+            List<TalentCardDTO> allUsers = List.of(user1, user2);
 
             when(userService.filter(any(FilterTalentDTO.class), any(Pageable.class))).thenReturn(UserResponseWithPagingDTO.builder().users(allUsers).build());
 
@@ -326,6 +358,299 @@ class UserControllerTest {
                     .andExpect(jsonPath("$.data[0].firstName").value("Alice"))
                     .andExpect(jsonPath("$.data[1].firstName").value("Bob"));
         }
+
+        @Test
+        void getTalentFacets_returnsFacetCounts() throws Exception {
+            TalentFacetsDTO facets = TalentFacetsDTO.builder()
+                    .total(2)
+                    .skills(List.of(new FacetCountDTO("Welder", 2)))
+                    .build();
+
+            when(userService.facets(any(FilterTalentDTO.class), eq(1000))).thenReturn(facets);
+
+            mockMvc.perform(get("/users/contractor/facets")
+                            .param("skills", "Welder")
+                            .param("price_interval", "1000"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.total").value(2))
+                    .andExpect(jsonPath("$.data.skills[0].value").value("Welder"))
+                    .andExpect(jsonPath("$.data.skills[0].count").value(2));
+        }
+
+        @Test
+        void getTalentFacets_whileIndexLoading_returnsServiceUnavailable() throws Exception {
+            when(userService.facets(any(FilterTalentDTO.class), eq(500000)))
+                    .thenThrow(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Talent index is still loading"));
+
+            mockMvc.perform(get("/users/contractor/facets"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.errors").value("Talent index is still loading"));
+        }
+
+        @Test
+        void matchTalents_returnsRankedMatches() throws Exception {
+            TalentMatchDTO match = TalentMatchDTO.builder()
+                    .talent(TalentCardDTO.builder().firstName("Alice").build())
+                    .score(0.8)
+                    .breakdown(Map.of("skill", 0.8))
+                    .build();
+
+            when(userService.match(any(TalentMatchRequestDTO.class))).thenReturn(List.of(match));
+
+            mockMvc.perform(get("/users/contractor/match")
+                            .param("skills", "Welder")
+                            .param("min_experience_years", "3")
+                            .param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].talent.firstName").value("Alice"))
+                    .andExpect(jsonPath("$.data[0].score").value(0.8))
+                    .andExpect(jsonPath("$.data[0].breakdown.skill").value(0.8))
+                    .andExpect(jsonPath("$.size").value(1));
+
+            verify(userService).match(argThat(request -> request.getLimit() == 5
+                    && request.getMinExperienceYears() == 3
+                    && request.getSkills().equals(List.of("Welder"))));
+        }
+
+        @Test
+        void suggestTalents_returnsSuggestions() throws Exception {
+            when(userService.suggest("wel", 8)).thenReturn(List.of(
+                    TypeaheadSuggestionDTO.builder().value("Welder").type("skill").count(3).build()));
+
+            mockMvc.perform(get("/users/contractor/suggest").param("q", "wel"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].value").value("Welder"))
+                    .andExpect(jsonPath("$.data[0].type").value("skill"))
+                    .andExpect(jsonPath("$.data[0].count").value(3));
+        }
+
+        @Test
+        void nearestTalents_passesCentreRadiusAndLimit() throws Exception {
+            TalentDistanceDTO nearby = TalentDistanceDTO.builder()
+                    .talent(TalentCardDTO.builder().firstName("Alice").build())
+                    .distanceKm(12.5)
+                    .build();
+
+            when(userService.nearest(any(FilterTalentDTO.class), eq(3))).thenReturn(List.of(nearby));
+
+            mockMvc.perform(get("/users/contractor/nearest")
+                            .param("near", "-6.9,107.6")
+                            .param("radius_km", "50")
+                            .param("limit", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].talent.firstName").value("Alice"))
+                    .andExpect(jsonPath("$.data[0].distanceKm").value(12.5))
+                    .andExpect(jsonPath("$.size").value(1));
+
+            verify(userService).nearest(argThat(filter -> filter.getNear().equals("-6.9,107.6")
+                    && filter.getRadiusKm() == 50.0), eq(3));
+        }
+
+        @Test
+        void nearestTalents_withUnknownPlace_returnsBadRequest() throws Exception {
+            when(userService.nearest(any(FilterTalentDTO.class), eq(10)))
+                    .thenThrow(new IllegalArgumentException("Unknown location: Atlantis"));
+
+            mockMvc.perform(get("/users/contractor/nearest").param("near", "Atlantis"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void getAllTalent_withQuery_passesFullTextQuery() throws Exception {
+            when(userService.filter(any(FilterTalentDTO.class), any(Pageable.class))).thenReturn(UserResponseWithPagingDTO.builder()
+                    .users(List.of(TalentCardDTO.builder().firstName("Alice").score(2.5).build())).page(0).size(10).totalPages(1).build());
+
+            mockMvc.perform(get("/users/contractor").param("q", "gedung bertingkat"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].score").value(2.5));
+
+            verify(userService).filter(argThat(filter -> "gedung bertingkat".equals(filter.getQuery())), any(Pageable.class));
+        }
+
+        @Test
+        void batchSearchTalent_returnsOneResultPerQuery() throws Exception {
+            when(batchSearch.search(anyList())).thenReturn(List.of(
+                    TalentBatchResultDTO.builder().result(UserResponseWithPagingDTO.builder()
+                            .users(List.of(TalentCardDTO.builder().firstName("Alice").build())).build()).build(),
+                    TalentBatchResultDTO.builder().error("Search timed out").build()));
+
+            mockMvc.perform(post("/users/contractor/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"queries\":[{\"filter\":{\"skills\":[\"Welder\"]}},{\"page\":1,\"size\":5}]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].result.users[0].firstName").value("Alice"))
+                    .andExpect(jsonPath("$.data[1].error").value("Search timed out"));
+
+            verify(batchSearch).search(argThat(queries -> queries.size() == 2
+                    && queries.get(0).getFilter().getSkills().equals(List.of("Welder"))
+                    && queries.get(1).getSize() == 5));
+        }
+
+        @Test
+        void importTalents_returnsPerRowReport() throws Exception {
+            when(talentImport.importTalents(anyList())).thenReturn(TalentImportResultDTO.builder()
+                    .created(1)
+                    .rows(List.of(TalentImportRowDTO.builder().row(1).status(ImportStatus.CREATED).id("new-id").errors(List.of()).build()))
+                    .build());
+
+            mockMvc.perform(post("/users/import")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"talents\":[{\"email\":\"talent@example.com\"}]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.created").value(1))
+                    .andExpect(jsonPath("$.data.rows[0].status").value("CREATED"))
+                    .andExpect(jsonPath("$.data.rows[0].id").value("new-id"));
+
+            verify(talentImport).importTalents(argThat(talents -> talents.size() == 1
+                    && "talent@example.com".equals(talents.get(0).getEmail())));
+        }
+
+        @Test
+        void importTalentsCsv_passesTheBodyThrough() throws Exception {
+            String csv = "firstName,email\r\nTalent,talent@example.com\r\n";
+            when(talentImport.importCsv(csv)).thenReturn(TalentImportResultDTO.builder().rejected(1).rows(List.of()).build());
+
+            mockMvc.perform(post("/users/import")
+                            .contentType("text/csv")
+                            .content(csv))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.rejected").value(1));
+        }
+
+        @Test
+        void importTalents_byAccountNotAllowedToImport_returnsForbidden() throws Exception {
+            doThrow(new AccessDeniedException("You are not allowed to import talents.")).when(talentImport).authorize(testUser);
+
+            mockMvc.perform(post("/users/import")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"talents\":[{\"email\":\"talent@example.com\"}]}"))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.errors").value("You are not allowed to import talents."));
+
+            verify(talentImport, never()).importTalents(anyList());
+        }
+
+        @Test
+        void batchSearchTalent_withoutQueries_returnsBadRequest() throws Exception {
+            mockMvc.perform(post("/users/contractor/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"queries\":[]}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors").value("At least one query is required"));
+
+            verifyNoInteractions(batchSearch);
+        }
+
+        @Test
+        void exportTalents_asCsv_streamsAttachment() throws Exception {
+            doAnswer(invocation -> {
+                OutputStream out = invocation.getArgument(2);
+                out.write("id\r\n".getBytes(StandardCharsets.UTF_8));
+                return null;
+            }).when(userService).export(any(FilterTalentDTO.class), eq(TalentExportFormat.CSV), any(OutputStream.class));
+
+            MvcResult result = mockMvc.perform(get("/users/contractor/export")
+                            .param("skills", "Welder")
+                            .param("format", "csv"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=\"talents.csv\""))
+                    .andExpect(content().contentType("text/csv"))
+                    .andExpect(content().string("id\r\n"));
+
+            verify(exportSlots).acquire();
+            verify(exportSlots).release();
+        }
+
+        @Test
+        void exportTalents_whenEveryExportSlotIsTaken_returnsTooManyRequests() throws Exception {
+            doThrow(new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many exports are running, please try again shortly"))
+                    .when(exportSlots).acquire();
+
+            mockMvc.perform(get("/users/contractor/export"))
+                    .andExpect(status().isTooManyRequests());
+
+            verify(userService, never()).export(any(), any(), any());
+            verify(exportSlots, never()).release();
+        }
+
+        @Test
+        void exportTalents_withUnknownFormat_returnsBadRequest() throws Exception {
+            mockMvc.perform(get("/users/contractor/export")
+                            .param("format", "xml"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors").value("Unsupported export format: xml"));
+
+            verify(userService, never()).export(any(), any(), any());
+        }
+
+        @Test
+        void getAllTalent_withCountNone_skipsTotalsAndReportsHasNext() throws Exception {
+            TalentCardDTO userDto = TalentCardDTO.builder().firstName("Alice").build();
+
+            when(userService.filter(any(FilterTalentDTO.class), any(Pageable.class), eq(TalentCountMode.NONE)))
+                    .thenReturn(UserResponseWithPagingDTO.builder().users(List.of(userDto)).size(10).hasNext(true).build());
+
+            mockMvc.perform(get("/users/contractor")
+                            .param("count", "none"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].firstName").value("Alice"))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.estimatedTotal").doesNotExist());
+
+            verify(userService, never()).filter(any(FilterTalentDTO.class), any(Pageable.class));
+        }
+
+        @Test
+        void getAllTalent_withCountEstimate_returnsEstimatedTotal() throws Exception {
+            when(userService.filter(any(FilterTalentDTO.class), any(Pageable.class), eq(TalentCountMode.ESTIMATE)))
+                    .thenReturn(UserResponseWithPagingDTO.builder().users(List.of()).hasNext(false).estimatedTotal(120L).build());
+
+            mockMvc.perform(get("/users/contractor")
+                            .param("count", "estimate"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.hasNext").value(false))
+                    .andExpect(jsonPath("$.estimatedTotal").value(120));
+        }
+
+        @Test
+        void getAllTalent_withUnknownCountMode_returnsBadRequest() throws Exception {
+            mockMvc.perform(get("/users/contractor")
+                            .param("count", "maybe"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors").value("Unsupported count mode: maybe"));
+        }
+
+        @Test
+        void getAllTalent_withAfterParam_usesCursorMode() throws Exception {
+            TalentCardDTO userDto = TalentCardDTO.builder().firstName("Alice").build();
+
+            when(userService.filter(any(FilterTalentDTO.class), eq(""), eq(10)))
+                    .thenReturn(UserResponseWithPagingDTO.builder().users(List.of(userDto)).size(10).nextCursor("next-token").build());
+
+            mockMvc.perform(get("/users/contractor")
+                            .param("after", ""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].firstName").value("Alice"))
+                    .andExpect(jsonPath("$.nextCursor").value("next-token"));
+
+            verify(userService, never()).filter(any(FilterTalentDTO.class), any(Pageable.class));
+        }
+
+        @Test
+        void getAllTalent_withoutAfterParam_omitsNextCursor() throws Exception {
+            TalentCardDTO userDto = TalentCardDTO.builder().firstName("Alice").build();
+
+            when(userService.filter(any(FilterTalentDTO.class), any(Pageable.class)))
+                    .thenReturn(UserResponseWithPagingDTO.builder().users(List.of(userDto)).build());
+
+            mockMvc.perform(get("/users/contractor"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
     }
 
     @Nested
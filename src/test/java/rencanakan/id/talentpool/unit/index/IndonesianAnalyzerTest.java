@@ -0,0 +1,31 @@
+package rencanakan.id.talentpool.unit.index;
+
+import org.junit.jupiter.api.Test;
+import rencanakan.id.talentpool.index.IndonesianAnalyzer;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndonesianAnalyzerTest {
+
+    @Test
+    void analyze_dropsStopWordsAndStripsAffixes() {
+        assertEquals(List.of("alam", "gedung", "tingkat"), IndonesianAnalyzer.analyze("Pengalaman gedung bertingkat"));
+        assertEquals(List.of("alam", "bangun", "gedung", "tingkat", "jakarta"),
+                IndonesianAnalyzer.analyze("Berpengalaman membangun gedung yang bertingkat di Jakarta."));
+    }
+
+    @Test
+    void analyze_restoresRootConsonantAfterNasalPrefix() {
+        assertEquals(List.of("susun", "pasang", "tulis"), IndonesianAnalyzer.analyze("menyusun memasang menulis"));
+        assertEquals(List.of("kerja", "kerja"), IndonesianAnalyzer.analyze("pekerjaan kerjakan"));
+    }
+
+    @Test
+    void analyze_keepsShortWordsAndNumbersIntact() {
+        assertEquals(List.of("ahli", "k3", "2020"), IndonesianAnalyzer.analyze("Ahli K3, 2020"));
+        assertTrue(IndonesianAnalyzer.analyze(null).isEmpty());
+        assertTrue(IndonesianAnalyzer.analyze("  dan yang  ").isEmpty());
+    }
+}
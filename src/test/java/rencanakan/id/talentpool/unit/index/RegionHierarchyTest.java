@@ -0,0 +1,100 @@
+package rencanakan.id.talentpool.unit.index;
+
+import org.junit.jupiter.api.Test;
+import rencanakan.id.talentpool.index.GeoPoint;
+import rencanakan.id.talentpool.index.Place;
+import rencanakan.id.talentpool.index.RegionHierarchy;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegionHierarchyTest {
+
+    private final RegionHierarchy regions = RegionHierarchy.indonesia();
+
+    @Test
+    void resolve_ambiguousName_returnsEveryMatchingRegion() {
+        assertEquals(Set.of("jawa-barat/kota-bandung", "jawa-barat/kabupaten-bandung"), regions.resolve("  BANDUNG "));
+        assertEquals(Set.of("jawa-barat/kabupaten-bandung"), regions.resolve("Kab. Bandung"));
+        assertEquals(Set.of("jawa-barat"), regions.resolve("Jabar"));
+        assertTrue(regions.resolve("New York").isEmpty());
+    }
+
+    @Test
+    void regionsOf_includesEnclosingProvince() {
+        assertEquals(Set.of("jawa-timur/kota-surabaya", "jawa-timur"), regions.regionsOf("Kota Surabaya"));
+        assertEquals(Set.of("dki-jakarta/kota-jakarta-selatan", "dki-jakarta"), regions.regionsOf("Jakarta Selatan, DKI Jakarta"));
+    }
+
+    @Test
+    void namesWithin_expandsProvinceToItsPlaces() {
+        Set<String> names = regions.namesWithin("Jawa Barat");
+
+        assertTrue(names.containsAll(Set.of("jawa barat", "jabar", "bandung", "kota depok", "kabupaten garut")));
+        assertFalse(names.contains("surabaya"));
+        assertEquals(Set.of("ny"), regions.namesWithin("NY"));
+    }
+
+    @Test
+    void contains_matchesDescendantsAndExactSpellings() {
+        assertTrue(regions.contains("Jawa Barat", "Cimahi"));
+        assertTrue(regions.contains("Jakarta", "Jakarta Timur"));
+        assertTrue(regions.contains("Solo", "Kota Surakarta"));
+        assertFalse(regions.contains("Kota Bandung", "Jawa Barat"));
+        assertFalse(regions.contains("Jawa Tengah", "Bandung"));
+        assertTrue(regions.contains("ny", "NY"));
+        assertFalse(regions.contains("ny", null));
+    }
+
+    @Test
+    void pointOf_acceptsCoordinatesOrPlaceNames() {
+        assertEquals(new GeoPoint(-6.5, 106.8), regions.pointOf(" -6.5 , 106.8 "));
+        assertEquals(regions.locate("Kota Surabaya").point(), regions.pointOf("surabaya"));
+        assertThrows(IllegalArgumentException.class, () -> regions.pointOf("Atlantis"));
+        assertThrows(IllegalArgumentException.class, () -> regions.pointOf("95,200"));
+    }
+
+    @Test
+    void within_findsPlacesInsideRadius() {
+        GeoPoint bandung = regions.pointOf("Kota Bandung");
+
+        Set<String> ids = regions.within(bandung, 20).stream().map(Place::id).collect(Collectors.toSet());
+
+        assertTrue(ids.containsAll(Set.of("jawa-barat/kota-bandung", "jawa-barat/kota-cimahi", "jawa-barat/kabupaten-bandung")));
+        assertFalse(ids.contains("dki-jakarta/kota-jakarta-pusat"));
+        assertTrue(regions.namesWithin("Jawa Barat").containsAll(regions.namesNear(bandung, 20)));
+    }
+
+    @Test
+    void within_agreesWithBruteForceDistance() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            GeoPoint center = new GeoPoint(-11 + random.nextDouble() * 17, 95 + random.nextDouble() * 46);
+            double radiusKm = 1 + random.nextDouble() * 400;
+
+            Set<String> expected = regions.nearestFirst(center).stream()
+                    .filter(place -> center.distanceKm(place.point()) <= radiusKm)
+                    .map(Place::id)
+                    .collect(Collectors.toSet());
+            Set<String> actual = regions.within(center, radiusKm).stream().map(Place::id).collect(Collectors.toSet());
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void nearestFirst_ordersByDistance() {
+        GeoPoint center = regions.pointOf("Kota Semarang");
+        List<Place> places = regions.nearestFirst(center);
+
+        // Provinces sit at their capital, so Jawa Tengah ties with Semarang
+        assertEquals(Set.of("jawa-tengah", "jawa-tengah/kota-semarang"), Set.of(places.get(0).id(), places.get(1).id()));
+        for (int i = 1; i < places.size(); i++) {
+            assertTrue(center.distanceKm(places.get(i - 1).point()) <= center.distanceKm(places.get(i).point()));
+        }
+    }
+}
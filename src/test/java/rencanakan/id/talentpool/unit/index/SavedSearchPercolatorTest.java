@@ -0,0 +1,78 @@
+package rencanakan.id.talentpool.unit.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.SkillMatch;
+import rencanakan.id.talentpool.index.SavedSearchPercolator;
+import rencanakan.id.talentpool.index.TalentDocument;
+import rencanakan.id.talentpool.index.TalentMatcher;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SavedSearchPercolatorTest {
+
+    private final Map<String, FilterTalentDTO> searches = new LinkedHashMap<>();
+    private SavedSearchPercolator percolator;
+
+    @BeforeEach
+    void setUp() {
+        searches.put("welders", FilterTalentDTO.builder().skills(List.of("Welder")).build());
+        searches.put("welding-fitters", FilterTalentDTO.builder().skills(List.of("welder", "pipe fitting")).skillMatch(SkillMatch.ALL).build());
+        searches.put("west-java", FilterTalentDTO.builder().preferredLocations(List.of("Jawa Barat")).build());
+        searches.put("ahli", FilterTalentDTO.builder().skkLevels(List.of("AHLI")).build());
+        searches.put("cheap", FilterTalentDTO.builder().priceRange(List.of(0.0, 100.0)).build());
+        searches.put("near-depok", FilterTalentDTO.builder().near("Depok").radiusKm(40.0).build());
+
+        percolator = new SavedSearchPercolator();
+        percolator.rebuild(searches);
+    }
+
+    @Test
+    void percolate_returnsSearchesTheTalentMatches() {
+        TalentDocument talent = new TalentDocument("1", "John", "Doe", "Welder", "Kota Bandung", "Ahli", 5, 150);
+
+        assertEquals(Set.of("welders", "west-java", "ahli"), percolator.percolate(talent));
+    }
+
+    @Test
+    void percolate_agreesWithMatcherForEverySearch() {
+        List<TalentDocument> talents = List.of(
+                new TalentDocument("1", "John", "Doe", "Welder, Pipe Fitting", "Jakarta", "Muda", 5, 90),
+                new TalentDocument("2", "Jane", "Doe", "Plumber", "Bekasi", null, 2, 300),
+                new TalentDocument("3", "Budi", "Santoso", null, "Atlantis", "Ahli", 1, null),
+                new TalentDocument("4", "Sari", "Dewi", "pipe fitting", null, null, 3, 100)
+                        .withPreferredLocations(List.of("Kab. Bogor")));
+
+        for (TalentDocument talent : talents) {
+            Set<String> expected = searches.entrySet().stream()
+                    .filter(entry -> TalentMatcher.matches(entry.getValue(), talent))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, percolator.percolate(talent), talent.id());
+        }
+    }
+
+    @Test
+    void registerAndUnregister_updateTheIndexedSearches() {
+        TalentDocument talent = new TalentDocument("2", "Jane", "Doe", "Plumber", "Surabaya", null, 2, 300);
+        assertTrue(percolator.percolate(talent).isEmpty());
+
+        percolator.register("plumbers", FilterTalentDTO.builder().skills(List.of("plumber")).build());
+        assertEquals(Set.of("plumbers"), percolator.percolate(talent));
+
+        percolator.register("plumbers", FilterTalentDTO.builder().skills(List.of("electrician")).build());
+        assertTrue(percolator.percolate(talent).isEmpty());
+
+        percolator.unregister("plumbers");
+        percolator.unregister("cheap");
+        assertEquals(searches.size() - 1, percolator.size());
+        assertTrue(percolator.percolate(null).isEmpty());
+    }
+}
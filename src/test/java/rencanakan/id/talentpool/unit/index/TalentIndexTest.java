@@ -0,0 +1,457 @@
+package rencanakan.id.talentpool.unit.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import rencanakan.id.talentpool.dto.FacetCountDTO;
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.SkillMatch;
+import rencanakan.id.talentpool.dto.TalentFacetsDTO;
+import rencanakan.id.talentpool.dto.TalentMatchRequestDTO;
+import rencanakan.id.talentpool.index.GeoPoint;
+import rencanakan.id.talentpool.index.NearbyTalent;
+import rencanakan.id.talentpool.index.RegionHierarchy;
+import rencanakan.id.talentpool.index.ScoredTalent;
+import rencanakan.id.talentpool.index.TalentDocument;
+import rencanakan.id.talentpool.index.TalentIndex;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TalentIndexTest {
+
+    private TalentIndex talentIndex;
+
+    private static TalentDocument talent(String id, String firstName, String lastName, String skill, String location, Integer price) {
+        return new TalentDocument(id, firstName, lastName, skill, location, "Ahli", 5, price);
+    }
+
+    @BeforeEach
+    void setUp() {
+        talentIndex = new TalentIndex();
+        talentIndex.rebuild(List.of(
+                talent("3", "Zack", "Brown", "Welder", "Bandung", 300),
+                talent("1", "Alice", "Smith", "Welder", "Jakarta", 100),
+                talent("2", "Bob", "Jones", "Electrician", "Jakarta", 200),
+                talent("4", "Alice", "Johnson", "Electrician", "Surabaya", null)
+        ));
+    }
+
+    private static Map<String, Integer> counts(List<FacetCountDTO> facets) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        facets.forEach(facet -> counts.put(facet.getValue(), facet.getCount()));
+        return counts;
+    }
+
+    private List<String> all(FilterTalentDTO filter) {
+        return talentIndex.page(talentIndex.match(filter), 0, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void rebuild_marksIndexReady() {
+        assertTrue(talentIndex.isReady());
+        assertEquals(4, talentIndex.size());
+        assertFalse(new TalentIndex().isReady());
+    }
+
+    @Test
+    void match_withEmptyFilter_returnsEveryoneInNameOrder() {
+        assertEquals(List.of("4", "1", "2", "3"), all(new FilterTalentDTO()));
+    }
+
+    @Test
+    void match_ordersNamesIgnoringCaseAndAccents() {
+        talentIndex.rebuild(List.of(
+                talent("1", "Emma", "Stone", "Welder", "Jakarta", 100),
+                talent("2", "Élodie", "Martin", "Welder", "Jakarta", 100),
+                talent("3", "Bob", "Jones", "Welder", "Jakarta", 100),
+                talent("4", "alice", "Smith", "Welder", "Jakarta", 100)
+        ));
+
+        assertEquals(List.of("4", "3", "2", "1"), all(new FilterTalentDTO()));
+        assertEquals(List.of("2", "1"), talentIndex.seek(talentIndex.match(new FilterTalentDTO()), "Bob", "Jones", "3", 5));
+    }
+
+    @Test
+    void rebuild_replaysWritesMadeWhileTheSnapshotWasRead() {
+        talentIndex.beginRebuild();
+        talentIndex.upsert(talent("5", "Aaron", "Lee", "Welder", "Depok", 150));
+        talentIndex.remove("2");
+
+        // Read before the writes above committed
+        talentIndex.rebuild(List.of(
+                talent("1", "Alice", "Smith", "Welder", "Jakarta", 100),
+                talent("2", "Bob", "Jones", "Electrician", "Jakarta", 200)
+        ));
+
+        assertEquals(List.of("5", "1"), all(new FilterTalentDTO()));
+        assertEquals(List.of("5"), all(FilterTalentDTO.builder().priceRange(List.of(150.0, 200.0)).build()));
+
+        talentIndex.upsert(talent("6", "Zed", "Zee", "Welder", "Depok", 150));
+        talentIndex.rebuild(List.of());
+        assertEquals(0, talentIndex.size());
+    }
+
+    @Nested
+    class FilterTests {
+        @Test
+        void match_bySkill_isCaseInsensitiveAndOrsTerms() {
+            assertEquals(List.of("1", "3"), all(FilterTalentDTO.builder().skills(List.of("WELDER")).build()));
+            assertEquals(List.of("4", "1", "2", "3"), all(FilterTalentDTO.builder().skills(List.of("welder", "electrician")).build()));
+        }
+
+        @Test
+        void match_byLocationAndSkill_andsDimensions() {
+            FilterTalentDTO filter = FilterTalentDTO.builder()
+                    .preferredLocations(List.of("jakarta"))
+                    .skills(List.of("Electrician"))
+                    .build();
+
+            assertEquals(List.of("2"), all(filter));
+        }
+
+        @Test
+        void match_byPriceRange_isInclusiveAndSkipsMissingPrices() {
+            assertEquals(List.of("1", "2"), all(FilterTalentDTO.builder().priceRange(List.of(100.0, 200.0)).build()));
+            assertEquals(List.of("2"), all(FilterTalentDTO.builder().priceRange(List.of(100.5, 250.0)).build()));
+            assertEquals(List.of(), all(FilterTalentDTO.builder().priceRange(List.of(500.0, 100.0)).build()));
+        }
+
+        @Test
+        void match_byPriceRangeWithOneBound_ignoresIt() {
+            assertEquals(4, all(FilterTalentDTO.builder().priceRange(List.of(100.0)).build()).size());
+        }
+
+        @Test
+        void match_byName_matchesFirstLastAndFullName() {
+            assertEquals(List.of("4", "1"), all(FilterTalentDTO.builder().name("ALICE").build()));
+            assertEquals(List.of("2"), all(FilterTalentDTO.builder().name("b jon").build()));
+            assertEquals(List.of(), all(FilterTalentDTO.builder().name("nobody").build()));
+        }
+
+        @Test
+        void match_byShortName_fallsBackToScanning() {
+            assertEquals(List.of("2"), all(FilterTalentDTO.builder().name("bo").build()));
+        }
+
+        @Test
+        void match_byFuzzyName_returnsNearMatches() {
+            assertEquals(List.of(), all(FilterTalentDTO.builder().name("smiht").build()));
+            assertEquals(List.of("1"), all(FilterTalentDTO.builder().name("smiht").fuzzy(true).build()));
+        }
+
+        @Test
+        void rankByNameSimilarity_putsClosestNamesFirst() {
+            BitSet matches = talentIndex.match(FilterTalentDTO.builder().name("alice smiht").fuzzy(true).build());
+
+            assertEquals(List.of("4", "1"), talentIndex.page(matches, 0, 10));
+            assertEquals(List.of("1", "4"), talentIndex.rankByNameSimilarity(matches, "Alice Smiht"));
+        }
+    }
+
+    @Nested
+    class PagingTests {
+        @Test
+        void page_skipsOffsetAndHonoursLimit() {
+            BitSet matches = talentIndex.match(new FilterTalentDTO());
+
+            assertEquals(List.of("1", "2"), talentIndex.page(matches, 1, 2));
+            assertEquals(List.of(), talentIndex.page(matches, 10, 2));
+        }
+
+        @Test
+        void seek_returnsRowsStrictlyAfterKey() {
+            BitSet matches = talentIndex.match(new FilterTalentDTO());
+
+            assertEquals(List.of("2", "3"), talentIndex.seek(matches, "Alice", "Smith", "1", 5));
+            assertEquals(List.of("4", "1"), talentIndex.seek(matches, "Aaron", "Zed", "9", 2));
+            assertEquals(List.of(), talentIndex.seek(matches, "Zack", "Brown", "3", 5));
+        }
+    }
+
+    @Nested
+    class UpdateTests {
+        @Test
+        void upsert_movesTalentBetweenPostings() {
+            talentIndex.upsert(talent("1", "Alice", "Smith", "Electrician", "Jakarta", 100));
+
+            assertEquals(List.of("3"), all(FilterTalentDTO.builder().skills(List.of("Welder")).build()));
+            assertEquals(List.of("4", "1", "2"), all(FilterTalentDTO.builder().skills(List.of("Electrician")).build()));
+        }
+
+        @Test
+        void upsert_newTalent_isSortedAndPriced() {
+            talentIndex.upsert(talent("5", "Aaron", "Lee", "Welder", "Depok", 150));
+
+            assertEquals(List.of("5", "4", "1", "2", "3"), all(new FilterTalentDTO()));
+            assertEquals(List.of("5", "1", "2"), all(FilterTalentDTO.builder().priceRange(List.of(100.0, 200.0)).build()));
+        }
+
+        @Test
+        void remove_dropsTalentFromEveryStructure() {
+            talentIndex.remove("2");
+            talentIndex.remove("missing");
+
+            assertEquals(3, talentIndex.size());
+            assertEquals(List.of("1"), all(FilterTalentDTO.builder().preferredLocations(List.of("Jakarta")).build()));
+            assertEquals(List.of("1"), all(FilterTalentDTO.builder().priceRange(List.of(100.0, 200.0)).build()));
+        }
+
+        @Test
+        void upsertAndRemove_keepOrderAndPricesLikeAFullRebuild() {
+            Random random = new Random(7);
+            String[] names = {"alice", "Alice", "Álvaro", "bob", "Bob", "Zoë", "zack"};
+            Map<String, TalentDocument> expected = new LinkedHashMap<>();
+            talentIndex.rebuild(List.of());
+
+            for (int i = 0; i < 500; i++) {
+                String id = String.valueOf(random.nextInt(60));
+                if (random.nextInt(4) == 0) {
+                    talentIndex.remove(id);
+                    expected.remove(id);
+                } else {
+                    TalentDocument talent = talent(id, names[random.nextInt(names.length)], names[random.nextInt(names.length)],
+                            "Welder", "Jakarta", random.nextInt(3) == 0 ? null : random.nextInt(10) * 100);
+                    talentIndex.upsert(talent);
+                    expected.put(id, talent);
+                }
+            }
+
+            TalentIndex rebuilt = new TalentIndex();
+            rebuilt.rebuild(expected.values());
+            FilterTalentDTO priced = FilterTalentDTO.builder().priceRange(List.of(200.0, 600.0)).build();
+            assertEquals(rebuilt.page(rebuilt.match(new FilterTalentDTO()), 0, 100), all(new FilterTalentDTO()));
+            assertEquals(rebuilt.page(rebuilt.match(priced), 0, 100), all(priced));
+            assertEquals(expected.size(), talentIndex.size());
+        }
+    }
+
+    @Nested
+    class FacetTests {
+        @Test
+        void facets_withoutFilter_countEveryDimension() {
+            TalentFacetsDTO facets = talentIndex.facets(new FilterTalentDTO(), 100);
+
+            assertEquals(4, facets.getTotal());
+            assertEquals(Map.of("Welder", 2, "Electrician", 2), counts(facets.getSkills()));
+            assertEquals(List.of("Jakarta", "Bandung", "Surabaya"), List.copyOf(counts(facets.getLocations()).keySet()));
+            assertEquals(Map.of("Ahli", 4), counts(facets.getSkkLevels()));
+            assertEquals(3, facets.getPriceHistogram().size());
+            assertEquals(100, facets.getPriceHistogram().get(0).getFrom());
+            assertEquals(200, facets.getPriceHistogram().get(0).getTo());
+            assertEquals(1, facets.getPriceHistogram().get(0).getCount());
+        }
+
+        @Test
+        void facets_excludeOwnDimensionFromFilter() {
+            FilterTalentDTO filter = FilterTalentDTO.builder()
+                    .skills(List.of("Welder"))
+                    .preferredLocations(List.of("Jakarta"))
+                    .build();
+
+            TalentFacetsDTO facets = talentIndex.facets(filter, 1000);
+
+            assertEquals(1, facets.getTotal());
+            // Skill counts ignore the skill filter but keep the location filter
+            assertEquals(Map.of("Welder", 1, "Electrician", 1), counts(facets.getSkills()));
+            // Location counts ignore the location filter but keep the skill filter
+            assertEquals(Map.of("Jakarta", 1, "Bandung", 1), counts(facets.getLocations()));
+            assertEquals(1, facets.getPriceHistogram().size());
+            assertEquals(1, facets.getPriceHistogram().get(0).getCount());
+        }
+
+        @Test
+        void facets_withNonPositiveInterval_throwsIllegalArgumentException() {
+            FilterTalentDTO filter = new FilterTalentDTO();
+            assertThrows(IllegalArgumentException.class, () -> talentIndex.facets(filter, 0));
+        }
+    }
+
+    @Nested
+    class SkillTests {
+        @BeforeEach
+        void addMultiSkilledTalent() {
+            talentIndex.upsert(new TalentDocument("5", "Dina", "Putri", "Welder, Electrician", "Bandung", "Ahli", 5, 250));
+        }
+
+        @Test
+        void match_bySkillsAll_requiresEverySkill() {
+            FilterTalentDTO all = FilterTalentDTO.builder().skills(List.of("welder", "ELECTRICIAN")).skillMatch(SkillMatch.ALL).build();
+            FilterTalentDTO any = FilterTalentDTO.builder().skills(List.of("welder", "ELECTRICIAN")).build();
+
+            assertEquals(List.of("5"), all(all));
+            assertEquals(List.of("4", "1", "2", "5", "3"), all(any));
+        }
+
+        @Test
+        void match_bySkillsAllWithUnknownSkill_matchesNothing() {
+            FilterTalentDTO filter = FilterTalentDTO.builder().skills(List.of("welder", "plumber")).skillMatch(SkillMatch.ALL).build();
+            assertTrue(all(filter).isEmpty());
+        }
+
+        @Test
+        void facets_countEachSkillOfMultiSkilledTalent() {
+            TalentFacetsDTO facets = talentIndex.facets(new FilterTalentDTO(), 1000);
+
+            assertEquals(Map.of("Welder", 3, "Electrician", 3), counts(facets.getSkills()));
+        }
+
+        @Test
+        void rank_scoresShareOfRequestedSkills() {
+            TalentMatchRequestDTO request = TalentMatchRequestDTO.builder().skills(List.of("Welder", "Electrician")).build();
+
+            List<ScoredTalent> ranked = talentIndex.rank(request, 2);
+
+            assertEquals("5", ranked.get(0).talent().id());
+            assertEquals(1.0, ranked.get(0).score(), 1e-9);
+            assertEquals(0.5, ranked.get(1).score(), 1e-9);
+        }
+    }
+
+    @Nested
+    class RegionTests {
+        @Test
+        void match_byProvince_coversCurrentAndPreferredLocations() {
+            talentIndex.upsert(talent("5", "Dina", "Putri", "Welder", "Medan", 150).withPreferredLocations(List.of("Depok")));
+            talentIndex.upsert(talent("6", "Eko", "Saputra", "Welder", "Kab. Bandung", 150));
+
+            assertEquals(List.of("5", "6", "3"), all(FilterTalentDTO.builder().preferredLocations(List.of("Jawa Barat")).build()));
+            assertEquals(List.of("6", "3"), all(FilterTalentDTO.builder().preferredLocations(List.of("bandung")).build()));
+            assertEquals(List.of("3"), all(FilterTalentDTO.builder().preferredLocations(List.of("Kota Bandung")).build()));
+            assertEquals(List.of("5"), all(FilterTalentDTO.builder().preferredLocations(List.of("Sumut")).build()));
+        }
+
+        @Test
+        void match_byUnknownPlace_fallsBackToExactSpelling() {
+            talentIndex.upsert(talent("5", "Dina", "Putri", "Welder", "Singapore", 150).withPreferredLocations(List.of("Kuala Lumpur")));
+
+            assertEquals(List.of("5"), all(FilterTalentDTO.builder().preferredLocations(List.of("kuala lumpur")).build()));
+            assertTrue(all(FilterTalentDTO.builder().preferredLocations(List.of("Kuala")).build()).isEmpty());
+        }
+
+        @Test
+        void upsert_withoutLoadedLocations_keepsIndexedOnes() {
+            talentIndex.upsert(talent("5", "Dina", "Putri", "Welder", "Medan", 150).withPreferredLocations(List.of("Depok")));
+            TalentDocument unloaded = new TalentDocument("5", "Dina", "Putri", "Welder", "Medan", "Ahli", 5, 150, List.of("Welder"), null);
+
+            TalentDocument previous = talentIndex.upsert(unloaded);
+
+            assertEquals(List.of("Depok"), previous.preferredLocations());
+            assertEquals(List.of("5", "3"), all(FilterTalentDTO.builder().preferredLocations(List.of("Jawa Barat")).build()));
+
+            talentIndex.upsert(talent("5", "Dina", "Putri", "Welder", "Medan", 150));
+            assertEquals(List.of("3"), all(FilterTalentDTO.builder().preferredLocations(List.of("Jawa Barat")).build()));
+        }
+
+        @Test
+        void rank_byProvince_scoresTalentsInsideIt() {
+            List<ScoredTalent> ranked = talentIndex.rank(TalentMatchRequestDTO.builder().location("DKI Jakarta").build(), 4);
+
+            assertEquals(Set.of("1", "2"), Set.of(ranked.get(0).talent().id(), ranked.get(1).talent().id()));
+            assertEquals(2, ranked.size());
+        }
+    }
+
+    @Nested
+    class GeoTests {
+        @Test
+        void match_byRadius_usesCurrentAndPreferredLocations() {
+            talentIndex.upsert(talent("5", "Dina", "Putri", "Welder", "Medan", 150).withPreferredLocations(List.of("Cimahi")));
+
+            FilterTalentDTO nearBandung = FilterTalentDTO.builder().near("Kota Bandung").radiusKm(30.0).build();
+            FilterTalentDTO nearCoordinates = FilterTalentDTO.builder().near("-6.2,106.85").radiusKm(15.0).skills(List.of("welder")).build();
+
+            assertEquals(List.of("5", "3"), all(nearBandung));
+            assertEquals(List.of("1"), all(nearCoordinates));
+            assertEquals(List.of("4", "1", "2", "5", "3"), all(FilterTalentDTO.builder().near("Kota Bandung").build()));
+            assertThrows(IllegalArgumentException.class, () -> all(FilterTalentDTO.builder().near("Kota Bandung").radiusKm(0.0).build()));
+        }
+
+        @Test
+        void nearest_returnsClosestMatchingTalentsFirst() {
+            talentIndex.upsert(talent("5", "Dina", "Putri", "Welder", "Medan", 150).withPreferredLocations(List.of("Cimahi")));
+            GeoPoint bandung = RegionHierarchy.indonesia().pointOf("Kota Bandung");
+
+            List<NearbyTalent> nearest = talentIndex.nearest(new FilterTalentDTO(), bandung, 3);
+
+            assertEquals(List.of("3", "5", "1"), nearest.stream().map(nearby -> nearby.talent().id()).toList());
+            assertEquals(0.0, nearest.get(0).distanceKm(), 0.001);
+            assertTrue(nearest.get(1).distanceKm() < 15);
+
+            List<NearbyTalent> electricians = talentIndex.nearest(FilterTalentDTO.builder().skills(List.of("Electrician")).build(), bandung, 10);
+            assertEquals(List.of("2", "4"), electricians.stream().map(nearby -> nearby.talent().id()).toList());
+        }
+    }
+
+    @Nested
+    class RankTests {
+        @Test
+        void rank_ordersBySkillLocationAndBudgetFit() {
+            TalentMatchRequestDTO request = TalentMatchRequestDTO.builder()
+                    .skills(List.of("welder")).location("Jakarta").budget(150).build();
+
+            List<ScoredTalent> ranked = talentIndex.rank(request, 10);
+
+            assertEquals(List.of("1", "3", "2"), ranked.stream().map(scored -> scored.talent().id()).toList());
+            assertEquals(1.0, ranked.get(0).score(), 1e-9);
+            assertEquals(Set.of("skill", "location", "budget"), ranked.get(0).breakdown().keySet());
+            assertEquals(ranked.get(1).score(), ranked.get(1).breakdown().values().stream().mapToDouble(Double::doubleValue).sum(), 1e-9);
+        }
+
+        @Test
+        void rank_keepsOnlyTopK() {
+            TalentMatchRequestDTO request = TalentMatchRequestDTO.builder().location("Jakarta").build();
+
+            List<ScoredTalent> ranked = talentIndex.rank(request, 1);
+
+            // Equal scores fall back to index order
+            assertEquals(List.of("1"), ranked.stream().map(scored -> scored.talent().id()).toList());
+        }
+
+        @Test
+        void rank_withPartialExperience_scoresProportionally() {
+            TalentMatchRequestDTO request = TalentMatchRequestDTO.builder().minExperienceYears(10).build();
+
+            List<ScoredTalent> ranked = talentIndex.rank(request, 10);
+
+            assertEquals(4, ranked.size());
+            assertEquals(0.5, ranked.get(0).score(), 1e-9);
+        }
+
+        @Test
+        void rank_withoutCriteria_throwsIllegalArgumentException() {
+            TalentMatchRequestDTO request = new TalentMatchRequestDTO();
+            assertThrows(IllegalArgumentException.class, () -> talentIndex.rank(request, 10));
+        }
+
+        @Test
+        void rank_acrossPartitions_matchesFullSort() {
+            Random random = new Random(42);
+            List<TalentDocument> documents = new ArrayList<>();
+            for (int i = 0; i < 100_000; i++) {
+                documents.add(new TalentDocument(String.valueOf(i), "First" + i, "Last", "Skill" + random.nextInt(20),
+                        "City" + random.nextInt(10), "Ahli", random.nextInt(15), 50 + random.nextInt(200)));
+            }
+            talentIndex.rebuild(documents);
+            TalentMatchRequestDTO request = TalentMatchRequestDTO.builder()
+                    .skills(List.of("Skill3")).location("City7").budget(100).minExperienceYears(10).build();
+
+            List<ScoredTalent> ranked = talentIndex.rank(request, 25);
+            List<ScoredTalent> expected = talentIndex.rank(request, documents.size()).subList(0, 25);
+
+            assertEquals(25, ranked.size());
+            assertEquals(expected.stream().map(scored -> scored.talent().id()).toList(),
+                    ranked.stream().map(scored -> scored.talent().id()).toList());
+            for (int i = 1; i < ranked.size(); i++) {
+                assertTrue(ranked.get(i - 1).score() >= ranked.get(i).score());
+            }
+        }
+    }
+}
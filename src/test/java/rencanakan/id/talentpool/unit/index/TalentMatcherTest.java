@@ -0,0 +1,71 @@
+package rencanakan.id.talentpool.unit.index;
+
+import org.junit.jupiter.api.Test;
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.SkillMatch;
+import rencanakan.id.talentpool.index.TalentDocument;
+import rencanakan.id.talentpool.index.TalentMatcher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TalentMatcherTest {
+
+    private final TalentDocument talent = new TalentDocument("1", "John", "Doe", "Welder", "Jakarta", "Ahli", 5, 150);
+
+    @Test
+    void matches_withEmptyFilter_acceptsAnyTalent() {
+        assertTrue(TalentMatcher.matches(new FilterTalentDTO(), talent));
+        assertFalse(TalentMatcher.matches(new FilterTalentDTO(), null));
+    }
+
+    @Test
+    void matches_byName_usesSubstringOrSimilarity() {
+        assertTrue(TalentMatcher.matches(FilterTalentDTO.builder().name("N D").build(), talent));
+        assertFalse(TalentMatcher.matches(FilterTalentDTO.builder().name("jonh").build(), talent));
+        assertTrue(TalentMatcher.matches(FilterTalentDTO.builder().name("jonh").fuzzy(true).build(), talent));
+    }
+
+    @Test
+    void matches_byKeywordFields_isCaseInsensitive() {
+        assertTrue(TalentMatcher.matches(FilterTalentDTO.builder().skills(List.of("welder", "plumber")).build(), talent));
+        assertTrue(TalentMatcher.matches(FilterTalentDTO.builder().preferredLocations(List.of("JAKARTA")).build(), talent));
+        assertFalse(TalentMatcher.matches(FilterTalentDTO.builder().skkLevels(List.of("Muda")).build(), talent));
+    }
+
+    @Test
+    void matches_byPriceRange_isInclusive() {
+        assertTrue(TalentMatcher.matches(FilterTalentDTO.builder().priceRange(List.of(150.0, 150.0)).build(), talent));
+        assertFalse(TalentMatcher.matches(FilterTalentDTO.builder().priceRange(List.of(151.0, 200.0)).build(), talent));
+        assertTrue(TalentMatcher.matches(FilterTalentDTO.builder().priceRange(List.of(500.0)).build(), talent));
+    }
+
+    @Test
+    void matches_bySkills_splitsSkillTextAndSupportsAllOf() {
+        TalentDocument multiSkilled = new TalentDocument("2", "Jane", "Doe", "Welder, Pipe  Fitting; welder", "Bandung", null, 3, 100);
+
+        assertEquals(List.of("Welder", "Pipe Fitting"), multiSkilled.skills());
+        assertTrue(TalentMatcher.matches(FilterTalentDTO.builder().skills(List.of("pipe fitting")).build(), multiSkilled));
+        assertTrue(TalentMatcher.matches(FilterTalentDTO.builder().skills(List.of("WELDER", "Pipe Fitting")).skillMatch(SkillMatch.ALL).build(), multiSkilled));
+        assertFalse(TalentMatcher.matches(FilterTalentDTO.builder().skills(List.of("welder", "plumber")).skillMatch(SkillMatch.ALL).build(), multiSkilled));
+        assertTrue(TalentMatcher.matches(FilterTalentDTO.builder().skills(List.of("welder", "plumber")).skillMatch(SkillMatch.ANY).build(), multiSkilled));
+    }
+
+    @Test
+    void matches_byRegion_checksCurrentAndPreferredLocations() {
+        TalentDocument relocating = talent.withPreferredLocations(List.of("Kab. Sleman"));
+
+        assertTrue(TalentMatcher.matches(FilterTalentDTO.builder().preferredLocations(List.of("DKI Jakarta")).build(), talent));
+        assertFalse(TalentMatcher.matches(FilterTalentDTO.builder().preferredLocations(List.of("Jogja")).build(), talent));
+        assertTrue(TalentMatcher.matches(FilterTalentDTO.builder().preferredLocations(List.of("Jogja")).build(), relocating));
+    }
+
+    @Test
+    void matches_byRadius_locatesTalentThroughGazetteer() {
+        assertTrue(TalentMatcher.matches(FilterTalentDTO.builder().near("Depok").radiusKm(40.0).build(), talent));
+        assertFalse(TalentMatcher.matches(FilterTalentDTO.builder().near("Bandung").radiusKm(40.0).build(), talent));
+        assertFalse(TalentMatcher.matches(FilterTalentDTO.builder().near("Depok").radiusKm(40.0).build(),
+                new TalentDocument("3", "Jane", "Doe", "Welder", "Atlantis", null, 1, 10)));
+    }
+}
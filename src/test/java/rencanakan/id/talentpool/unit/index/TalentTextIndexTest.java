@@ -0,0 +1,92 @@
+package rencanakan.id.talentpool.unit.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import rencanakan.id.talentpool.index.ExperienceTitle;
+import rencanakan.id.talentpool.index.TalentText;
+import rencanakan.id.talentpool.index.TalentTextIndex;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TalentTextIndexTest {
+
+    private TalentTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TalentTextIndex();
+        index.rebuild(List.of(
+                new TalentText("1", "Site Engineer", "Berpengalaman 5 tahun membangun gedung bertingkat."),
+                new TalentText("2", "Drafter", "Pengalaman menggambar rumah tinggal dan gedung."),
+                new TalentText("3", "Welder", "Tukang las berpengalaman.")
+        ), List.of(
+                new ExperienceTitle("3", 10L, "Welder Gedung Bertingkat")
+        ));
+    }
+
+    @Test
+    void search_ranksTalentsByBm25() {
+        Map<String, Double> scores = index.search("pengalaman gedung bertingkat");
+
+        assertEquals(3, scores.size());
+        assertTrue(scores.get("1") > scores.get("2"));
+        assertTrue(scores.get("3") > scores.get("2"));
+        assertTrue(index.isReady());
+    }
+
+    @Test
+    void rebuild_replaysWritesMadeWhileTheSnapshotWasRead() {
+        index.beginRebuild();
+        index.upsert(new TalentText("4", "Drafter", "Baru bergabung."));
+        index.remove("1");
+
+        // Read before the writes above committed
+        index.rebuild(List.of(
+                new TalentText("1", "Site Engineer", "Berpengalaman 5 tahun membangun gedung bertingkat."),
+                new TalentText("2", "Drafter", "Pengalaman menggambar rumah tinggal dan gedung.")
+        ), List.of());
+
+        assertEquals(2, index.size());
+        assertEquals(Map.of(), index.search("engineer"));
+        assertTrue(index.search("drafter").containsKey("4"));
+
+        index.upsert(new TalentText("5", "Welder", null));
+        index.rebuild(List.of(), List.of());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void search_weighsSkillsAboveFreeText() {
+        index.upsert(new TalentText("4", null, "Pernah bekerja bersama seorang drafter."));
+
+        Map<String, Double> scores = index.search("drafter");
+        assertTrue(scores.get("2") > scores.get("4"));
+    }
+
+    @Test
+    void search_withUnknownOrBlankQuery_scoresNothing() {
+        assertTrue(index.search("arsitek").isEmpty());
+        assertTrue(index.search("dan yang").isEmpty());
+        assertTrue(index.search(null).isEmpty());
+    }
+
+    @Test
+    void updates_reindexOnlyTheChangedTalent() {
+        index.removeExperience("3", 10L);
+        assertFalse(index.search("bertingkat").containsKey("3"));
+
+        index.putExperience(new ExperienceTitle("3", 11L, "Pengelasan Jembatan"));
+        assertEquals(Map.of("3", index.search("jembatan").get("3")), index.search("jembatan"));
+
+        index.upsert(new TalentText("1", "Site Engineer", "Fokus pada jembatan."));
+        assertFalse(index.search("gedung").containsKey("1"));
+        assertTrue(index.search("jembatan").containsKey("1"));
+
+        index.remove("1");
+        assertFalse(index.search("jembatan").containsKey("1"));
+        assertEquals(2, index.size());
+    }
+}
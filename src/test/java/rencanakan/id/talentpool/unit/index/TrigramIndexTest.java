@@ -0,0 +1,62 @@
+package rencanakan.id.talentpool.unit.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import rencanakan.id.talentpool.index.TrigramIndex;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private TrigramIndex trigramIndex;
+
+    private static BitSet bits(int... ordinals) {
+        BitSet bits = new BitSet();
+        for (int ordinal : ordinals) {
+            bits.set(ordinal);
+        }
+        return bits;
+    }
+
+    @BeforeEach
+    void setUp() {
+        trigramIndex = new TrigramIndex();
+        trigramIndex.add(0, "john doe");
+        trigramIndex.add(1, "jane doe");
+        trigramIndex.add(2, "bob jones");
+    }
+
+    @Test
+    void candidates_containAllKeywordTrigrams() {
+        assertEquals(bits(0, 1), trigramIndex.candidates("doe"));
+        assertEquals(bits(2), trigramIndex.candidates("b jon"));
+        assertEquals(bits(), trigramIndex.candidates("xyz"));
+    }
+
+    @Test
+    void candidates_forShortKeyword_returnsNull() {
+        assertNull(trigramIndex.candidates("jo"));
+    }
+
+    @Test
+    void remove_dropsOrdinalFromPostings() {
+        trigramIndex.remove(1, "jane doe");
+
+        assertEquals(bits(0), trigramIndex.candidates("doe"));
+    }
+
+    @Test
+    void similar_findsTyposAboveThreshold() {
+        assertEquals(bits(0, 2), trigramIndex.similar("jonh", 0.4));
+        assertEquals(bits(), trigramIndex.similar("zzzz", 0.3));
+    }
+
+    @Test
+    void similarity_isShareOfQueryTrigrams() {
+        assertEquals(1.0, TrigramIndex.similarity("john", "john doe"));
+        assertEquals(0.4, TrigramIndex.similarity("jonh", "john doe"), 1e-9);
+        assertEquals(0.0, TrigramIndex.similarity("", "john doe"));
+    }
+}
@@ -0,0 +1,112 @@
+package rencanakan.id.talentpool.unit.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import rencanakan.id.talentpool.dto.TypeaheadSuggestionDTO;
+import rencanakan.id.talentpool.index.TalentChangedEvent;
+import rencanakan.id.talentpool.index.TalentDocument;
+import rencanakan.id.talentpool.index.TypeaheadIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypeaheadIndexTest {
+
+    private TypeaheadIndex typeaheadIndex;
+
+    private static TalentDocument talent(String id, String firstName, String lastName, String skill, String location) {
+        return new TalentDocument(id, firstName, lastName, skill, location, "Ahli", 5, 100);
+    }
+
+    private List<String> values(String prefix, int limit) {
+        return typeaheadIndex.suggest(prefix, limit).stream().map(TypeaheadSuggestionDTO::getValue).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        typeaheadIndex = new TypeaheadIndex();
+        typeaheadIndex.rebuild(List.of(
+                talent("1", "Budi", "Santoso", "Welder, Pipe Fitting", "Bandung"),
+                talent("2", "Bambang", "Wijaya", "Welder", "Bandung"),
+                talent("3", "Wati", "Budiman", "Electrician", "Bekasi").withPreferredLocations(List.of("bandung"))
+        ));
+    }
+
+    @Test
+    void suggest_ranksByNumberOfTalents() {
+        List<TypeaheadSuggestionDTO> suggestions = typeaheadIndex.suggest("b", 10);
+
+        assertEquals("Bandung", suggestions.get(0).getValue());
+        assertEquals("location", suggestions.get(0).getType());
+        assertEquals(3, suggestions.get(0).getCount());
+        assertEquals(Set.of("Bandung", "Bambang Wijaya", "Bekasi", "Budi Santoso", "Wati Budiman"), Set.copyOf(values("B", 10)));
+        assertEquals("Welder", values("w", 2).get(0));
+        assertEquals(2, values("w", 2).size());
+    }
+
+    @Test
+    void suggest_matchesAnyWordStart() {
+        assertEquals(List.of("Pipe Fitting"), values("fit", 5));
+        assertEquals(Set.of("Budi Santoso", "Wati Budiman"), Set.copyOf(values("  BUDI", 5)));
+        assertEquals(List.of("Budi Santoso"), values("budi s", 5));
+        assertTrue(values("udi", 5).isEmpty());
+        assertTrue(values("", 5).isEmpty());
+    }
+
+    @Test
+    void onTalentChanged_updatesWeightsIncrementally() {
+        TalentDocument before = talent("2", "Bambang", "Wijaya", "Welder", "Bandung");
+        TalentDocument after = talent("2", "Bambang", "Wijaya", "Plumber", "Bekasi");
+
+        typeaheadIndex.onTalentChanged(new TalentChangedEvent(before, after));
+
+        assertEquals(1, typeaheadIndex.suggest("weld", 1).get(0).getCount());
+        assertEquals(List.of("Plumber", "Pipe Fitting"), values("p", 5));
+        assertEquals(2, typeaheadIndex.suggest("bek", 1).get(0).getCount());
+
+        typeaheadIndex.onTalentChanged(new TalentChangedEvent(talent("1", "Budi", "Santoso", "Welder, Pipe Fitting", "Bandung"), null));
+
+        assertTrue(values("weld", 5).isEmpty());
+        assertEquals(List.of("Plumber"), values("p", 5));
+        assertEquals(List.of("Wati Budiman"), values("budi", 5));
+    }
+
+    @Test
+    void rebuild_replaysChangesMadeWhileTheSnapshotWasRead() {
+        TalentDocument before = talent("2", "Bambang", "Wijaya", "Welder", "Bandung");
+        TalentDocument after = talent("2", "Bambang", "Wijaya", "Plumber", "Bandung");
+        typeaheadIndex.beginRebuild();
+        typeaheadIndex.onTalentChanged(new TalentChangedEvent(null, talent("4", "Dewi", "Lestari", "Drafter", "Depok")));
+        typeaheadIndex.onTalentChanged(new TalentChangedEvent(before, after));
+
+        // The snapshot already holds the edit but not the new talent
+        typeaheadIndex.rebuild(List.of(talent("1", "Budi", "Santoso", "Welder", "Bandung"), after));
+
+        assertEquals(List.of("Dewi Lestari"), values("dewi", 5));
+        assertEquals(1, typeaheadIndex.suggest("plum", 1).get(0).getCount());
+        assertEquals(1, typeaheadIndex.suggest("weld", 1).get(0).getCount());
+    }
+
+    @Test
+    void suggest_agreesWithSortingEveryCandidate() {
+        Random random = new Random(7);
+        String[] skills = {"Welder", "Plumber", "Painter", "Pipe Fitting", "Electrician", "Mason", "Carpenter"};
+        List<TalentDocument> talents = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            talents.add(talent(String.valueOf(i), "P" + random.nextInt(40), "Q", skills[random.nextInt(skills.length)], "Kota " + random.nextInt(10)));
+        }
+        typeaheadIndex.rebuild(talents);
+
+        List<TypeaheadSuggestionDTO> top = typeaheadIndex.suggest("p", 5);
+
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(top.get(i - 1).getCount() >= top.get(i).getCount());
+        }
+        long paintersAndPlumbers = talents.stream().filter(t -> t.skill().startsWith("P")).count();
+        assertEquals(paintersAndPlumbers, top.stream().filter(s -> s.getType().equals("skill")).mapToInt(TypeaheadSuggestionDTO::getCount).sum());
+    }
+}
@@ -14,14 +14,14 @@ class PasswordResetTokenTest {
         PasswordResetToken token = PasswordResetToken.builder()
                 .id(1L)
                 .email("user@example.com")
-                .token("abc123")
+                .tokenHash("abc123")
                 .expiryDate(now)
                 .used(false)
                 .build();
 
         assertThat(token.getId()).isEqualTo(1L);
         assertThat(token.getEmail()).isEqualTo("user@example.com");
-        assertThat(token.getToken()).isEqualTo("abc123");
+        assertThat(token.getTokenHash()).isEqualTo("abc123");
         assertThat(token.getExpiryDate()).isEqualTo(now);
         assertThat(token.isUsed()).isFalse();
     }
@@ -31,14 +31,22 @@ class PasswordResetTokenTest {
         PasswordResetToken token = new PasswordResetToken();
         token.setId(2L);
         token.setEmail("test@example.com");
-        token.setToken("xyz789");
+        token.setTokenHash("xyz789");
         token.setExpiryDate(LocalDateTime.of(2025, 5, 12, 10, 0));
         token.setUsed(true);
 
         assertThat(token.getId()).isEqualTo(2L);
         assertThat(token.getEmail()).isEqualTo("test@example.com");
-        assertThat(token.getToken()).isEqualTo("xyz789");
+        assertThat(token.getTokenHash()).isEqualTo("xyz789");
         assertThat(token.getExpiryDate()).isEqualTo(LocalDateTime.of(2025, 5, 12, 10, 0));
         assertThat(token.isUsed()).isTrue();
     }
+
+    @Test
+    void hash_isFixedWidthSha256Hex() {
+        String hash = PasswordResetToken.hash("abc");
+
+        assertThat(hash).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        assertThat(PasswordResetToken.hash("a much longer reset token value")).hasSize(64);
+    }
 }
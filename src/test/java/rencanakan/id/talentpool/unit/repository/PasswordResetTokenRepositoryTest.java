@@ -0,0 +1,64 @@
+package rencanakan.id.talentpool.unit.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import jakarta.persistence.EntityManager;
+import rencanakan.id.talentpool.model.PasswordResetToken;
+import rencanakan.id.talentpool.repository.PasswordResetTokenRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class PasswordResetTokenRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    private PasswordResetToken active;
+    private PasswordResetToken used;
+    private PasswordResetToken expired;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        active = save("active", now.plusHours(1), false);
+        used = save("used", now.plusHours(1), true);
+        expired = save("expired", now.minusMinutes(1), false);
+        entityManager.flush();
+    }
+
+    @Test
+    void findByTokenHash_findsTheTokenByItsHash() {
+        assertEquals(active.getId(), passwordResetTokenRepository.findByTokenHash(PasswordResetToken.hash("active")).orElseThrow().getId());
+        assertTrue(passwordResetTokenRepository.findByTokenHash("active").isEmpty());
+    }
+
+    @Test
+    void findPurgeableIds_returnsUsedAndExpiredTokensInChunks() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertEquals(List.of(used.getId(), expired.getId()),
+                passwordResetTokenRepository.findPurgeableIds(now, PageRequest.of(0, 10)));
+        assertEquals(List.of(used.getId()),
+                passwordResetTokenRepository.findPurgeableIds(now, PageRequest.of(0, 1)));
+    }
+
+    private PasswordResetToken save(String token, LocalDateTime expiryDate, boolean used) {
+        return passwordResetTokenRepository.save(PasswordResetToken.builder()
+                .email(token + "@example.com")
+                .tokenHash(PasswordResetToken.hash(token))
+                .expiryDate(expiryDate)
+                .used(used)
+                .build());
+    }
+}
@@ -1,5 +1,7 @@
 package rencanakan.id.talentpool.unit.repository;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -9,7 +11,13 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.dao.DataIntegrityViolationException;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.repository.TalentCard;
+import rencanakan.id.talentpool.repository.UserIdentity;
 import rencanakan.id.talentpool.repository.UserRepository;
 
 import java.util.Arrays;
@@ -96,6 +104,30 @@ class UserRepositoryTest {
             assertEquals("Doe", found.get().getLastName());
         }
         
+        @Test
+        @DisplayName("Find identity collisions in one query")
+        void testFindIdentityCollisions_ReportsCollidingUser() {
+            List<UserIdentity> collisions = userRepository.findIdentityCollisions(
+                    "someone.else@example.com", "1234567890123456", null, "0000000000");
+
+            assertEquals(1, collisions.size());
+            assertEquals("john.doe@example.com", collisions.get(0).email());
+            assertEquals("1234567890123456", collisions.get(0).nik());
+            assertTrue(userRepository.findIdentityCollisions("someone.else@example.com", "6543210987654321", null, "0000000000").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Find identities matching any of a batch of values")
+        void testFindIdentitiesIn_ReportsUsersMatchingAnyValue() {
+            List<UserIdentity> existing = userRepository.findIdentitiesIn(
+                    List.of("someone.else@example.com"), List.of("6543210987654321"), List.of("999"), List.of("1234567890"));
+
+            assertEquals(1, existing.size());
+            assertEquals("john.doe@example.com", existing.get(0).email());
+            assertTrue(userRepository.findIdentitiesIn(
+                    List.of("someone.else@example.com"), List.of("6543210987654321"), List.of("999"), List.of("0000000000")).isEmpty());
+        }
+
         @Test
         @DisplayName("Find user by non-existing email")
         void testFindByEmail_NonExistingEmail_ReturnEmptyOptional() {
@@ -224,4 +256,78 @@ class UserRepositoryTest {
             assertEquals(initialCount - 1, userRepository.count());
         }
     }
+
+    @Nested
+    @DisplayName("Talent Card Projection Tests")
+    class TalentCardTests {
+
+        @Test
+        @DisplayName("Find cards by IDs returns only card columns")
+        void testFindCardsByIds_ReturnCards() {
+            List<TalentCard> cards = userRepository.findCardsByIds(List.of(testUserId));
+
+            assertEquals(1, cards.size());
+            assertEquals(new TalentCard(testUserId, "John", "Doe", "profile.jpg", "Java, Spring Boot",
+                    "Jakarta", "Intermediate", 5, null), cards.get(0));
+        }
+
+        @Test
+        @DisplayName("Find cards by specification applies filter, sort and paging")
+        void testFindCards_WithSpecification_ReturnSortedPage() {
+            entityManager.persistAndFlush(User.builder()
+                    .firstName("Alice")
+                    .lastName("Smith")
+                    .email("alice@example.com")
+                    .password("password123")
+                    .phoneNumber("0987654321")
+                    .nik("6543210987654321")
+                    .currentLocation("Jakarta")
+                    .build());
+            Specification<User> inJakarta = (root, query, builder) -> builder.equal(root.get("currentLocation"), "Jakarta");
+
+            Page<TalentCard> page = userRepository.findCards(inJakarta, PageRequest.of(0, 1, Sort.by("firstName")));
+
+            assertEquals(2, page.getTotalElements());
+            assertEquals(1, page.getContent().size());
+            assertEquals("Alice", page.getContent().get(0).firstName());
+
+            List<TalentCard> limited = userRepository.findCards(inJakarta, Sort.by(Sort.Direction.DESC, "firstName"), 1);
+            assertEquals(List.of("John"), limited.stream().map(TalentCard::firstName).toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Preferred Locations Fetch Tests")
+    class PreferredLocationsFetchTests {
+
+        @Test
+        @DisplayName("Loading locations for many users uses a constant number of statements")
+        void testFindAll_PreferredLocations_BatchLoaded() {
+            for (int i = 0; i < 10; i++) {
+                entityManager.persist(User.builder()
+                        .firstName("User" + i)
+                        .lastName("Batch")
+                        .email("user" + i + "@example.com")
+                        .password("password123")
+                        .phoneNumber("08000000000" + i)
+                        .nik(String.format("%016d", i))
+                        .preferredLocations(List.of("Jakarta", "Bandung"))
+                        .build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+
+            Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                    .unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+
+            List<User> users = userRepository.findAll();
+            int locations = users.stream().mapToInt(user -> user.getPreferredLocations().size()).sum();
+
+            assertEquals(11, users.size());
+            assertEquals(22, locations);
+            assertEquals(2, statistics.getPrepareStatementCount());
+        }
+    }
 }
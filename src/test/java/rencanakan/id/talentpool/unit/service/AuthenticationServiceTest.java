@@ -11,7 +11,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import rencanakan.id.talentpool.dto.LoginRequestDTO;
@@ -19,8 +21,12 @@ import rencanakan.id.talentpool.dto.UserRequestDTO;
 import rencanakan.id.talentpool.model.PasswordResetToken;
 import rencanakan.id.talentpool.model.User;
 import rencanakan.id.talentpool.repository.PasswordResetTokenRepository;
+import rencanakan.id.talentpool.repository.UserIdentity;
 import rencanakan.id.talentpool.repository.UserRepository;
 import rencanakan.id.talentpool.service.AuthenticationService;
+import rencanakan.id.talentpool.service.TokenVersions;
+import rencanakan.id.talentpool.service.UserDetailsCache;
+import rencanakan.id.talentpool.service.UserIdentityPrefilter;
 import rencanakan.id.talentpool.service.UserService;
 
 import java.time.LocalDateTime;
@@ -52,6 +58,15 @@ class AuthenticationServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private TokenVersions tokenVersions;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private UserIdentityPrefilter userIdentityPrefilter;
+
     @InjectMocks
     private AuthenticationService authenticationService;
 
@@ -100,13 +115,48 @@ class AuthenticationServiceTest {
         assertNotNull(savedUser);
         assertEquals("John", savedUser.getFirstName());
         assertEquals("encodedPassword", savedUser.getPassword());
+        verify(userService).assignSkills(savedUser);
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, never()).findIdentityCollisions(any(), any(), any(), any());
+        verify(userIdentityPrefilter).add(new UserIdentity(userRequestDTO.getEmail(), userRequestDTO.getNik(),
+                userRequestDTO.getNpwp(), userRequestDTO.getPhoneNumber()));
+    }
+
+    private void givenExisting(String email, String nik, String npwp, String phoneNumber) {
+        when(userIdentityPrefilter.mightExist(any())).thenReturn(true);
+        when(userRepository.findIdentityCollisions(userRequestDTO.getEmail(), userRequestDTO.getNik(),
+                userRequestDTO.getNpwp(), userRequestDTO.getPhoneNumber()))
+                .thenReturn(List.of(new UserIdentity(email, nik, npwp, phoneNumber)));
+    }
+
+    @Test
+    void signup_PrefilterHitWithoutCollision_Succeeds() throws BadRequestException {
+        givenExisting("other@example.com", "6543210987654321", null, "0899");
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertNotNull(authenticationService.signup(userRequestDTO));
+        verify(userRepository, times(1)).findIdentityCollisions(any(), any(), any(), any());
+    }
+
+    @Test
+    void signup_ConstraintViolation_MapsToSameMessage() {
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(userRepository.findIdentityCollisions(any(), any(), any(), any()))
+                .thenReturn(List.of(new UserIdentity("other@example.com", userRequestDTO.getNik(), null, "0899")));
+
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> {
+            authenticationService.signup(userRequestDTO);
+        });
+
+        assertEquals("NIK " + userRequestDTO.getNik() + " is already in use.", exception.getMessage());
+        verify(userIdentityPrefilter, never()).add(any());
     }
 
     @Test
     void signup_DuplicateEmail_ThrowsException() {
-        when(userRepository.findByEmail(userRequestDTO.getEmail()))
-                .thenReturn(Optional.of(new User()));
+        givenExisting(userRequestDTO.getEmail(), "x", "y", "z");
 
         BadRequestException exception = assertThrows(BadRequestException.class, () -> {
             authenticationService.signup(userRequestDTO);
@@ -118,8 +168,7 @@ class AuthenticationServiceTest {
 
     @Test
     void signup_DuplicateNik_ThrowsException() {
-        when(userRepository.findByNik(userRequestDTO.getNik()))
-                .thenReturn(Optional.of(new User()));
+        givenExisting("x", userRequestDTO.getNik(), "y", "z");
 
         BadRequestException exception = assertThrows(BadRequestException.class, () -> {
             authenticationService.signup(userRequestDTO);
@@ -131,8 +180,7 @@ class AuthenticationServiceTest {
 
     @Test
     void signup_DuplicateNpwp_ThrowsException() {
-        when(userRepository.findByNpwp(userRequestDTO.getNpwp()))
-                .thenReturn(Optional.of(new User()));
+        givenExisting("x", "y", userRequestDTO.getNpwp(), "z");
 
         BadRequestException exception = assertThrows(BadRequestException.class, () -> {
             authenticationService.signup(userRequestDTO);
@@ -144,8 +192,7 @@ class AuthenticationServiceTest {
 
     @Test
     void signup_DuplicatePhoneNumber_ThrowsException() {
-        when(userRepository.findByPhoneNumber(userRequestDTO.getPhoneNumber()))
-                .thenReturn(Optional.of(new User()));
+        givenExisting("x", "y", "z", userRequestDTO.getPhoneNumber());
 
         BadRequestException exception = assertThrows(BadRequestException.class, () -> {
             authenticationService.signup(userRequestDTO);
@@ -186,15 +233,15 @@ class AuthenticationServiceTest {
         User mockUser = new User();
         mockUser.setEmail(input.getEmail());
 
-        when(authenticationManager.authenticate(any())).thenReturn(null);
-        when(userRepository.findByEmail(input.getEmail())).thenReturn(Optional.of(mockUser));
+        when(authenticationManager.authenticate(any()))
+                .thenReturn(new UsernamePasswordAuthenticationToken(mockUser, null, mockUser.getAuthorities()));
 
         User authenticatedUser = authenticationService.authenticate(input);
 
         assertNotNull(authenticatedUser);
         assertEquals(input.getEmail(), authenticatedUser.getEmail());
         verify(authenticationManager, times(1)).authenticate(any());
-        verify(userRepository, times(1)).findByEmail(input.getEmail());
+        verify(userRepository, never()).findByEmail(any());
     }
 
     @Test
@@ -222,7 +269,7 @@ class AuthenticationServiceTest {
         String encodedPassword = "Dummy123#";
         String email = "user@email.com";
         PasswordResetToken resetToken = PasswordResetToken.builder()
-                .token(token)
+                .tokenHash(PasswordResetToken.hash(token))
                 .email(email)
                 .expiryDate(LocalDateTime.now().plusMinutes(10))
                 .used(false)
@@ -230,7 +277,7 @@ class AuthenticationServiceTest {
         User user = new User();
         user.setEmail(email);
 
-        when(passwordResetTokenRepository.findByToken(token)).thenReturn(Optional.of(resetToken));
+        when(passwordResetTokenRepository.findByTokenHash(PasswordResetToken.hash(token))).thenReturn(Optional.of(resetToken));
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
         when(passwordEncoder.encode(newPassword)).thenReturn(encodedPassword);
 
@@ -238,13 +285,16 @@ class AuthenticationServiceTest {
 
         verify(userRepository).save(user);
         verify(passwordResetTokenRepository).save(resetToken);
+        verify(tokenVersions).update(user);
+        verify(userDetailsCache).evict(email);
         assertThat(user.getPassword()).isEqualTo(encodedPassword);
+        assertThat(user.getTokenVersion()).isEqualTo(1);
         assertThat(resetToken.isUsed()).isTrue();
     }
 
     @Test
     void resetPasswordWithToken_shouldThrowIfTokenInvalid() {
-        when(passwordResetTokenRepository.findByToken("notfound")).thenReturn(Optional.empty());
+        when(passwordResetTokenRepository.findByTokenHash(PasswordResetToken.hash("notfound"))).thenReturn(Optional.empty());
         assertThatThrownBy(() -> authenticationService.resetPasswordWithToken("notfound", "pw"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Token tidak valid");
@@ -64,7 +64,7 @@ class EmailServiceTest {
         PasswordResetToken savedToken = tokenCaptor.getValue();
 
         assertThat(savedToken.getEmail()).isEqualTo(email);
-        assertThat(savedToken.getToken()).isNotBlank();
+        assertThat(savedToken.getTokenHash()).hasSize(64);
         assertThat(savedToken.getExpiryDate()).isAfter(LocalDateTime.now());
         assertThat(savedToken.isUsed()).isFalse();
 
@@ -74,7 +74,9 @@ class EmailServiceTest {
         assertThat(message.getTo()).containsExactly(email);
         assertThat(message.getSubject()).contains("Reset Password");
         assertThat(message.getText()).contains("Klik link berikut");
-        assertThat(message.getText()).contains(savedToken.getToken());
+        String token = message.getText().replaceAll("(?s).*\\?token=(\\S+).*", "$1");
+        assertThat(PasswordResetToken.hash(token)).isEqualTo(savedToken.getTokenHash());
+        assertThat(message.getText()).doesNotContain(savedToken.getTokenHash());
         assertThat(message.getText()).contains("https://mock-reset.com/reset");
     }
 
@@ -1,5 +1,7 @@
 package rencanakan.id.talentpool.unit.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -117,6 +119,100 @@ class JwtServiceTest {
         assertEquals("customValue", customClaimValue);
     }
 
+    @Test
+    void testVerifyReusesClaimsForRepeatedToken() {
+        String token = jwtService.generateToken(user);
+
+        Claims first = jwtService.verify(token);
+        Claims second = jwtService.verify(token);
+
+        assertEquals("john.doe@example.com", first.getSubject());
+        assertSame(first, second);
+    }
+
+    @Test
+    void testVerifyDoesNotCacheExpiredToken() {
+        String token = jwtService.buildToken(new HashMap<>(), user, -1000);
+
+        Claims first = jwtService.verify(token);
+        Claims second = jwtService.verify(token);
+
+        assertNotSame(first, second);
+        assertFalse(jwtService.isTokenValid(second, user));
+    }
+
+    @Test
+    void testVerifyWithoutCacheParsesEveryTime() {
+        JwtService uncached = new JwtService();
+        setPrivateField(uncached, "secretKey", SECRET_KEY);
+        setPrivateField(uncached, "jwtExpiration", JWT_EXPIRATION);
+        setPrivateField(uncached, "verifiedCacheSize", 0L);
+        String token = uncached.generateToken(user);
+
+        assertNotSame(uncached.verify(token), uncached.verify(token));
+    }
+
+    @Test
+    void testVerifyRejectsTamperedToken() {
+        String token = jwtService.generateToken(user);
+        jwtService.verify(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(SignatureException.class, () -> jwtService.verify(tampered));
+    }
+
+    @Test
+    void testIsTokenValidFromClaims() {
+        Claims claims = jwtService.verify(jwtService.generateToken(user));
+
+        User otherUser = User.builder()
+                .email("grande.doe@example.com")
+                .build();
+
+        assertTrue(jwtService.isTokenValid(claims, user));
+        assertFalse(jwtService.isTokenValid(claims, otherUser));
+    }
+
+    @Test
+    void testIsTokenInvalidAfterTokenVersionChanges() {
+        Claims claims = jwtService.verify(jwtService.generateToken(user));
+
+        user.setTokenVersion(1);
+
+        assertEquals(0, jwtService.tokenVersion(claims));
+        assertFalse(jwtService.isTokenValid(claims, user));
+    }
+
+    @Test
+    void testPrincipalOfCarriesIdEmailAndVersion() {
+        user.setTokenVersion(3);
+        Claims claims = jwtService.verify(jwtService.generateToken(user));
+
+        User principal = jwtService.principalOf(claims);
+
+        assertEquals("1", principal.getId());
+        assertEquals("john.doe@example.com", principal.getUsername());
+        assertEquals(3, principal.getTokenVersion());
+        assertNull(principal.getFirstName());
+    }
+
+    @Test
+    void testPrincipalOfExpiredToken() {
+        Claims claims = jwtService.verify(jwtService.buildToken(new HashMap<>(), user, -1000));
+
+        assertNull(jwtService.principalOf(claims));
+    }
+
+    @Test
+    void testEveryTokenHasItsOwnId() {
+        Claims first = jwtService.verify(jwtService.generateToken(user));
+        Claims second = jwtService.verify(jwtService.generateToken(user));
+
+        assertNotNull(first.getId());
+        assertNotEquals(first.getId(), second.getId());
+    }
+
     @Test
     void testGetExpirationTime() throws Exception {
         Field jwtExpirationField = JwtService.class.getDeclaredField("jwtExpiration");
@@ -0,0 +1,45 @@
+package rencanakan.id.talentpool.unit.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import rencanakan.id.talentpool.repository.PasswordResetTokenRepository;
+import rencanakan.id.talentpool.service.PasswordResetTokenPurge;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordResetTokenPurgeTest {
+
+    @Mock
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @Test
+    void purge_deletesInChunksUntilAShortChunk() {
+        when(passwordResetTokenRepository.findPurgeableIds(any(LocalDateTime.class), argThat((Pageable page) -> page.getPageSize() == 2)))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+
+        int purged = new PasswordResetTokenPurge(passwordResetTokenRepository, 2).purge();
+
+        assertEquals(3, purged);
+        verify(passwordResetTokenRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(passwordResetTokenRepository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    @Test
+    void purge_withNothingToDeleteOnlyLooksOnce() {
+        when(passwordResetTokenRepository.findPurgeableIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of());
+
+        assertEquals(0, new PasswordResetTokenPurge(passwordResetTokenRepository, 2).purge());
+        verify(passwordResetTokenRepository, times(1)).findPurgeableIds(any(LocalDateTime.class), any(Pageable.class));
+        verify(passwordResetTokenRepository, never()).deleteAllByIdInBatch(any());
+    }
+}
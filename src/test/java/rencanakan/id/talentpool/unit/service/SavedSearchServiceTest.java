@@ -0,0 +1,185 @@
+package rencanakan.id.talentpool.unit.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.SavedSearchMatchDTO;
+import rencanakan.id.talentpool.dto.SavedSearchRequestDTO;
+import rencanakan.id.talentpool.dto.SavedSearchResponseDTO;
+import rencanakan.id.talentpool.index.SavedSearchPercolator;
+import rencanakan.id.talentpool.index.TalentChangedEvent;
+import rencanakan.id.talentpool.index.TalentDocument;
+import rencanakan.id.talentpool.model.SavedSearch;
+import rencanakan.id.talentpool.model.SavedSearchMatch;
+import rencanakan.id.talentpool.repository.SavedSearchMatchRepository;
+import rencanakan.id.talentpool.repository.SavedSearchRepository;
+import rencanakan.id.talentpool.repository.TalentCard;
+import rencanakan.id.talentpool.repository.UserRepository;
+import rencanakan.id.talentpool.service.SavedSearchServiceImpl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SavedSearchServiceTest {
+
+    @Mock
+    private SavedSearchRepository savedSearchRepository;
+
+    @Mock
+    private SavedSearchMatchRepository savedSearchMatchRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SavedSearchPercolator percolator;
+    private SavedSearchServiceImpl savedSearchService;
+    private SavedSearch welders;
+
+    @BeforeEach
+    void setUp() {
+        percolator = new SavedSearchPercolator();
+        savedSearchService = new SavedSearchServiceImpl(savedSearchRepository, savedSearchMatchRepository,
+                userRepository, percolator, Runnable::run);
+        welders = SavedSearch.builder()
+                .id("search1")
+                .contractorId("contractor1")
+                .name("Welders")
+                .filter(FilterTalentDTO.builder().skills(List.of("welder")).build())
+                .build();
+    }
+
+    @Nested
+    class CreateTest {
+
+        @Test
+        void create_savesAndRegistersSearch() {
+            when(savedSearchRepository.save(any(SavedSearch.class))).thenAnswer(invocation -> {
+                SavedSearch saved = invocation.getArgument(0);
+                saved.setId("search1");
+                return saved;
+            });
+
+            SavedSearchResponseDTO res = savedSearchService.create("contractor1", SavedSearchRequestDTO.builder()
+                    .name("Welders")
+                    .filter(welders.getFilter())
+                    .build());
+
+            assertEquals("search1", res.getId());
+            assertEquals("contractor1", res.getContractorId());
+            assertEquals(1, percolator.size());
+        }
+
+        @Test
+        void create_withInvalidRadius_throwsIllegalArgument() {
+            SavedSearchRequestDTO request = SavedSearchRequestDTO.builder()
+                    .name("Nowhere")
+                    .filter(FilterTalentDTO.builder().near("Atlantis").radiusKm(10.0).build())
+                    .build();
+
+            assertThrows(IllegalArgumentException.class, () -> savedSearchService.create("contractor1", request));
+            verify(savedSearchRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    class DeleteTest {
+
+        @Test
+        void deleteById_removesSearchAndItsQueue() {
+            percolator.register(welders.getId(), welders.getFilter());
+            when(savedSearchRepository.findById("search1")).thenReturn(Optional.of(welders));
+
+            savedSearchService.deleteById("contractor1", "search1");
+
+            verify(savedSearchMatchRepository).deleteBySavedSearch(welders);
+            verify(savedSearchRepository).delete(welders);
+            assertEquals(0, percolator.size());
+        }
+
+        @Test
+        void deleteById_byAnotherContractor_throwsAccessDenied() {
+            when(savedSearchRepository.findById("search1")).thenReturn(Optional.of(welders));
+
+            assertThrows(AccessDeniedException.class, () -> savedSearchService.deleteById("contractor2", "search1"));
+            verify(savedSearchRepository, never()).delete(any());
+        }
+
+        @Test
+        void deleteById_whenMissing_throwsNotFound() {
+            when(savedSearchRepository.findById("missing")).thenReturn(Optional.empty());
+
+            assertThrows(EntityNotFoundException.class, () -> savedSearchService.deleteById("contractor1", "missing"));
+        }
+    }
+
+    @Nested
+    class TalentChangedTest {
+
+        private final TalentDocument plumber = new TalentDocument("t1", "John", "Doe", "Plumber", "Jakarta", null, 1, 100);
+        private final TalentDocument welder = new TalentDocument("t1", "John", "Doe", "Plumber, Welder", "Jakarta", null, 1, 100);
+
+        @BeforeEach
+        void register() {
+            percolator.register(welders.getId(), welders.getFilter());
+        }
+
+        @Test
+        void onTalentChanged_queuesNewlyMatchedSearches() {
+            when(savedSearchRepository.findAllById(Set.of("search1"))).thenReturn(List.of(welders));
+
+            savedSearchService.onTalentChanged(new TalentChangedEvent(plumber, welder));
+
+            verify(savedSearchMatchRepository).saveAll(argThat(matches -> {
+                List<SavedSearchMatch> queued = (List<SavedSearchMatch>) matches;
+                return queued.size() == 1 && queued.get(0).getTalentId().equals("t1")
+                        && queued.get(0).getSavedSearch() == welders;
+            }));
+        }
+
+        @Test
+        void onTalentChanged_whenAlreadyMatching_queuesNothing() {
+            savedSearchService.onTalentChanged(new TalentChangedEvent(welder, welder));
+            savedSearchService.onTalentChanged(new TalentChangedEvent(plumber, plumber));
+            savedSearchService.onTalentChanged(new TalentChangedEvent(welder, null));
+
+            verifyNoInteractions(savedSearchMatchRepository);
+        }
+    }
+
+    @Test
+    void collectMatches_returnsAndDequeuesMatchesOfLiveTalents() {
+        SavedSearchMatch live = SavedSearchMatch.builder().id("m1").savedSearch(welders).talentId("t1").build();
+        SavedSearchMatch removed = SavedSearchMatch.builder().id("m2").savedSearch(welders).talentId("t2").build();
+        when(savedSearchMatchRepository.findQueuedFor("contractor1")).thenReturn(List.of(live, removed));
+        when(userRepository.findCardsByIds(anyList())).thenReturn(List.of(
+                new TalentCard("t1", "John", "Doe", null, "Welder", "Jakarta", null, 1, 100)));
+
+        List<SavedSearchMatchDTO> res = savedSearchService.collectMatches("contractor1");
+
+        assertEquals(1, res.size());
+        assertEquals("Welders", res.get(0).getSavedSearchName());
+        assertEquals("t1", res.get(0).getTalent().getId());
+        verify(savedSearchMatchRepository).deleteAllInBatch(List.of(live, removed));
+    }
+
+    @Test
+    void collectMatches_whenQueueEmpty_returnsEmptyList() {
+        when(savedSearchMatchRepository.findQueuedFor("contractor1")).thenReturn(List.of());
+
+        assertTrue(savedSearchService.collectMatches("contractor1").isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+}
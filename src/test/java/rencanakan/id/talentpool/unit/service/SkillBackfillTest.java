@@ -0,0 +1,83 @@
+package rencanakan.id.talentpool.unit.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.repository.UserRepository;
+import rencanakan.id.talentpool.service.SkillBackfill;
+import rencanakan.id.talentpool.service.UserService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SkillBackfillTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SkillBackfill skillBackfill;
+
+    @BeforeEach
+    void setUp() {
+        skillBackfill = new SkillBackfill(userRepository, userService, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void backfill_assignsSkillsBatchByBatchUntilNoneAreLeft() {
+        List<User> first = List.of(User.builder().id("a").skill("Welder").build(), User.builder().id("b").skill("Painter").build());
+        List<User> second = List.of(User.builder().id("c").skill("Electrician").build());
+        when(userRepository.findTop500BySkillIsNotNullAndSkillsIsEmptyAndIdGreaterThanOrderByIdAsc("")).thenReturn(first);
+        when(userRepository.findTop500BySkillIsNotNullAndSkillsIsEmptyAndIdGreaterThanOrderByIdAsc("b")).thenReturn(second);
+        when(userRepository.findTop500BySkillIsNotNullAndSkillsIsEmptyAndIdGreaterThanOrderByIdAsc("c")).thenReturn(List.of());
+
+        skillBackfill.backfill();
+
+        verify(userService).assignSkills(first);
+        verify(userService).assignSkills(second);
+        verify(userRepository).saveAll(first);
+        verify(userRepository).saveAll(second);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void backfill_whenAnotherInstanceInsertsTheSameSkill_retriesTheBatch() {
+        List<User> batch = List.of(User.builder().id("a").skill("Welder").build());
+        when(userRepository.findTop500BySkillIsNotNullAndSkillsIsEmptyAndIdGreaterThanOrderByIdAsc("")).thenReturn(batch);
+        when(userRepository.findTop500BySkillIsNotNullAndSkillsIsEmptyAndIdGreaterThanOrderByIdAsc("a")).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("ux_skills_name")).doNothing().when(userService).assignSkills(anyList());
+
+        skillBackfill.backfill();
+
+        verify(userService, times(3)).assignSkills(anyList());
+        verify(userRepository).saveAll(batch);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void backfill_whenTheBatchKeepsFailing_givesUp() {
+        when(userRepository.findTop500BySkillIsNotNullAndSkillsIsEmptyAndIdGreaterThanOrderByIdAsc(""))
+                .thenReturn(List.of(User.builder().id("a").skill("Welder").build()));
+        doThrow(new DataIntegrityViolationException("ux_skills_name")).when(userService).assignSkills(anyList());
+
+        assertThrows(DataIntegrityViolationException.class, () -> skillBackfill.backfill());
+
+        verify(transactionManager, times(3)).rollback(any());
+        verify(userRepository, never()).saveAll(anyList());
+    }
+}
@@ -0,0 +1,116 @@
+package rencanakan.id.talentpool.unit.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.TalentBatchResultDTO;
+import rencanakan.id.talentpool.dto.TalentCardDTO;
+import rencanakan.id.talentpool.dto.TalentSearchQueryDTO;
+import rencanakan.id.talentpool.dto.UserResponseWithPagingDTO;
+import rencanakan.id.talentpool.service.TalentBatchSearch;
+import rencanakan.id.talentpool.service.UserService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TalentBatchSearchTest {
+
+    @Mock
+    private UserService userService;
+
+    private TalentBatchSearch batchSearch;
+
+    private final FilterTalentDTO welders = FilterTalentDTO.builder().skills(List.of("Welder")).build();
+    private final FilterTalentDTO plumbers = FilterTalentDTO.builder().skills(List.of("Plumber")).build();
+
+    @BeforeEach
+    void setUp() {
+        batchSearch = new TalentBatchSearch(userService, Duration.ofMillis(500));
+    }
+
+    @Test
+    void search_runsQueriesConcurrentlyAndKeepsTheirOrder() {
+        // Each query waits for the other, so this only completes if both run at once
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        when(userService.filter(any(FilterTalentDTO.class), any(Pageable.class))).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(1, TimeUnit.SECONDS));
+            FilterTalentDTO filter = invocation.getArgument(0);
+            return page(filter.getSkills().get(0));
+        });
+
+        List<TalentBatchResultDTO> results = batchSearch.search(List.of(
+                TalentSearchQueryDTO.builder().filter(welders).build(),
+                TalentSearchQueryDTO.builder().filter(plumbers).page(2).size(5).build()));
+
+        assertEquals("Welder", results.get(0).getResult().getUsers().get(0).getSkill());
+        assertEquals("Plumber", results.get(1).getResult().getUsers().get(0).getSkill());
+    }
+
+    @Test
+    void search_passesPagingWithDefaults() {
+        when(userService.filter(any(FilterTalentDTO.class), eq(PageRequest.of(0, 10)))).thenReturn(page("Welder"));
+        when(userService.filter(eq(plumbers), eq(PageRequest.of(2, 5)))).thenReturn(page("Plumber"));
+
+        List<TalentBatchResultDTO> results = batchSearch.search(List.of(
+                TalentSearchQueryDTO.builder().build(),
+                TalentSearchQueryDTO.builder().filter(plumbers).page(2).size(5).build()));
+
+        assertNull(results.get(0).getError());
+        assertEquals("Plumber", results.get(1).getResult().getUsers().get(0).getSkill());
+    }
+
+    @Test
+    void search_reportsEachFailureOnItsOwnQuery() {
+        when(userService.filter(eq(welders), any(Pageable.class))).thenThrow(new EntityNotFoundException("No users found"));
+        when(userService.filter(eq(plumbers), any(Pageable.class))).thenThrow(new IllegalArgumentException("Radius must be positive"));
+
+        List<TalentBatchResultDTO> results = batchSearch.search(List.of(
+                TalentSearchQueryDTO.builder().filter(welders).build(),
+                TalentSearchQueryDTO.builder().filter(plumbers).build(),
+                TalentSearchQueryDTO.builder().filter(welders).size(0).build()));
+
+        assertTrue(results.get(0).getResult().getUsers().isEmpty());
+        assertEquals("Radius must be positive", results.get(1).getError());
+        assertNotNull(results.get(2).getError());
+    }
+
+    @Test
+    void search_pastDeadline_cancelsOnlySlowQueries() {
+        when(userService.filter(eq(welders), any(Pageable.class))).thenReturn(page("Welder"));
+        when(userService.filter(argThat(filter -> filter == plumbers), any(Pageable.class))).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return page("Plumber");
+        });
+
+        long started = System.nanoTime();
+        List<TalentBatchResultDTO> results = batchSearch.search(List.of(
+                TalentSearchQueryDTO.builder().filter(welders).build(),
+                TalentSearchQueryDTO.builder().filter(plumbers).build()));
+
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(5));
+        assertEquals("Welder", results.get(0).getResult().getUsers().get(0).getSkill());
+        assertEquals("Search timed out", results.get(1).getError());
+    }
+
+    private static UserResponseWithPagingDTO page(String skill) {
+        return UserResponseWithPagingDTO.builder()
+                .users(List.of(TalentCardDTO.builder().skill(skill).build()))
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package rencanakan.id.talentpool.unit.service;
+
+import org.junit.jupiter.api.Test;
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.service.TalentCountEstimator;
+import rencanakan.id.talentpool.service.TalentSearchKey;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TalentCountEstimatorTest {
+
+    private final TalentSearchKey welders = TalentSearchKey.of(FilterTalentDTO.builder().skills(List.of("Welder")).build(), 0, 0, null, false);
+
+    @Test
+    void estimate_firstRequest_schedulesCountAndReturnsNothingYet() {
+        List<Runnable> scheduled = new ArrayList<>();
+        TalentCountEstimator estimator = new TalentCountEstimator(scheduled::add, 100, Duration.ofMinutes(1));
+
+        assertNull(estimator.estimate(welders, () -> 7));
+        assertEquals(1, scheduled.size());
+
+        scheduled.get(0).run();
+
+        assertEquals(7L, estimator.estimate(welders, () -> 8));
+        assertEquals(1, scheduled.size());
+    }
+
+    @Test
+    void estimate_whileRefreshInFlight_doesNotScheduleAgain() {
+        List<Runnable> scheduled = new ArrayList<>();
+        TalentCountEstimator estimator = new TalentCountEstimator(scheduled::add, 100, Duration.ofMinutes(1));
+
+        estimator.estimate(welders, () -> 7);
+        estimator.estimate(welders, () -> 7);
+
+        assertEquals(1, scheduled.size());
+    }
+
+    @Test
+    void estimate_whenStale_returnsOldValueAndRefreshesInBackground() {
+        AtomicInteger counts = new AtomicInteger();
+        TalentCountEstimator estimator = new TalentCountEstimator(Runnable::run, 100, Duration.ZERO);
+
+        assertNull(estimator.estimate(welders, counts::incrementAndGet));
+        assertEquals(1L, estimator.estimate(welders, counts::incrementAndGet));
+        assertEquals(2L, estimator.estimate(welders, counts::incrementAndGet));
+        assertEquals(3, counts.get());
+    }
+
+    @Test
+    void estimate_whenCountFails_allowsRetry() {
+        List<Runnable> scheduled = new ArrayList<>();
+        TalentCountEstimator estimator = new TalentCountEstimator(scheduled::add, 100, Duration.ofMinutes(1));
+
+        estimator.estimate(welders, () -> {
+            throw new IllegalStateException("database down");
+        });
+        assertThrows(IllegalStateException.class, () -> scheduled.get(0).run());
+
+        estimator.estimate(welders, () -> 3);
+        assertEquals(2, scheduled.size());
+    }
+}
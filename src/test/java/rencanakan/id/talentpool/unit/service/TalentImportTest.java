@@ -0,0 +1,205 @@
+package rencanakan.id.talentpool.unit.service;
+
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import rencanakan.id.talentpool.configs.BoundedPasswordEncoder;
+import rencanakan.id.talentpool.dto.TalentImportResultDTO;
+import rencanakan.id.talentpool.dto.UserRequestDTO;
+import rencanakan.id.talentpool.enums.ImportStatus;
+import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.repository.UserIdentity;
+import rencanakan.id.talentpool.repository.UserRepository;
+import rencanakan.id.talentpool.service.TalentImport;
+import rencanakan.id.talentpool.service.UserIdentityPrefilter;
+import rencanakan.id.talentpool.service.UserService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TalentImportTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserIdentityPrefilter userIdentityPrefilter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TalentImport talentImport;
+
+    @BeforeEach
+    void setUp() {
+        talentImport = new TalentImport(userRepository, userService, passwordEncoder,
+                Validation.buildDefaultValidatorFactory().getValidator(), userIdentityPrefilter,
+                new TransactionTemplate(transactionManager), 3, List.of(" Admin@Example.com ", ""));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importTalents_insertsValidRowsInOneBatch() {
+        when(userIdentityPrefilter.mightExist(any())).thenReturn(false);
+        when(passwordEncoder.encodeAll(List.of("Password1!", "Password2!"))).thenReturn(List.of("hash1", "hash2"));
+        when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            users.forEach(user -> user.setId(null));
+            return users;
+        });
+
+        TalentImportResultDTO result = talentImport.importTalents(List.of(talent(1), talent(2)));
+
+        assertEquals(2, result.getCreated());
+        assertEquals(0, result.getRejected());
+        assertEquals(ImportStatus.CREATED, result.getRows().get(0).getStatus());
+        assertNotNull(result.getRows().get(1).getId());
+
+        ArgumentCaptor<List<User>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).saveAll(saved.capture());
+        assertEquals(List.of("hash1", "hash2"), saved.getValue().stream().map(User::getPassword).toList());
+        verify(userService).assignSkills(saved.getValue());
+        verify(userRepository).flush();
+
+        // Passwords are hashed before the transaction holding the inserts begins
+        InOrder inOrder = inOrder(passwordEncoder, transactionManager, userRepository);
+        inOrder.verify(passwordEncoder).encodeAll(anyList());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(userRepository).saveAll(anyList());
+        inOrder.verify(transactionManager).commit(any());
+        verify(userRepository, never()).findIdentitiesIn(any(), any(), any(), any());
+        verify(userIdentityPrefilter, times(2)).add(any());
+    }
+
+    @Test
+    void importTalents_reportsInvalidAndDuplicateRowsAndKeepsTheRest() {
+        when(userIdentityPrefilter.mightExist(any())).thenReturn(false);
+        when(passwordEncoder.encodeAll(List.of("Password1!"))).thenReturn(List.of("hash1"));
+        UserRequestDTO invalid = talent(2);
+        invalid.setPassword(null);
+        invalid.setNik("123");
+        UserRequestDTO duplicate = talent(3);
+        duplicate.setEmail(talent(1).getEmail());
+
+        TalentImportResultDTO result = talentImport.importTalents(List.of(talent(1), invalid, duplicate));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getRejected());
+        assertEquals(ImportStatus.REJECTED, result.getRows().get(1).getStatus());
+        assertTrue(result.getRows().get(1).getErrors().contains("Password is required"));
+        assertTrue(result.getRows().get(1).getErrors().contains("nik: NIK must be exactly 16 digits"));
+        assertEquals(List.of("Email talent1@example.com is already used by row 1."), result.getRows().get(2).getErrors());
+        assertNull(result.getRows().get(2).getId());
+    }
+
+    @Test
+    void importTalents_rejectsRowsThatCollideWithExistingUsers() {
+        when(userIdentityPrefilter.mightExist(any())).thenReturn(true);
+        when(userRepository.findIdentitiesIn(anyCollection(), anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(List.of(new UserIdentity("other@example.com", "2000000000000002", "other", "other")));
+        when(passwordEncoder.encodeAll(List.of("Password1!"))).thenReturn(List.of("hash1"));
+
+        TalentImportResultDTO result = talentImport.importTalents(List.of(talent(1), talent(2)));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(List.of("NIK 2000000000000002 is already in use."), result.getRows().get(1).getErrors());
+        verify(userRepository, times(1)).findIdentitiesIn(anyCollection(), anyCollection(), anyCollection(), anyCollection());
+    }
+
+    @Test
+    void importTalents_rejectsBatchesOverTheLimit() {
+        List<UserRequestDTO> talents = List.of(talent(1), talent(2), talent(3), talent(4));
+
+        assertThrows(IllegalArgumentException.class, () -> talentImport.importTalents(talents));
+        verifyNoInteractions(userRepository, passwordEncoder);
+    }
+
+    @Test
+    void importTalents_reportsConflictWhenInsertRaces() {
+        when(userIdentityPrefilter.mightExist(any())).thenReturn(false);
+        when(passwordEncoder.encodeAll(anyList())).thenReturn(List.of("hash1"));
+        doThrow(new DataIntegrityViolationException("duplicate")).when(userRepository).flush();
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> talentImport.importTalents(List.of(talent(1))));
+
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        verify(transactionManager).rollback(any());
+        verify(userIdentityPrefilter, never()).add(any());
+    }
+
+    @Test
+    void authorize_allowsOnlyListedAccounts() {
+        assertDoesNotThrow(() -> talentImport.authorize(User.builder().email("admin@example.com").build()));
+        assertThrows(AccessDeniedException.class, () -> talentImport.authorize(User.builder().email("talent@example.com").build()));
+        assertThrows(AccessDeniedException.class, () -> talentImport.authorize(null));
+    }
+
+    @Test
+    void importCsv_readsQuotedFieldsAndReportsUnreadableRows() {
+        when(userIdentityPrefilter.mightExist(any())).thenReturn(false);
+        when(passwordEncoder.encodeAll(List.of("Password1!"))).thenReturn(List.of("hash1"));
+        String csv = "firstName,lastName,email,phoneNumber,aboutMe,nik,npwp,experienceYears,skkLevel,currentLocation,preferredLocations,skill,password,price\r\n"
+                + "Talent,\"Doe, Jr.\",talent1@example.com,0800000001,\"Says \"\"hi\"\"\non two lines\",1000000000000001,npwp1,5,Ahli,Jakarta,Jakarta;Bandung,Welder,Password1!,100000\r\n"
+                + "Talent,Two,talent2@example.com,0800000002,About,1000000000000002,npwp2,five,Ahli,Jakarta,Jakarta,Welder,Password2!,100000\r\n";
+
+        TalentImportResultDTO result = talentImport.importCsv(csv);
+
+        assertEquals(1, result.getCreated());
+        assertEquals(List.of("experienceYears must be a whole number"), result.getRows().get(1).getErrors().subList(0, 1));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).saveAll(saved.capture());
+        User user = saved.getValue().get(0);
+        assertEquals("Doe, Jr.", user.getLastName());
+        assertEquals("Says \"hi\"\non two lines", user.getAboutMe());
+        assertEquals(List.of("Jakarta", "Bandung"), user.getPreferredLocations());
+        assertEquals(5, user.getExperienceYears());
+    }
+
+    @Test
+    void importCsv_rejectsUnknownColumns() {
+        assertThrows(IllegalArgumentException.class, () -> talentImport.importCsv("firstName,shoeSize\r\nTalent,42\r\n"));
+    }
+
+    private static UserRequestDTO talent(int n) {
+        return UserRequestDTO.builder()
+                .firstName("Talent")
+                .lastName("Number" + n)
+                .email("talent" + n + "@example.com")
+                .phoneNumber("080000000" + n)
+                .aboutMe("About me")
+                .nik("%016d".formatted(1000000000000000L * n + n))
+                .npwp("npwp" + n)
+                .experienceYears(n)
+                .skkLevel("Ahli")
+                .currentLocation("Jakarta")
+                .preferredLocations(List.of("Jakarta"))
+                .skill("Welder")
+                .password("Password" + n + "!")
+                .price(100000)
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package rencanakan.id.talentpool.unit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.UserResponseWithPagingDTO;
+import rencanakan.id.talentpool.index.TalentChangedEvent;
+import rencanakan.id.talentpool.index.TalentDocument;
+import rencanakan.id.talentpool.index.TalentTextChangedEvent;
+import rencanakan.id.talentpool.service.TalentSearchCache;
+import rencanakan.id.talentpool.service.TalentSearchKey;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TalentSearchCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TalentSearchCache searchCache;
+    private AtomicInteger loads;
+
+    private final TalentSearchKey welders = TalentSearchKey.of(FilterTalentDTO.builder().skills(List.of("Welder")).build(), 0, 10, null);
+    private final TalentSearchKey jakarta = TalentSearchKey.of(FilterTalentDTO.builder().preferredLocations(List.of("Jakarta")).build(), 0, 10, null);
+
+    private static TalentDocument talent(String skill, String location) {
+        return new TalentDocument("1", "John", "Doe", skill, location, "Ahli", 5, 100);
+    }
+
+    private UserResponseWithPagingDTO load() {
+        loads.incrementAndGet();
+        return UserResponseWithPagingDTO.builder().users(List.of()).build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchCache = new TalentSearchCache(meterRegistry, 100, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_secondCallIsServedFromCache() {
+        UserResponseWithPagingDTO first = searchCache.get(welders, this::load);
+        UserResponseWithPagingDTO second = searchCache.get(welders, this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "talentSearch").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "talentSearch").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void key_isCanonicalAcrossCasingOrderAndDuplicates() {
+        TalentSearchKey a = TalentSearchKey.of(FilterTalentDTO.builder().skills(List.of("Welder", "electrician")).name(" ").build(), 0, 10, null);
+        TalentSearchKey b = TalentSearchKey.of(FilterTalentDTO.builder().skills(List.of("ELECTRICIAN", "welder", "Welder")).build(), 0, 10, null);
+
+        assertEquals(a, b);
+        assertNotEquals(a, TalentSearchKey.of(FilterTalentDTO.builder().skills(List.of("welder")).build(), 0, 10, null));
+    }
+
+    @Test
+    void onTalentChanged_dropsOnlyEntriesTheTalentMatches() {
+        searchCache.get(welders, this::load);
+        searchCache.get(jakarta, this::load);
+
+        searchCache.onTalentChanged(new TalentChangedEvent(null, talent("Welder", "Bandung")));
+
+        assertEquals(1, searchCache.size());
+        searchCache.get(jakarta, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onTalentChanged_dropsEntriesMatchedBeforeTheChange() {
+        searchCache.get(welders, this::load);
+
+        searchCache.onTalentChanged(new TalentChangedEvent(talent("Welder", "Bandung"), talent("Electrician", "Bandung")));
+
+        assertEquals(0, searchCache.size());
+    }
+
+    @Test
+    void get_doesNotCacheResultLoadedDuringAChange() {
+        searchCache.get(welders, () -> {
+            searchCache.onTalentChanged(new TalentChangedEvent(null, talent("Plumber", "Bandung")));
+            return load();
+        });
+
+        assertEquals(0, searchCache.size());
+    }
+
+    @Test
+    void fullTextEntries_areDroppedOnAnyTalentOrTextChange() {
+        TalentSearchKey text = TalentSearchKey.of(FilterTalentDTO.builder().query(" Gedung  Bertingkat ").build(), 0, 10, null);
+        assertEquals(text, TalentSearchKey.of(FilterTalentDTO.builder().query("gedung bertingkat").build(), 0, 10, null));
+
+        searchCache.get(text, this::load);
+        searchCache.get(welders, this::load);
+        searchCache.onTalentChanged(new TalentChangedEvent(null, talent("Plumber", "Surabaya")));
+        assertEquals(1, searchCache.size());
+
+        searchCache.get(text, this::load);
+        searchCache.onTalentTextChanged(new TalentTextChangedEvent("1"));
+        assertEquals(1, searchCache.size());
+        assertEquals(3, loads.get());
+    }
+}
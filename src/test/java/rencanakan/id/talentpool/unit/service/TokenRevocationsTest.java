@@ -0,0 +1,85 @@
+package rencanakan.id.talentpool.unit.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rencanakan.id.talentpool.model.RevokedToken;
+import rencanakan.id.talentpool.repository.RevokedTokenRepository;
+import rencanakan.id.talentpool.service.TokenRevocations;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationsTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocations tokenRevocations;
+    private Date expiresAt;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocations = new TokenRevocations(revokedTokenRepository, 1000, Duration.ofMinutes(5));
+        expiresAt = new Date(System.currentTimeMillis() + 60_000);
+    }
+
+    @Test
+    void isRevoked_unknownTokenSkipsTheTable() {
+        assertFalse(tokenRevocations.isRevoked("token-id"));
+        assertFalse(tokenRevocations.isRevoked(null));
+
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    void revoke_storesTheTokenAndAnswersFromMemory() {
+        tokenRevocations.revoke("token-id", expiresAt);
+
+        assertTrue(tokenRevocations.isRevoked("token-id"));
+
+        ArgumentCaptor<RevokedToken> saved = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenRepository).save(saved.capture());
+        assertEquals("token-id", saved.getValue().getJti());
+        verify(revokedTokenRepository, never()).existsById(any());
+    }
+
+    @Test
+    void revoke_rejectsTokenWithoutId() {
+        assertThrows(IllegalArgumentException.class, () -> tokenRevocations.revoke(null, expiresAt));
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    void refresh_prunesExpiredAndLoadsRevocationsFromTheTable() {
+        when(revokedTokenRepository.findActiveIds(any())).thenReturn(List.of("elsewhere"));
+        when(revokedTokenRepository.existsById("elsewhere")).thenReturn(true);
+
+        tokenRevocations.refresh();
+
+        assertTrue(tokenRevocations.isRevoked("elsewhere"));
+        assertTrue(tokenRevocations.isRevoked("elsewhere"));
+        assertFalse(tokenRevocations.isRevoked("token-id"));
+        verify(revokedTokenRepository).deleteExpired(any());
+        verify(revokedTokenRepository, times(1)).existsById("elsewhere");
+    }
+
+    @Test
+    void refresh_forgetsTokensNoLongerInTheTable() {
+        tokenRevocations.revoke("token-id", expiresAt);
+        when(revokedTokenRepository.findActiveIds(any())).thenReturn(List.of());
+
+        tokenRevocations.refresh();
+
+        assertFalse(tokenRevocations.isRevoked("token-id"));
+    }
+}
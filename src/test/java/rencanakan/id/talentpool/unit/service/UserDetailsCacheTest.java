@@ -0,0 +1,88 @@
+package rencanakan.id.talentpool.unit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.repository.UserRepository;
+import rencanakan.id.talentpool.service.UserDetailsCache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsCacheTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserDetailsCache userDetailsCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsCache = new UserDetailsCache(userRepository, meterRegistry, 100, Duration.ofMinutes(5));
+        user = User.builder().id("1").email(EMAIL).build();
+    }
+
+    @Test
+    void findByEmail_secondCallIsServedFromCache() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        assertSame(user, userDetailsCache.findByEmail(EMAIL).orElseThrow());
+        assertSame(user, userDetailsCache.findByEmail(EMAIL).orElseThrow());
+
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "userDetails").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "userDetails").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void findByEmail_unknownEmailIsNotCached() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty(), Optional.of(user));
+
+        assertTrue(userDetailsCache.findByEmail(EMAIL).isEmpty());
+        assertSame(user, userDetailsCache.findByEmail(EMAIL).orElseThrow());
+        assertEquals(1, userDetailsCache.size());
+    }
+
+    @Test
+    void findByEmail_nullEmailSkipsRepository() {
+        assertTrue(userDetailsCache.findByEmail(null).isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void evict_reloadsOnNextLookup() {
+        User updated = User.builder().id("1").email(EMAIL).password("changed").build();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user), Optional.of(updated));
+        userDetailsCache.findByEmail(EMAIL);
+
+        userDetailsCache.evict(EMAIL);
+
+        assertSame(updated, userDetailsCache.findByEmail(EMAIL).orElseThrow());
+        assertEquals(1, userDetailsCache.size());
+    }
+
+    @Test
+    void size_isBounded() {
+        UserDetailsCache small = new UserDetailsCache(userRepository, new SimpleMeterRegistry(), 1, Duration.ofMinutes(5));
+        when(userRepository.findByEmail(anyString())).thenAnswer(invocation ->
+                Optional.of(User.builder().email(invocation.getArgument(0)).build()));
+
+        small.findByEmail("a@example.com");
+        small.findByEmail("b@example.com");
+
+        assertEquals(1, small.size());
+    }
+}
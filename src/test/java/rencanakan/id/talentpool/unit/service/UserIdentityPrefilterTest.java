@@ -0,0 +1,58 @@
+package rencanakan.id.talentpool.unit.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rencanakan.id.talentpool.repository.UserIdentity;
+import rencanakan.id.talentpool.repository.UserRepository;
+import rencanakan.id.talentpool.service.UserIdentityPrefilter;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserIdentityPrefilterTest {
+
+    private static final UserIdentity EXISTING = new UserIdentity("john.doe@example.com", "1234567890123456", null, "081234567890");
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserIdentityPrefilter prefilter;
+
+    @BeforeEach
+    void setUp() {
+        prefilter = new UserIdentityPrefilter(userRepository, 1000);
+    }
+
+    @Test
+    void mightExist_beforeLoadingAssumesTaken() {
+        assertTrue(prefilter.mightExist(new UserIdentity("new@example.com", "6543210987654321", null, "0899")));
+    }
+
+    @Test
+    void mightExist_anyTakenFieldIsReported() {
+        when(userRepository.findAllIdentities()).thenReturn(List.of(EXISTING));
+        prefilter.rebuild();
+
+        assertTrue(prefilter.mightExist(new UserIdentity("john.doe@example.com", "6543210987654321", null, "0899")));
+        assertTrue(prefilter.mightExist(new UserIdentity("new@example.com", "6543210987654321", null, "081234567890")));
+        assertFalse(prefilter.mightExist(new UserIdentity("new@example.com", "6543210987654321", null, "0899")));
+    }
+
+    @Test
+    void add_makesNewSignupsVisible() {
+        when(userRepository.findAllIdentities()).thenReturn(List.of());
+        prefilter.rebuild();
+        UserIdentity signup = new UserIdentity("new@example.com", "6543210987654321", "12.345", "0899");
+
+        assertFalse(prefilter.mightExist(signup));
+        prefilter.add(signup);
+
+        assertTrue(prefilter.mightExist(new UserIdentity("other@example.com", "1111111111111111", "12.345", "0800")));
+    }
+}
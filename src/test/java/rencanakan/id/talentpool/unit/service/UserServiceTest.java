@@ -7,14 +7,22 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -22,16 +30,44 @@ import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.lang.reflect.Field;
 import java.util.Comparator;
 
 import rencanakan.id.talentpool.dto.FilterTalentDTO;
+import rencanakan.id.talentpool.dto.TalentCardDTO;
+import rencanakan.id.talentpool.dto.TalentDistanceDTO;
+import rencanakan.id.talentpool.dto.TalentFacetsDTO;
+import rencanakan.id.talentpool.dto.TalentMatchDTO;
+import rencanakan.id.talentpool.dto.TalentMatchRequestDTO;
+import rencanakan.id.talentpool.dto.TypeaheadSuggestionDTO;
 import rencanakan.id.talentpool.dto.UserRequestDTO;
 import rencanakan.id.talentpool.dto.UserResponseDTO;
 import rencanakan.id.talentpool.dto.UserResponseWithPagingDTO;
+import rencanakan.id.talentpool.index.GeoPoint;
+import rencanakan.id.talentpool.index.NearbyTalent;
+import rencanakan.id.talentpool.index.ScoredTalent;
+import rencanakan.id.talentpool.index.TalentDocument;
+import rencanakan.id.talentpool.index.TalentIndex;
+import rencanakan.id.talentpool.index.TalentTextIndex;
+import rencanakan.id.talentpool.index.TypeaheadIndex;
 import rencanakan.id.talentpool.mapper.DTOMapper;
+import rencanakan.id.talentpool.model.Skill;
 import rencanakan.id.talentpool.model.User;
+import rencanakan.id.talentpool.repository.SkillRepository;
+import rencanakan.id.talentpool.repository.TalentCard;
 import rencanakan.id.talentpool.repository.UserRepository;
+import rencanakan.id.talentpool.service.TalentCountEstimator;
+import rencanakan.id.talentpool.service.TalentCountMode;
+import rencanakan.id.talentpool.service.TalentCursor;
+import rencanakan.id.talentpool.service.TalentExportFormat;
+import rencanakan.id.talentpool.service.TalentSearchCache;
+import rencanakan.id.talentpool.service.TalentSearchKey;
+import rencanakan.id.talentpool.service.UserDetailsCache;
 import rencanakan.id.talentpool.service.UserServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +79,30 @@ class UserServiceTest {
     @Mock
     private Validator mockValidator;
 
+    @Mock
+    private TalentIndex talentIndex;
+
+    @Mock
+    private TalentSearchCache searchCache;
+
+    @Mock
+    private TalentCountEstimator countEstimator;
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @Mock
+    private TypeaheadIndex typeaheadIndex;
+
+    @Mock
+    private TalentTextIndex textIndex;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -63,6 +123,8 @@ class UserServiceTest {
 
         page = PageRequest.of(0, 1);
 
+        lenient().when(searchCache.get(any(TalentSearchKey.class), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<UserResponseWithPagingDTO>>getArgument(1).get());
     }
 
     private User mockUser(String firstName) {
@@ -71,6 +133,10 @@ class UserServiceTest {
         return user;
     }
 
+    private TalentCard card(String id, String firstName, String lastName) {
+        return new TalentCard(id, firstName, lastName, null, null, null, null, null, null);
+    }
+
 
 
 
@@ -116,7 +182,7 @@ class UserServiceTest {
         @Test
         void findByEmail_WithValidEmail_ReturnsUser() {
             String testEmail = "john.doe@example.com";
-            when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(testUser));
+            when(userDetailsCache.findByEmail(testEmail)).thenReturn(Optional.of(testUser));
 
             User result = userService.findByEmail(testEmail);
 
@@ -125,33 +191,33 @@ class UserServiceTest {
             assertEquals("John", result.getFirstName());
             assertEquals("Doe", result.getLastName());
             assertEquals(testEmail, result.getEmail());
-            verify(userRepository, times(1)).findByEmail(testEmail);
+            verify(userDetailsCache, times(1)).findByEmail(testEmail);
         }
 
         @Test
         void findByEmail_WithNonExistentEmail_ReturnsNull() {
             String nonExistentEmail = "nonexistent@example.com";
-            when(userRepository.findByEmail(nonExistentEmail)).thenReturn(Optional.empty());
+            when(userDetailsCache.findByEmail(nonExistentEmail)).thenReturn(Optional.empty());
 
             Exception exception = assertThrows(EntityNotFoundException.class, () -> {
                 userService.findByEmail(nonExistentEmail);
             });
 
             assertEquals("User not found with email: " + nonExistentEmail, exception.getMessage());
-            verify(userRepository, times(1)).findByEmail(nonExistentEmail);
+            verify(userDetailsCache, times(1)).findByEmail(nonExistentEmail);
         }
 
         @Test
         void findByEmail_WithEmptyEmail_ReturnsNull() {
             String emptyEmail = "";
-            when(userRepository.findByEmail(emptyEmail)).thenReturn(Optional.empty());
+            when(userDetailsCache.findByEmail(emptyEmail)).thenReturn(Optional.empty());
 
             Exception exception = assertThrows(EntityNotFoundException.class, () -> {
                 userService.findByEmail(emptyEmail);
             });
 
             assertEquals("User not found with email: " + emptyEmail, exception.getMessage());
-            verify(userRepository, times(1)).findByEmail(emptyEmail);
+            verify(userDetailsCache, times(1)).findByEmail(emptyEmail);
         }
     }
 
@@ -188,6 +254,8 @@ class UserServiceTest {
 
             verify(userRepository, times(1)).findById(testUserId);
             verify(userRepository, times(1)).save(any(User.class));
+            verify(userDetailsCache).evict("john.doe@example.com");
+            verify(userDetailsCache).evict("jane.doe@example.com");
         }
 
         @Test
@@ -299,7 +367,7 @@ class UserServiceTest {
         @Test
         void loadUserByUsername_WithValidEmail_ReturnsUser() {
             String testEmail = "john.doe@example.com";
-            when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(testUser));
+            when(userDetailsCache.findByEmail(testEmail)).thenReturn(Optional.of(testUser));
 
             User result = userService.loadUserByUsername(testEmail);
 
@@ -308,20 +376,20 @@ class UserServiceTest {
             assertEquals("John", result.getFirstName());
             assertEquals("Doe", result.getLastName());
             assertEquals(testEmail, result.getEmail());
-            verify(userRepository, times(1)).findByEmail(testEmail);
+            verify(userDetailsCache, times(1)).findByEmail(testEmail);
         }
 
         @Test
         void loadUserByUsername_WithNonExistentEmail_ThrowsUsernameNotFoundException() {
             String nonExistentEmail = "nonexistent@example.com";
-            when(userRepository.findByEmail(nonExistentEmail)).thenReturn(Optional.empty());
+            when(userDetailsCache.findByEmail(nonExistentEmail)).thenReturn(Optional.empty());
 
             Exception exception = assertThrows(UsernameNotFoundException.class, () -> {
                 userService.loadUserByUsername(nonExistentEmail);
             });
 
             assertEquals("User not found", exception.getMessage());
-            verify(userRepository, times(1)).findByEmail(nonExistentEmail);
+            verify(userDetailsCache, times(1)).findByEmail(nonExistentEmail);
         }
     }
     @Nested
@@ -331,110 +399,84 @@ class UserServiceTest {
             FilterTalentDTO filter = new FilterTalentDTO();
             Pageable pageable = PageRequest.of(0, 10);
 
-            // Create users with different combinations of first and last names
-            User user1 = new User();
-            user1.setFirstName("Alice");
-            user1.setLastName("Smith");
-
-            User user2 = new User();
-            user2.setFirstName("Bob");
-            user2.setLastName("Jones");
+            // Create talents with different combinations of first and last names
+            TalentCard card1 = card("1", "Alice", "Smith");
+            TalentCard card2 = card("2", "Bob", "Jones");
+            TalentCard card3 = card("3", "Alice", "Johnson");
 
-            User user3 = new User();
-            user3.setFirstName("Alice");
-            user3.setLastName("Johnson");
+            List<TalentCard> cards = Arrays.asList(card2, card3, card1); // Unordered list
 
-            List<User> users = Arrays.asList(user2, user3, user1); // Unordered list
-
-            // Mock that the repository will return the users in alphabetical order
-            // This simulates what Spring Data JPA would do with Sort.by("firstName").and(Sort.by("lastName"))
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
+            // Mock that the repository will return the cards in alphabetical order
+            // This simulates what the query does with Sort.by("firstName").and(Sort.by("lastName"))
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
                     .thenAnswer(invocation -> {
                         Pageable pageableArg = invocation.getArgument(1);
                         if (pageableArg.getSort().isSorted()) {
                             // Sort the list by firstName and then by lastName
-                            List<User> sortedUsers = new ArrayList<>(users);
-                            sortedUsers.sort(Comparator.comparing(User::getFirstName)
-                                             .thenComparing(User::getLastName));
-                            return new PageImpl<>(sortedUsers, pageableArg, sortedUsers.size());
+                            List<TalentCard> sortedCards = new ArrayList<>(cards);
+                            sortedCards.sort(Comparator.comparing(TalentCard::firstName)
+                                             .thenComparing(TalentCard::lastName));
+                            return new PageImpl<>(sortedCards, pageableArg, sortedCards.size());
                         }
-                        return new PageImpl<>(users, pageableArg, users.size());
+                        return new PageImpl<>(cards, pageableArg, cards.size());
                     });
 
-            // Mock the DTOMapper to return DTOs with the same names
-            try (MockedStatic<DTOMapper> mockedMapper = Mockito.mockStatic(DTOMapper.class)) {
-                mockedMapper.when(() -> DTOMapper.map(eq(user1), eq(UserResponseDTO.class)))
-                        .thenReturn(UserResponseDTO.builder()
-                                   .firstName("Alice")
-                                   .lastName("Smith")
-                                   .build());
-                mockedMapper.when(() -> DTOMapper.map(eq(user2), eq(UserResponseDTO.class)))
-                        .thenReturn(UserResponseDTO.builder()
-                                   .firstName("Bob")
-                                   .lastName("Jones")
-                                   .build());
-                mockedMapper.when(() -> DTOMapper.map(eq(user3), eq(UserResponseDTO.class)))
-                        .thenReturn(UserResponseDTO.builder()
-                                   .firstName("Alice")
-                                   .lastName("Johnson")
-                                   .build());
-
-                UserResponseWithPagingDTO result = userService.filter(filter, pageable);
-
-                // Check that users are sorted first by firstName, then by lastName
-                List<UserResponseDTO> sortedUsers = result.getUsers();
-                assertEquals(3, sortedUsers.size());
-                assertEquals("Alice", sortedUsers.get(0).getFirstName());
-                assertEquals("Johnson", sortedUsers.get(0).getLastName());
-                assertEquals("Alice", sortedUsers.get(1).getFirstName());
-                assertEquals("Smith", sortedUsers.get(1).getLastName());
-                assertEquals("Bob", sortedUsers.get(2).getFirstName());
-            }
+            UserResponseWithPagingDTO result = userService.filter(filter, pageable);
+
+            // Check that users are sorted first by firstName, then by lastName
+            List<TalentCardDTO> sortedUsers = result.getUsers();
+            assertEquals(3, sortedUsers.size());
+            assertEquals("Alice", sortedUsers.get(0).getFirstName());
+            assertEquals("Johnson", sortedUsers.get(0).getLastName());
+            assertEquals("Alice", sortedUsers.get(1).getFirstName());
+            assertEquals("Smith", sortedUsers.get(1).getLastName());
+            assertEquals("Bob", sortedUsers.get(2).getFirstName());
         }
+
         @Test
         void filter_withValidData_returnsMatchingUsers() {
             FilterTalentDTO filter = FilterTalentDTO.builder().name("john").preferredLocations( Arrays.asList("Jakarta")).priceRange(Arrays.asList(0.00,200000.00)).skills(Arrays.asList("Java")).build();
 
-            User user = new User();
-            user.setFirstName("John");
-            user.setLastName("Doe");
-
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(List.of(user)));
-
-
-            try (MockedStatic<DTOMapper> mockedMapper = Mockito.mockStatic(DTOMapper.class)) {
-                UserResponseDTO dto = new UserResponseDTO();
-                dto.setFirstName("John");
-                dto.setLastName("Doe");
-
-                mockedMapper.when(() -> DTOMapper.map(user, UserResponseDTO.class)).thenReturn(dto);
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(card("1", "John", "Doe"))));
 
+            UserResponseWithPagingDTO result = userService.filter(filter, page);
 
-                UserResponseWithPagingDTO result = userService.filter(filter, page);
+            Assertions.assertEquals(1, result.getUsers().size());
+            Assertions.assertEquals("John", result.getUsers().get(0).getFirstName());
+            Assertions.assertEquals("Doe", result.getUsers().get(0).getLastName());
+        }
 
-                Assertions.assertEquals(1, result.getUsers().size());
-                Assertions.assertEquals("John", result.getUsers().get(0).getFirstName());
-            }
+        @Test
+        void filter_mapsOnlyCardFields() {
+            TalentCard card = new TalentCard("1", "John", "Doe", "photo.png", "React", "Bandung", "Ahli Muda", 4, 150);
+
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(card)));
+
+            TalentCardDTO result = userService.filter(new FilterTalentDTO(), page).getUsers().get(0);
+
+            assertEquals("1", result.getId());
+            assertEquals("photo.png", result.getPhoto());
+            assertEquals("React", result.getSkill());
+            assertEquals("Bandung", result.getCurrentLocation());
+            assertEquals("Ahli Muda", result.getSkkLevel());
+            assertEquals(4, result.getExperienceYears());
+            assertEquals(150, result.getPrice());
+            assertNull(result.getScore());
+            verify(userRepository, never()).findAll(any(Specification.class), any(Pageable.class));
         }
 
         @Test
         void filter_withOnlyName_shouldReturnMatchingUsers() {
             FilterTalentDTO filter = FilterTalentDTO.builder().name("doe").build();
 
-            User user = mockUser("Doe");
-
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(List.of(user)));
-
-
-            try (MockedStatic<DTOMapper> mockedMapper = Mockito.mockStatic(DTOMapper.class)) {
-                mockedMapper.when(() -> DTOMapper.map(user, UserResponseDTO.class)).thenReturn(UserResponseDTO.builder().firstName("Doe").build());
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(card("1", "Doe", null))));
 
-                UserResponseWithPagingDTO result = userService.filter(filter, page);
+            UserResponseWithPagingDTO result = userService.filter(filter, page);
 
-                Assertions.assertEquals(1, result.getUsers().size());
-            }
+            Assertions.assertEquals(1, result.getUsers().size());
         }
 
         @Test
@@ -443,39 +485,26 @@ class UserServiceTest {
                     .preferredLocations(List.of("Bandung"))
                     .build();
 
-            User user = mockUser("A");
-
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(List.of(user)));
-
-            try (MockedStatic<DTOMapper> mockedMapper = Mockito.mockStatic(DTOMapper.class)) {
-                mockedMapper.when(() -> DTOMapper.map(user, UserResponseDTO.class)).thenReturn(UserResponseDTO.builder().preferredLocations(Arrays.asList("Bandung")).build());
-
-                UserResponseWithPagingDTO result = userService.filter(filter, page);
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(card("1", "A", null))));
 
+            UserResponseWithPagingDTO result = userService.filter(filter, page);
 
-                Assertions.assertEquals(1, result.getUsers().size());
-            }
+            Assertions.assertEquals(1, result.getUsers().size());
         }
+
         @Test
         void filter_withOnlySkills_shouldReturnMatchingUsers() {
             FilterTalentDTO filter = FilterTalentDTO.builder()
                     .skills(List.of("React"))
                     .build();
 
-            User user = mockUser("B");
-
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(List.of(user)));
-
-            try (MockedStatic<DTOMapper> mockedMapper = Mockito.mockStatic(DTOMapper.class)) {
-                mockedMapper.when(() -> DTOMapper.map(user, UserResponseDTO.class)).thenReturn(UserResponseDTO.builder().skill("React").build());
-
-                UserResponseWithPagingDTO result = userService.filter(filter, page);
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(card("1", "B", null))));
 
+            UserResponseWithPagingDTO result = userService.filter(filter, page);
 
-                Assertions.assertEquals(1, result.getUsers().size());
-            }
+            Assertions.assertEquals(1, result.getUsers().size());
         }
 
         @Test
@@ -484,19 +513,12 @@ class UserServiceTest {
                     .priceRange(List.of(100.0, 200.0))
                     .build();
 
-            User user = mockUser("C");
-
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(List.of(user)));
-
-            try (MockedStatic<DTOMapper> mockedMapper = Mockito.mockStatic(DTOMapper.class)) {
-                mockedMapper.when(() -> DTOMapper.map(user, UserResponseDTO.class)).thenReturn(UserResponseDTO.builder().price(150).build());
-
-                UserResponseWithPagingDTO result = userService.filter(filter, page);
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(card("1", "C", null))));
 
+            UserResponseWithPagingDTO result = userService.filter(filter, page);
 
-                Assertions.assertEquals(1, result.getUsers().size());
-            }
+            Assertions.assertEquals(1, result.getUsers().size());
         }
 
         @Test
@@ -505,19 +527,12 @@ class UserServiceTest {
                     .priceRange(List.of(100.0)) // kurang dari dua
                     .build();
 
-            User user = mockUser("D");
-
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(List.of(user)));
-
-            try (MockedStatic<DTOMapper> mockedMapper = Mockito.mockStatic(DTOMapper.class)) {
-                mockedMapper.when(() -> DTOMapper.map(user, UserResponseDTO.class)).thenReturn(UserResponseDTO.builder().firstName("D").build());
-
-                UserResponseWithPagingDTO result = userService.filter(filter, page);
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(card("1", "D", null))));
 
+            UserResponseWithPagingDTO result = userService.filter(filter, page);
 
-                Assertions.assertEquals(1, result.getUsers().size());
-            }
+            Assertions.assertEquals(1, result.getUsers().size());
         }
 
 
@@ -525,7 +540,7 @@ class UserServiceTest {
         void filter_withNonMatchingName_returnsEmptyList() {
             FilterTalentDTO filter = FilterTalentDTO.builder().name("nonexistent").build();
 
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
                     .thenReturn(new PageImpl<>(Collections.emptyList()));
 
 
@@ -542,33 +557,16 @@ class UserServiceTest {
         void filter_withNullName_returnsAllUsers() {
             FilterTalentDTO filter = FilterTalentDTO.builder().name(null).build();
 
-            User user1 = new User();
-            user1.setFirstName("Alice");
-            user1.setLastName("Smith");
-
-            User user2 = new User();
-            user2.setFirstName("Bob");
-            user2.setLastName("Johnson");
-
-            List<User> allUsers = List.of(user1, user2);
-
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(allUsers));
-
-            try (MockedStatic<DTOMapper> mockedMapper = Mockito.mockStatic(DTOMapper.class)) {
-                mockedMapper.when(() -> DTOMapper.map(eq(user1), eq(UserResponseDTO.class)))
-                        .thenReturn(UserResponseDTO.builder().firstName("Alice").lastName("Smith").build());
-
-                mockedMapper.when(() -> DTOMapper.map(eq(user2), eq(UserResponseDTO.class)))
-                        .thenReturn(UserResponseDTO.builder().firstName("Bob").lastName("Johnson").build());
+            List<TalentCard> allCards = List.of(card("1", "Alice", "Smith"), card("2", "Bob", "Johnson"));
 
-                UserResponseWithPagingDTO result = userService.filter(filter, page);
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(allCards));
 
+            UserResponseWithPagingDTO result = userService.filter(filter, page);
 
-                Assertions.assertEquals(2, result.getUsers().size());
-                Assertions.assertEquals("Alice", result.getUsers().get(0).getFirstName());
-                Assertions.assertEquals("Bob", result.getUsers().get(1).getFirstName());
-            }
+            Assertions.assertEquals(2, result.getUsers().size());
+            Assertions.assertEquals("Alice", result.getUsers().get(0).getFirstName());
+            Assertions.assertEquals("Bob", result.getUsers().get(1).getFirstName());
         }
 
         @Test
@@ -576,23 +574,13 @@ class UserServiceTest {
 
             FilterTalentDTO filter = FilterTalentDTO.builder().name("  ").build();
 
-            User user1 = new User();
-            user1.setFirstName("Alice");
-
-            List<User> allUsers = List.of(user1);
-
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(allUsers));
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(card("1", "Alice", null))));
 
-            try (MockedStatic<DTOMapper> mockedMapper = Mockito.mockStatic(DTOMapper.class)) {
-                mockedMapper.when(() -> DTOMapper.map(eq(user1), eq(UserResponseDTO.class)))
-                        .thenReturn(UserResponseDTO.builder().firstName("Alice").build());
-
-                UserResponseWithPagingDTO result = userService.filter(filter, page);
+            UserResponseWithPagingDTO result = userService.filter(filter, page);
 
-                Assertions.assertEquals(1, result.getUsers().size());
-                Assertions.assertEquals("Alice", result.getUsers().get(0).getFirstName());
-            }
+            Assertions.assertEquals(1, result.getUsers().size());
+            Assertions.assertEquals("Alice", result.getUsers().get(0).getFirstName());
         }
 
         @Test
@@ -609,30 +597,21 @@ class UserServiceTest {
 
             FilterTalentDTO filterWithValidName = FilterTalentDTO.builder().name("John").build();
 
-            User testUserLocal = new User();
-            testUserLocal.setFirstName("Test");
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(card("1", "Test", null))));
 
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(List.of(testUserLocal)));
 
+            UserResponseWithPagingDTO resultNull = userService.filter(filterWithNullName, page);
+            UserResponseWithPagingDTO resultWhitespace = userService.filter(filterWithWhitespaceName, page);
+            UserResponseWithPagingDTO resultEmpty = userService.filter(filterWithEmptyName, page);
+            UserResponseWithPagingDTO resultValid = userService.filter(filterWithValidName, page);
 
-            try (MockedStatic<DTOMapper> mockedMapper = Mockito.mockStatic(DTOMapper.class)) {
-                mockedMapper.when(() -> DTOMapper.map(eq(testUserLocal), eq(UserResponseDTO.class)))
-                        .thenReturn(UserResponseDTO.builder().firstName("Test").build());
+            assertEquals(1, resultNull.getUsers().size());
+            assertEquals(1, resultWhitespace.getUsers().size());
+            assertEquals(1, resultEmpty.getUsers().size());
+            assertEquals(1, resultValid.getUsers().size());
 
-
-                UserResponseWithPagingDTO resultNull = userService.filter(filterWithNullName, page);
-                UserResponseWithPagingDTO resultWhitespace = userService.filter(filterWithWhitespaceName, page);
-                UserResponseWithPagingDTO resultEmpty = userService.filter(filterWithEmptyName, page);
-                UserResponseWithPagingDTO resultValid = userService.filter(filterWithValidName, page);
-
-                assertEquals(1, resultNull.getUsers().size());
-                assertEquals(1, resultWhitespace.getUsers().size());
-                assertEquals(1, resultEmpty.getUsers().size());
-                assertEquals(1, resultValid.getUsers().size());
-
-                verify(userRepository, times(4)).findAll(any(Specification.class), any(Pageable.class));
-            }
+            verify(userRepository, times(4)).findCards(any(Specification.class), any(Pageable.class));
         }
 
         @Test
@@ -640,24 +619,14 @@ class UserServiceTest {
 
             FilterTalentDTO filter = FilterTalentDTO.builder().name("").build();
 
-            User user1 = new User();
-            user1.setFirstName("Alice");
-
-            List<User> allUsers = List.of(user1);
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new PageImpl<>(List.of(card("1", "Alice", null))));
 
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
-                    .thenReturn(new PageImpl<>(allUsers));
-
-            try (MockedStatic<DTOMapper> mockedMapper = Mockito.mockStatic(DTOMapper.class)) {
-                mockedMapper.when(() -> DTOMapper.map(eq(user1), eq(UserResponseDTO.class)))
-                        .thenReturn(UserResponseDTO.builder().firstName("Alice").build());
-
-                UserResponseWithPagingDTO result = userService.filter(filter, page);
+            UserResponseWithPagingDTO result = userService.filter(filter, page);
 
 
-                Assertions.assertEquals(1, result.getUsers().size());
-                Assertions.assertEquals("Alice", result.getUsers().get(0).getFirstName());
-            }
+            Assertions.assertEquals(1, result.getUsers().size());
+            Assertions.assertEquals("Alice", result.getUsers().get(0).getFirstName());
         }
 
         @Test
@@ -666,8 +635,8 @@ class UserServiceTest {
             FilterTalentDTO filter = new FilterTalentDTO();
             filter.setName(""); // Empty string
 
-            when(userRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(List.of(mockUser("John"))));
+            when(userRepository.findCards(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(card("1", "John", null))));
 
             UserResponseWithPagingDTO result = userService.filter(filter, page);
 
@@ -678,4 +647,584 @@ class UserServiceTest {
         }
 
     }
+
+    @Nested
+    class CursorFilterTest {
+        @Test
+        void cursor_encodeDecode_roundTrips() {
+            TalentCursor cursor = new TalentCursor("Alice", "Smith", "id-1");
+
+            TalentCursor decoded = TalentCursor.decode(cursor.encode());
+
+            assertEquals(cursor, decoded);
+        }
+
+        @Test
+        void cursor_decodeGarbage_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> TalentCursor.decode("not a cursor"));
+        }
+
+        @Test
+        void filterAfter_withMoreRows_returnsNextCursorOfLastRow() {
+            TalentCard alice = card("1", "Alice", "Smith");
+            TalentCard bob = card("2", "Bob", "Jones");
+            TalentCard carol = card("3", "Carol", "White");
+
+            when(userRepository.findCards(any(Specification.class), any(Sort.class), anyInt()))
+                    .thenReturn(new ArrayList<>(List.of(alice, bob, carol)));
+
+            UserResponseWithPagingDTO result = userService.filter(new FilterTalentDTO(), "", 2);
+
+            assertEquals(2, result.getUsers().size());
+            assertEquals("Alice", result.getUsers().get(0).getFirstName());
+            assertEquals("Bob", result.getUsers().get(1).getFirstName());
+            assertEquals(new TalentCursor("Bob", "Jones", "2"), TalentCursor.decode(result.getNextCursor()));
+        }
+
+        @Test
+        void filterAfter_onLastPage_returnsNullCursor() {
+            TalentCard alice = card("1", "Alice", "Smith");
+
+            when(userRepository.findCards(any(Specification.class), any(Sort.class), anyInt()))
+                    .thenReturn(new ArrayList<>(List.of(alice)));
+
+            String after = new TalentCursor("Aaron", "Doe", "0").encode();
+            UserResponseWithPagingDTO result = userService.filter(new FilterTalentDTO(), after, 2);
+
+            assertEquals(1, result.getUsers().size());
+            assertNull(result.getNextCursor());
+        }
+
+        @Test
+        void filterAfter_pastTheEnd_returnsEmptyPage() {
+            when(userRepository.findCards(any(Specification.class), any(Sort.class), anyInt()))
+                    .thenReturn(new ArrayList<>());
+
+            String after = new TalentCursor("Zack", "Brown", "9").encode();
+            UserResponseWithPagingDTO result = userService.filter(new FilterTalentDTO(), after, 2);
+
+            assertTrue(result.getUsers().isEmpty());
+            assertNull(result.getNextCursor());
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, -1, 101, Integer.MAX_VALUE})
+        void filterAfter_withSizeOutOfRange_throwsIllegalArgumentException(int size) {
+            FilterTalentDTO filter = new FilterTalentDTO();
+
+            assertThrows(IllegalArgumentException.class, () -> userService.filter(filter, "", size));
+            verifyNoInteractions(userRepository, searchCache);
+        }
+
+        @Test
+        void filterAfter_withNoMatchesOnFirstPage_returnsEmptyPage() {
+            when(userRepository.findCards(any(Specification.class), any(Sort.class), anyInt()))
+                    .thenReturn(new ArrayList<>());
+
+            UserResponseWithPagingDTO result = userService.filter(new FilterTalentDTO(), "", 2);
+
+            assertTrue(result.getUsers().isEmpty());
+            assertNull(result.getNextCursor());
+        }
+    }
+
+    @Nested
+    class AssignSkillsTest {
+        @Test
+        void assignSkills_reusesExistingAndCreatesMissingCanonicalSkills() {
+            User user = new User();
+            user.setSkill("Java, Spring  Boot; java");
+            Skill java = Skill.builder().id(1L).name("java").build();
+
+            when(skillRepository.findByNameIn(List.of("java", "spring boot"))).thenReturn(List.of(java));
+            when(skillRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            userService.assignSkills(user);
+
+            assertEquals(Set.of("java", "spring boot"), user.getSkills().stream().map(Skill::getName).collect(Collectors.toSet()));
+            verify(skillRepository).saveAll(argThat(skills -> {
+                List<Skill> created = new ArrayList<>();
+                skills.forEach(created::add);
+                return created.size() == 1 && created.get(0).getName().equals("spring boot");
+            }));
+        }
+
+        @Test
+        void assignSkills_whenAnotherRequestInsertsTheSameSkill_usesTheirs() {
+            User user = new User();
+            user.setSkill("Java, Spring Boot");
+            Skill java = Skill.builder().id(1L).name("java").build();
+            Skill springBoot = Skill.builder().id(2L).name("spring boot").build();
+
+            when(skillRepository.findByNameIn(List.of("java", "spring boot")))
+                    .thenReturn(List.of(java))
+                    .thenReturn(List.of(java, springBoot));
+            when(skillRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("ux_skills_name"));
+
+            userService.assignSkills(user);
+
+            assertEquals(Set.of(java, springBoot), user.getSkills());
+            verify(skillRepository, times(1)).saveAll(anyList());
+        }
+
+        @Test
+        void assignSkills_withoutSkillText_clearsSkills() {
+            User user = new User();
+            user.setSkills(new HashSet<>(Set.of(Skill.builder().name("java").build())));
+
+            userService.assignSkills(user);
+
+            assertTrue(user.getSkills().isEmpty());
+            verifyNoInteractions(skillRepository);
+        }
+    }
+
+    @Nested
+    class CountFreeFilterTest {
+        @Test
+        void filter_withoutCount_fetchesSliceAndNeverCounts() {
+            FilterTalentDTO filter = new FilterTalentDTO();
+            when(userRepository.findCardSlice(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(List.of(card("1", "Alice", "Doe")), PageRequest.of(0, 1), true));
+
+            UserResponseWithPagingDTO result = userService.filter(filter, PageRequest.of(0, 1), TalentCountMode.NONE);
+
+            assertEquals(1, result.getUsers().size());
+            assertTrue(result.getHasNext());
+            assertNull(result.getEstimatedTotal());
+            verify(userRepository, never()).count(any(Specification.class));
+            verify(userRepository, never()).findCards(any(Specification.class), any(Pageable.class));
+            verifyNoInteractions(countEstimator);
+        }
+
+        @Test
+        void filter_withEstimate_returnsCachedEstimateWithoutCountingInline() {
+            FilterTalentDTO filter = new FilterTalentDTO();
+            when(userRepository.findCardSlice(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(List.of(card("1", "Alice", "Doe")), PageRequest.of(0, 1), false));
+            when(countEstimator.estimate(any(TalentSearchKey.class), any())).thenReturn(42L);
+
+            UserResponseWithPagingDTO result = userService.filter(filter, PageRequest.of(0, 1), TalentCountMode.ESTIMATE);
+
+            assertFalse(result.getHasNext());
+            assertEquals(42L, result.getEstimatedTotal());
+            verify(userRepository, never()).count(any(Specification.class));
+        }
+
+        @Test
+        void filter_withoutCountAndReadyIndex_readsOneExtraId() {
+            FilterTalentDTO filter = new FilterTalentDTO();
+            BitSet matches = new BitSet();
+            matches.set(0, 5);
+
+            when(talentIndex.isReady()).thenReturn(true);
+            when(talentIndex.match(filter)).thenReturn(matches);
+            when(talentIndex.page(matches, 2, 3)).thenReturn(List.of("c", "d", "e"));
+            when(userRepository.findCardsByIds(List.of("c", "d", "e")))
+                    .thenReturn(List.of(card("c", "C", "Doe"), card("d", "D", "Doe"), card("e", "E", "Doe")));
+
+            UserResponseWithPagingDTO result = userService.filter(filter, PageRequest.of(1, 2), TalentCountMode.ESTIMATE);
+
+            assertEquals(List.of("C", "D"), result.getUsers().stream().map(TalentCardDTO::getFirstName).toList());
+            assertTrue(result.getHasNext());
+            assertEquals(5L, result.getEstimatedTotal());
+            verifyNoInteractions(countEstimator);
+        }
+
+        @Test
+        void filter_withoutCountAndNoMatchesOnFirstPage_returnsEmptySlice() {
+            when(userRepository.findCardSlice(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false));
+
+            UserResponseWithPagingDTO result = userService.filter(new FilterTalentDTO(), PageRequest.of(0, 1), TalentCountMode.NONE);
+
+            assertTrue(result.getUsers().isEmpty());
+            assertFalse(result.getHasNext());
+        }
+
+        @Test
+        void filter_withoutCountAndQueryWithoutMatches_returnsEmptyPage() {
+            FilterTalentDTO filter = FilterTalentDTO.builder().query("gedung").build();
+            when(talentIndex.isReady()).thenReturn(true);
+            when(textIndex.isReady()).thenReturn(true);
+            when(textIndex.search("gedung")).thenReturn(Map.of());
+            when(talentIndex.rankByScore(any(), any())).thenReturn(List.of());
+
+            UserResponseWithPagingDTO result = userService.filter(filter, PageRequest.of(0, 10), TalentCountMode.ESTIMATE);
+
+            assertTrue(result.getUsers().isEmpty());
+            assertFalse(result.getHasNext());
+        }
+
+        @Test
+        void filter_withoutCountPastTheEnd_returnsEmptySlice() {
+            when(userRepository.findCardSlice(any(Specification.class), any(Pageable.class)))
+                    .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(3, 1), false));
+
+            UserResponseWithPagingDTO result = userService.filter(new FilterTalentDTO(), PageRequest.of(3, 1), TalentCountMode.NONE);
+
+            assertTrue(result.getUsers().isEmpty());
+            assertFalse(result.getHasNext());
+        }
+
+        @Test
+        void filter_withoutCountAndOversizedPage_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> userService.filter(new FilterTalentDTO(), PageRequest.of(0, Integer.MAX_VALUE), TalentCountMode.NONE));
+            assertThrows(IllegalArgumentException.class,
+                    () -> userService.filter(new FilterTalentDTO(), PageRequest.of(0, 101), TalentCountMode.ESTIMATE));
+
+            verifyNoInteractions(searchCache, userRepository);
+        }
+    }
+
+    @Nested
+    class SearchCacheTest {
+        @Test
+        void filter_isServedThroughCanonicalCacheKey() {
+            FilterTalentDTO filter = FilterTalentDTO.builder().skills(List.of("Welder ", "electrician")).build();
+            UserResponseWithPagingDTO cached = UserResponseWithPagingDTO.builder().users(List.of()).build();
+
+            TalentSearchKey expectedKey = TalentSearchKey.of(
+                    FilterTalentDTO.builder().skills(List.of("ELECTRICIAN", "welder")).build(), 0, 1, null);
+            when(searchCache.get(eq(expectedKey), any())).thenReturn(cached);
+
+            assertSame(cached, userService.filter(filter, page));
+            verifyNoInteractions(userRepository);
+        }
+    }
+
+    @Nested
+    class FacetsTest {
+        @Test
+        void facets_withReadyIndex_delegatesToIndex() {
+            FilterTalentDTO filter = new FilterTalentDTO();
+            TalentFacetsDTO facets = TalentFacetsDTO.builder().total(3).build();
+
+            when(talentIndex.isReady()).thenReturn(true);
+            when(talentIndex.facets(filter, 1000)).thenReturn(facets);
+
+            assertSame(facets, userService.facets(filter, 1000));
+        }
+
+        @Test
+        void facets_whileIndexLoading_throwsServiceUnavailable() {
+            FilterTalentDTO filter = new FilterTalentDTO();
+
+            ResponseStatusException thrown = assertThrows(ResponseStatusException.class,
+                    () -> userService.facets(filter, 1000));
+
+            assertEquals(503, thrown.getStatusCode().value());
+        }
+    }
+
+    @Nested
+    class MatchTest {
+        @Test
+        void match_withReadyIndex_returnsRankedTalentsWithBreakdown() {
+            TalentMatchRequestDTO request = TalentMatchRequestDTO.builder().skills(List.of("Welder")).limit(2).build();
+            TalentDocument first = new TalentDocument("2", "Bob", "Doe", "Welder", "Jakarta", "Ahli", 5, 100);
+            TalentDocument second = new TalentDocument("1", "Alice", "Doe", "Welder", "Bandung", "Ahli", 5, 100);
+
+            when(talentIndex.isReady()).thenReturn(true);
+            when(talentIndex.rank(request, 2)).thenReturn(List.of(
+                    new ScoredTalent(first, 0.9, Map.of("skill", 0.9)),
+                    new ScoredTalent(second, 0.5, Map.of("skill", 0.5))));
+            when(userRepository.findCardsByIds(List.of("2", "1"))).thenReturn(List.of(card("1", "Alice", "Doe"), card("2", "Bob", "Doe")));
+
+            List<TalentMatchDTO> result = userService.match(request);
+
+            assertEquals(List.of("2", "1"), result.stream().map(match -> match.getTalent().getId()).toList());
+            assertEquals(0.9, result.get(0).getScore());
+            assertEquals(Map.of("skill", 0.9), result.get(0).getBreakdown());
+        }
+
+        @Test
+        void match_withLimitOutOfRange_throwsIllegalArgumentException() {
+            TalentMatchRequestDTO request = TalentMatchRequestDTO.builder().limit(101).build();
+
+            assertThrows(IllegalArgumentException.class, () -> userService.match(request));
+            verify(talentIndex, never()).rank(any(), anyInt());
+        }
+
+        @Test
+        void match_whileIndexLoading_throwsServiceUnavailable() {
+            TalentMatchRequestDTO request = TalentMatchRequestDTO.builder().limit(10).build();
+
+            ResponseStatusException thrown = assertThrows(ResponseStatusException.class,
+                    () -> userService.match(request));
+
+            assertEquals(503, thrown.getStatusCode().value());
+        }
+    }
+
+    @Nested
+    class NearestTest {
+        @Test
+        void nearest_withReadyIndex_returnsTalentsWithDistance() {
+            FilterTalentDTO filter = FilterTalentDTO.builder().near("Bandung").build();
+            TalentDocument first = new TalentDocument("2", "Bob", "Doe", "Welder", "Bandung", "Ahli", 5, 100);
+            TalentDocument second = new TalentDocument("1", "Alice", "Doe", "Welder", "Cimahi", "Ahli", 5, 100);
+
+            when(talentIndex.isReady()).thenReturn(true);
+            when(talentIndex.nearest(eq(filter), any(GeoPoint.class), eq(2))).thenReturn(List.of(
+                    new NearbyTalent(first, 0.0),
+                    new NearbyTalent(second, 7.8)));
+            when(userRepository.findCardsByIds(List.of("2", "1"))).thenReturn(List.of(card("1", "Alice", "Doe"), card("2", "Bob", "Doe")));
+
+            List<TalentDistanceDTO> result = userService.nearest(filter, 2);
+
+            assertEquals(List.of("2", "1"), result.stream().map(nearby -> nearby.getTalent().getId()).toList());
+            assertEquals(7.8, result.get(1).getDistanceKm());
+        }
+
+        @Test
+        void nearest_withoutCentreOrUnknownPlace_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> userService.nearest(new FilterTalentDTO(), 10));
+            assertThrows(IllegalArgumentException.class, () -> userService.nearest(FilterTalentDTO.builder().near("Atlantis").build(), 10));
+            assertThrows(IllegalArgumentException.class, () -> userService.nearest(FilterTalentDTO.builder().near("Bandung").build(), 0));
+            verify(talentIndex, never()).nearest(any(), any(), anyInt());
+        }
+
+        @Test
+        void nearest_whileIndexLoading_throwsServiceUnavailable() {
+            ResponseStatusException thrown = assertThrows(ResponseStatusException.class,
+                    () -> userService.nearest(FilterTalentDTO.builder().near("-6.9,107.6").build(), 10));
+
+            assertEquals(503, thrown.getStatusCode().value());
+        }
+    }
+
+    @Nested
+    class FullTextTest {
+        private final FilterTalentDTO filter = FilterTalentDTO.builder().query("gedung bertingkat").skkLevels(List.of("Ahli")).build();
+
+        @Test
+        void filter_withQuery_ranksFilterMatchesByScore() {
+            Map<String, Double> scores = Map.of("1", 1.5, "2", 3.0);
+            BitSet matches = new BitSet();
+            when(talentIndex.isReady()).thenReturn(true);
+            when(textIndex.isReady()).thenReturn(true);
+            when(textIndex.search("gedung bertingkat")).thenReturn(scores);
+            when(talentIndex.match(filter)).thenReturn(matches);
+            when(talentIndex.rankByScore(matches, scores)).thenReturn(List.of("2", "1"));
+            when(userRepository.findCardsByIds(List.of("2"))).thenReturn(List.of(card("2", "Bob", "Doe")));
+
+            UserResponseWithPagingDTO result = userService.filter(filter, PageRequest.of(0, 1));
+
+            assertEquals("2", result.getUsers().get(0).getId());
+            assertEquals(3.0, result.getUsers().get(0).getScore());
+            assertEquals(2, result.getTotalPages());
+            assertTrue(result.getHasNext());
+        }
+
+        @Test
+        void filter_withQueryAndNoCount_stillReturnsTotal() {
+            when(talentIndex.isReady()).thenReturn(true);
+            when(textIndex.isReady()).thenReturn(true);
+            when(textIndex.search(any())).thenReturn(Map.of("1", 1.0));
+            when(talentIndex.rankByScore(any(), any())).thenReturn(List.of("1"));
+            when(userRepository.findCardsByIds(List.of("1"))).thenReturn(List.of(card("1", "Alice", "Doe")));
+
+            UserResponseWithPagingDTO result = userService.filter(filter, PageRequest.of(0, 10), TalentCountMode.NONE);
+
+            assertEquals(1, result.getTotalPages());
+            assertFalse(result.getHasNext());
+        }
+
+        @Test
+        void filter_withQueryWithoutMatches_throwsEntityNotFound() {
+            when(talentIndex.isReady()).thenReturn(true);
+            when(textIndex.isReady()).thenReturn(true);
+            when(talentIndex.rankByScore(any(), any())).thenReturn(List.of());
+
+            assertThrows(EntityNotFoundException.class, () -> userService.filter(filter, PageRequest.of(0, 10)));
+        }
+
+        @Test
+        void filter_withQueryWhileIndexLoading_throwsServiceUnavailable() {
+            ResponseStatusException thrown = assertThrows(ResponseStatusException.class,
+                    () -> userService.filter(filter, PageRequest.of(0, 10)));
+
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, thrown.getStatusCode());
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        void filter_withQueryAndCursor_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> userService.filter(filter, "", 10));
+        }
+    }
+
+    @Nested
+    class SuggestTest {
+        @Test
+        void suggest_delegatesToTypeaheadIndex() {
+            List<TypeaheadSuggestionDTO> suggestions = List.of(TypeaheadSuggestionDTO.builder().value("Welder").type("skill").count(3).build());
+            when(typeaheadIndex.suggest("wel", 5)).thenReturn(suggestions);
+
+            assertEquals(suggestions, userService.suggest("wel", 5));
+        }
+
+        @Test
+        void suggest_withBlankPrefix_returnsNothing() {
+            assertTrue(userService.suggest("  ", 5).isEmpty());
+            assertTrue(userService.suggest(null, 5).isEmpty());
+            verifyNoInteractions(typeaheadIndex);
+        }
+
+        @Test
+        void suggest_withLimitOutOfRange_throwsIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> userService.suggest("wel", 21));
+            assertThrows(IllegalArgumentException.class, () -> userService.suggest("wel", 0));
+        }
+    }
+
+    @Nested
+    class ExportTest {
+        @Test
+        void export_asNdjson_writesOneObjectPerLineAndClosesStream() throws Exception {
+            when(userRepository.findCards(any(Specification.class), any(Sort.class), anyInt()))
+                    .thenReturn(List.of(card("1", "Alice", "Doe"), new TalentCard("2", "Bob", "Doe", null, "Welder", "Jakarta", null, 3, 150)));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            userService.export(new FilterTalentDTO(), TalentExportFormat.NDJSON, out);
+
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertEquals(2, lines.length);
+            assertTrue(lines[0].startsWith("{\"id\":\"1\",\"firstName\":\"Alice\""));
+            assertTrue(lines[1].contains("\"skill\":\"Welder\""));
+            assertTrue(lines[1].endsWith("\"experienceYears\":3,\"price\":150}"));
+        }
+
+        @Test
+        void export_asCsv_writesHeaderAndEscapesFields() throws Exception {
+            when(userRepository.findCards(any(Specification.class), any(Sort.class), anyInt()))
+                    .thenReturn(List.of(new TalentCard("1", "Alice", "Doe", null, "Java, Spring", "Jakarta", "Ahli \"Muda\"", null, 100)));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            userService.export(new FilterTalentDTO(), TalentExportFormat.CSV, out);
+
+            assertEquals("id,firstName,lastName,photo,skill,currentLocation,skkLevel,experienceYears,price\r\n"
+                    + "1,Alice,Doe,,\"Java, Spring\",Jakarta,\"Ahli \"\"Muda\"\"\",,100\r\n",
+                    out.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        void export_readsInKeysetChunksAndStopsAtTheRowCap() throws Exception {
+            when(userRepository.findCards(any(Specification.class), any(Sort.class), anyInt()))
+                    .thenAnswer(invocation -> IntStream.range(0, invocation.<Integer>getArgument(2))
+                            .mapToObj(i -> card(String.valueOf(i), "Alice", "Doe"))
+                            .toList());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            userService.export(new FilterTalentDTO(), TalentExportFormat.CSV, out);
+
+            ArgumentCaptor<Integer> limits = ArgumentCaptor.forClass(Integer.class);
+            verify(userRepository, times(20)).findCards(any(Specification.class), any(Sort.class), limits.capture());
+            assertTrue(limits.getAllValues().stream().allMatch(limit -> limit == 500));
+            assertEquals(10_001, out.toString(StandardCharsets.UTF_8).split("\r\n").length);
+        }
+
+        @Test
+        void export_stopsAfterAShortChunk() throws Exception {
+            when(userRepository.findCards(any(Specification.class), any(Sort.class), anyInt()))
+                    .thenReturn(List.of(card("1", "Alice", "Doe")));
+
+            userService.export(new FilterTalentDTO(), TalentExportFormat.NDJSON, new ByteArrayOutputStream());
+
+            verify(userRepository, times(1)).findCards(any(Specification.class), any(Sort.class), anyInt());
+        }
+
+        @Test
+        void exportFormat_fromUnknownValue_throwsIllegalArgumentException() {
+            assertEquals(TalentExportFormat.CSV, TalentExportFormat.from("CSV"));
+            assertThrows(IllegalArgumentException.class, () -> TalentExportFormat.from("xml"));
+        }
+    }
+
+    @Nested
+    class IndexedFilterTest {
+        @Test
+        void filter_withReadyIndex_fetchesOnlyPageIdsInIndexOrder() {
+            FilterTalentDTO filter = FilterTalentDTO.builder().skills(List.of("Welder")).build();
+            BitSet matches = new BitSet();
+            matches.set(0, 3);
+
+            when(talentIndex.isReady()).thenReturn(true);
+            when(talentIndex.match(filter)).thenReturn(matches);
+            when(talentIndex.page(matches, 2, 2)).thenReturn(List.of("b", "a"));
+            when(userRepository.findCardsByIds(List.of("b", "a"))).thenReturn(List.of(card("a", "Alice", "Doe"), card("b", "Bob", "Doe")));
+
+            UserResponseWithPagingDTO result = userService.filter(filter, PageRequest.of(1, 2));
+
+            assertEquals(2, result.getUsers().size());
+            assertEquals("Bob", result.getUsers().get(0).getFirstName());
+            assertEquals("Alice", result.getUsers().get(1).getFirstName());
+            assertEquals(1, result.getPage());
+            assertEquals(2, result.getTotalPages());
+            verify(userRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        void filter_withReadyIndexAndNoMatches_throwsEntityNotFoundException() {
+            FilterTalentDTO filter = FilterTalentDTO.builder().skills(List.of("Welder")).build();
+
+            when(talentIndex.isReady()).thenReturn(true);
+            when(talentIndex.match(filter)).thenReturn(new BitSet());
+            when(talentIndex.page(any(BitSet.class), eq(0), eq(10))).thenReturn(List.of());
+            when(userRepository.findCardsByIds(List.of())).thenReturn(List.of());
+
+            Pageable firstPage = PageRequest.of(0, 10);
+            EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class,
+                    () -> userService.filter(filter, firstPage));
+
+            assertEquals("No users found", thrown.getMessage());
+        }
+
+        @Test
+        void filter_withReadyIndexAndFuzzyName_pagesBySimilarity() {
+            FilterTalentDTO filter = FilterTalentDTO.builder().name("smiht").fuzzy(true).build();
+            BitSet matches = new BitSet();
+            matches.set(0, 4);
+
+            when(talentIndex.isReady()).thenReturn(true);
+            when(talentIndex.match(filter)).thenReturn(matches);
+            when(talentIndex.rankByNameSimilarity(matches, "smiht")).thenReturn(List.of("c", "d", "a", "b"));
+            when(userRepository.findCardsByIds(List.of("a", "b"))).thenReturn(List.of(card("b", "Bob", "Smyth"), card("a", "Alice", "Smit")));
+
+            UserResponseWithPagingDTO result = userService.filter(filter, PageRequest.of(1, 2));
+
+            assertEquals(2, result.getUsers().size());
+            assertEquals("Alice", result.getUsers().get(0).getFirstName());
+            assertEquals("Bob", result.getUsers().get(1).getFirstName());
+            verify(talentIndex, never()).page(any(BitSet.class), anyInt(), anyInt());
+        }
+
+        @Test
+        void filterAfter_withFuzzyName_throwsIllegalArgumentException() {
+            FilterTalentDTO filter = FilterTalentDTO.builder().name("smiht").fuzzy(true).build();
+
+            assertThrows(IllegalArgumentException.class, () -> userService.filter(filter, "", 10));
+            verifyNoInteractions(talentIndex, userRepository);
+        }
+
+        @Test
+        void filterAfter_withReadyIndex_seeksPastCursor() {
+            FilterTalentDTO filter = new FilterTalentDTO();
+            BitSet matches = new BitSet();
+
+            when(talentIndex.isReady()).thenReturn(true);
+            when(talentIndex.match(filter)).thenReturn(matches);
+            when(talentIndex.seek(matches, "Alice", "Doe", "a", 2)).thenReturn(List.of("b"));
+            when(userRepository.findCardsByIds(List.of("b"))).thenReturn(List.of(card("b", "Bob", "Doe")));
+
+            String after = new TalentCursor("Alice", "Doe", "a").encode();
+            UserResponseWithPagingDTO result = userService.filter(filter, after, 1);
+
+            assertEquals(1, result.getUsers().size());
+            assertEquals("Bob", result.getUsers().get(0).getFirstName());
+            assertNull(result.getNextCursor());
+        }
+    }
 }